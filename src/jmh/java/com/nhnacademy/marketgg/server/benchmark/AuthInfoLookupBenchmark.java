@@ -0,0 +1,120 @@
+package com.nhnacademy.marketgg.server.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.auth.AuthInfoCache;
+import com.nhnacademy.marketgg.server.auth.AuthInfoProvider;
+import com.nhnacademy.marketgg.server.auth.GatewayAuthClient;
+import com.nhnacademy.marketgg.server.auth.JwtUtils;
+import com.nhnacademy.marketgg.server.auth.JwtVerifier;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Gateway 를 통한 회원 정보 조회와 JWT 로컬 검증의 비용을 비교합니다.
+ * Gateway 는 loopback 에 띄운 HTTP 서버로 대체하며, 캐시 효과를 배제하기 위해 매번 원본을 조회하는 {@link NoCache} 를 사용합니다.
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthInfoLookupBenchmark {
+
+    private static final String UUID = "5f2b5c1e-7c35-4b0e-9c3a-1f3c9c1c0c01";
+
+    private StubGateway gateway;
+    private String jwt;
+
+    private AuthInfoProvider remoteProvider;
+    private AuthInfoProvider localProvider;
+    private AuthInfoProvider cachedProvider;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        gateway = StubGateway.start();
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        jwt = JwtUtils.BEARER_PREFIX + sign(keyPair);
+
+        ObjectMapper mapper = new ObjectMapper();
+        GatewayAuthClient client = new GatewayAuthClient(gateway.origin(), new RestTemplate(), mapper,
+                                                         CircuitBreaker.ofDefaults("gateway"),
+                                                         Bulkhead.ofDefaults("gateway"));
+        JwtVerifier verifier = new JwtVerifier(Map.of("", keyPair.getPublic()), mapper,
+                                               Duration.ofSeconds(30L), Clock.systemUTC());
+
+        remoteProvider = new AuthInfoProvider(client, NoCache.authInfo(mapper), Optional.empty());
+        localProvider = new AuthInfoProvider(client, NoCache.authInfo(mapper), Optional.of(verifier));
+        cachedProvider = new AuthInfoProvider(client,
+                                              new AuthInfoCache(100L, Duration.ofMinutes(5L), false,
+                                                                Duration.ZERO, mapper, new SimpleMeterRegistry()),
+                                              Optional.of(verifier));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gateway.close();
+    }
+
+    @Benchmark
+    public AuthInfo remoteGateway() throws Exception {
+        return remoteProvider.retrieve(jwt, UUID);
+    }
+
+    @Benchmark
+    public AuthInfo localVerification() throws Exception {
+        return localProvider.retrieve(jwt, UUID);
+    }
+
+    @Benchmark
+    public AuthInfo cached() throws Exception {
+        return cachedProvider.retrieve(jwt, UUID);
+    }
+
+    private static String sign(KeyPair keyPair) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(
+            ("{\"sub\":\"" + UUID + "\",\"email\":\"user@marketgg.com\",\"name\":\"user\","
+                + "\"phoneNumber\":\"010-0000-0000\",\"exp\":"
+                + Instant.now().plus(Duration.ofDays(1L)).getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+
+        return header + "." + payload + "." + encoder.encodeToString(signature.sign());
+    }
+
+}
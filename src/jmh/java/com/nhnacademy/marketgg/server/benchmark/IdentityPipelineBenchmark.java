@@ -0,0 +1,283 @@
+package com.nhnacademy.marketgg.server.benchmark;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.annotation.Auth;
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.annotation.RoleCheck;
+import com.nhnacademy.marketgg.server.annotation.UUID;
+import com.nhnacademy.marketgg.server.auth.AuthInfoCache;
+import com.nhnacademy.marketgg.server.auth.AuthInfoProvider;
+import com.nhnacademy.marketgg.server.auth.GatewayAuthClient;
+import com.nhnacademy.marketgg.server.auth.JwtUtils;
+import com.nhnacademy.marketgg.server.auth.MemberInfoCache;
+import com.nhnacademy.marketgg.server.auth.RequestIdentity;
+import com.nhnacademy.marketgg.server.auth.RequestIdentityArgumentResolver;
+import com.nhnacademy.marketgg.server.auth.RoleCheckInterceptor;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.repository.member.MemberRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러 호출 시 사용자 식별 처리({@link RoleCheck}, {@link UUID}, {@link MemberInfo}, {@link Auth})의
+ * 호출당 비용을 식별 처리가 없는 컨트롤러 호출과 비교합니다.
+ * 요청은 헤더와 속성만 가진 가짜 요청을 사용하고, Gateway 는 loopback HTTP 서버, DB 는 고정된 회원 정보를 반환하는 Repository 로 대체합니다.
+ *
+ * <p>{@code cache=true} 이면 실제 설정처럼 캐시를 사용하고, {@code false} 이면 {@link NoCache} 로 매 요청 DB 와 Gateway 를
+ * 조회합니다.
+ * 할당량은 {@code -prof gc} 옵션으로 확인합니다.
+ * <pre>
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="IdentityPipelineBenchmark -prof gc"
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityPipelineBenchmark {
+
+    private static final String MEMBER_UUID = "5f2b5c1e-7c35-4b0e-9c3a-1f3c9c1c0c01";
+    private static final String ROLE_HEADER = "[\"ROLE_USER\"]";
+
+    @Param({ "true", "false" })
+    private boolean cache;
+
+    private StubGateway gateway;
+    private Map<String, String> headers;
+
+    private RoleCheckInterceptor roleCheckInterceptor;
+    private HandlerMethodArgumentResolverComposite resolvers;
+    private ModelAndViewContainer mavContainer;
+
+    private HandlerMethod plain;
+    private HandlerMethod roleCheck;
+    private HandlerMethod uuid;
+    private HandlerMethod memberInfo;
+    private HandlerMethod auth;
+    private HandlerMethod fullChain;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        gateway = StubGateway.start();
+
+        ObjectMapper mapper = new ObjectMapper();
+        GatewayAuthClient client = new GatewayAuthClient(gateway.origin(), new RestTemplate(), mapper,
+                                                         CircuitBreaker.ofDefaults("gateway"),
+                                                         Bulkhead.ofDefaults("gateway"));
+        MemberRepository memberRepository = stubMemberRepository();
+        AuthInfoCache authInfoCache = cache
+            ? new AuthInfoCache(100L, Duration.ofMinutes(5L), false, Duration.ZERO, mapper, new SimpleMeterRegistry())
+            : NoCache.authInfo(mapper);
+        MemberInfoCache memberInfoCache = cache
+            ? new MemberInfoCache(memberRepository, 100L, Duration.ofMinutes(10L), Duration.ofSeconds(30L),
+                                  new SimpleMeterRegistry())
+            : NoCache.memberInfo(memberRepository);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("authInfoProvider",
+                                      new AuthInfoProvider(client, authInfoCache, Optional.empty()));
+        beanFactory.registerSingleton("memberInfoCache", memberInfoCache);
+
+        roleCheckInterceptor = new RoleCheckInterceptor(mapper, 256L);
+        resolvers = new HandlerMethodArgumentResolverComposite();
+        resolvers.addResolver(new RequestIdentityArgumentResolver(beanFactory.getBeanProvider(MemberInfoCache.class),
+                                                                  beanFactory.getBeanProvider(
+                                                                      AuthInfoProvider.class)));
+        mavContainer = new ModelAndViewContainer();
+
+        headers = Map.of(RequestIdentity.AUTH_ID, MEMBER_UUID,
+                         RequestIdentity.WWW_AUTHENTICATION, ROLE_HEADER,
+                         AUTHORIZATION, token());
+
+        BenchmarkController controller = new BenchmarkController();
+        plain = handlerMethod(controller, "plain");
+        roleCheck = handlerMethod(controller, "roleCheck");
+        uuid = handlerMethod(controller, "uuid");
+        memberInfo = handlerMethod(controller, "memberInfo");
+        auth = handlerMethod(controller, "auth");
+        fullChain = handlerMethod(controller, "fullChain");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gateway.close();
+    }
+
+    @Benchmark
+    public Object plain() throws Exception {
+        return invoke(plain);
+    }
+
+    @Benchmark
+    public Object roleCheck() throws Exception {
+        return invoke(roleCheck);
+    }
+
+    @Benchmark
+    public Object uuid() throws Exception {
+        return invoke(uuid);
+    }
+
+    @Benchmark
+    public Object memberInfo() throws Exception {
+        return invoke(memberInfo);
+    }
+
+    @Benchmark
+    public Object auth() throws Exception {
+        return invoke(auth);
+    }
+
+    @Benchmark
+    public Object fullChain() throws Exception {
+        return invoke(fullChain);
+    }
+
+    private Object invoke(final HandlerMethod handlerMethod) throws Exception {
+        HttpServletRequest request = request(headers);
+        roleCheckInterceptor.preHandle(request, null, handlerMethod);
+
+        InvocableHandlerMethod invocable = new InvocableHandlerMethod(handlerMethod);
+        invocable.setHandlerMethodArgumentResolvers(resolvers);
+
+        return invocable.invokeForRequest(new ServletWebRequest(request), mavContainer);
+    }
+
+    private static HandlerMethod handlerMethod(final Object controller, final String name) {
+        for (Method method : controller.getClass().getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return new HandlerMethod(controller, method);
+            }
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+
+    /**
+     * 헤더와 속성만 지원하는 가짜 요청을 생성합니다. 그 외의 메서드는 null 을 반환합니다.
+     */
+    private static HttpServletRequest request(final Map<String, String> headers) {
+        Map<String, Object> attributes = new HashMap<>();
+
+        return (HttpServletRequest) Proxy.newProxyInstance(
+            HttpServletRequest.class.getClassLoader(), new Class<?>[] { HttpServletRequest.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getHeader":
+                        return headers.get((String) args[0]);
+                    case "getAttribute":
+                        return attributes.get((String) args[0]);
+                    case "setAttribute":
+                        attributes.put((String) args[0], args[1]);
+                        return null;
+                    case "removeAttribute":
+                        attributes.remove((String) args[0]);
+                        return null;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    private static MemberRepository stubMemberRepository() {
+        MemberInfo memberInfo = new MemberInfo(1L, 1L, null, 'M', null, null);
+
+        return (MemberRepository) Proxy.newProxyInstance(
+            MemberRepository.class.getClassLoader(), new Class<?>[] { MemberRepository.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("findMemberInfoByUuid")) {
+                    return Optional.of(memberInfo);
+                }
+
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static String token() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(
+            ("{\"exp\":" + Instant.now().plus(Duration.ofDays(1L)).getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+
+        return JwtUtils.BEARER_PREFIX + header + "." + payload + ".signature";
+    }
+
+    /**
+     * 식별 처리 조합별 핸들러 메서드를 가진 컨트롤러입니다.
+     */
+    public static class BenchmarkController {
+
+        public String plain() {
+            return "ok";
+        }
+
+        @RoleCheck(accessLevel = Role.ROLE_USER)
+        public String roleCheck() {
+            return "ok";
+        }
+
+        public String uuid(@UUID final String uuid) {
+            return uuid;
+        }
+
+        public MemberInfo memberInfo(final MemberInfo memberInfo) {
+            return memberInfo;
+        }
+
+        public AuthInfo auth(@Auth final AuthInfo authInfo) {
+            return authInfo;
+        }
+
+        @RoleCheck(accessLevel = Role.ROLE_USER)
+        public AuthInfo fullChain(@UUID final String uuid, final MemberInfo memberInfo,
+                                  @Auth final AuthInfo authInfo) {
+            return authInfo;
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.marketgg.server.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.auth.AuthInfoCache;
+import com.nhnacademy.marketgg.server.auth.MemberInfoCache;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.repository.member.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 캐시를 거치지 않고 매번 원본을 조회하는 캐시입니다.
+ * 크기가 0인 Caffeine 캐시는 제거가 비동기로 일어나 방금 저장한 값을 돌려주므로, 캐시가 없는 기준선으로 쓸 수 없습니다.
+ *
+ * @version 1.0.0
+ */
+final class NoCache {
+
+    private NoCache() {
+    }
+
+    /**
+     * 매 조회마다 loader 를 호출하는 회원 정보 캐시를 생성합니다.
+     */
+    static AuthInfoCache authInfo(final ObjectMapper mapper) {
+        return new AuthInfoCache(1L, Duration.ZERO, false, Duration.ZERO, mapper, new SimpleMeterRegistry()) {
+            @Override
+            public AuthInfo get(final String jwt, final String uuid, final Supplier<AuthInfo> loader) {
+                return loader.get();
+            }
+        };
+    }
+
+    /**
+     * 매 조회마다 Repository 를 호출하는 회원 정보 캐시를 생성합니다.
+     */
+    static MemberInfoCache memberInfo(final MemberRepository memberRepository) {
+        return new MemberInfoCache(memberRepository, 1L, Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry()) {
+            @Override
+            public Optional<MemberInfo> get(final String uuid) {
+                return memberRepository.findMemberInfoByUuid(uuid);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.server.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.auth.RoleSet;
+import com.nhnacademy.marketgg.server.auth.RoleSetCache;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WWW-Authentication 헤더로 관리자 권한을 확인하는 비용을 비교합니다.
+ * 매 요청 JSON 을 List 로 역직렬화하는 방식과 캐시된 비트마스크를 확인하는 방식을 측정합니다.
+ * 할당량은 {@code -prof gc} 옵션으로 확인할 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCheckBenchmark {
+
+    private static final String ROLE_HEADER = "[\"ROLE_USER\",\"ROLE_ADMIN\"]";
+
+    private ObjectMapper mapper;
+    private RoleSetCache roleSetCache;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper();
+        roleSetCache = new RoleSetCache(mapper, 256L);
+    }
+
+    @Benchmark
+    public boolean parseAndContains() throws Exception {
+        List<String> roles = mapper.readValue(ROLE_HEADER, new TypeReference<>() {
+        });
+        return roles.contains(Role.ROLE_ADMIN.name());
+    }
+
+    @Benchmark
+    public boolean cachedBitmask() {
+        RoleSet roles = roleSetCache.get(ROLE_HEADER);
+        return roles.isAdmin();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.marketgg.server.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gateway 의 /auth/info 를 흉내 내는 loopback HTTP 서버입니다.
+ *
+ * @version 1.0.0
+ */
+final class StubGateway implements AutoCloseable {
+
+    private static final String AUTH_INFO_RESPONSE =
+        "{\"success\":true,\"data\":{\"email\":\"user@marketgg.com\",\"name\":\"user\","
+            + "\"phoneNumber\":\"010-0000-0000\"}}";
+
+    private final HttpServer server;
+
+    private StubGateway(final HttpServer server) {
+        this.server = server;
+    }
+
+    static StubGateway start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/auth/info", exchange -> {
+            byte[] body = AUTH_INFO_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+
+        return new StubGateway(server);
+    }
+
+    String origin() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+}
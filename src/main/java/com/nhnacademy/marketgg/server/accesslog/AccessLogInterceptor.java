@@ -0,0 +1,64 @@
+package com.nhnacademy.marketgg.server.accesslog;
+
+import com.nhnacademy.marketgg.server.auth.RequestIdentity;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 엔드포인트별 응답 시간을 기록하고, 표본으로 뽑힌 요청의 접근 로그를 비동기로 남깁니다.
+ * 서버 오류가 난 요청은 설정에 따라 표본과 관계없이 접근 로그를 남깁니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class AccessLogInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS = AccessLogInterceptor.class.getName() + ".START_NANOS";
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final EndpointLatencyHistograms histograms;
+    private final AccessLogWriter writer;
+    private final double sampleRate;
+    private final boolean alwaysLogErrors;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+
+        request.setAttribute(START_NANOS, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+
+        Object startNanos = request.getAttribute(START_NANOS);
+        if (Objects.isNull(startNanos)) {
+            return;
+        }
+
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - (long) startNanos);
+        String endpoint = request.getMethod() + " " + getPattern(request);
+        histograms.record(endpoint, latencyMicros);
+
+        boolean error = Objects.nonNull(ex) || response.getStatus() >= 500;
+        if ((error && alwaysLogErrors) || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            writer.offer(new AccessLogRecord(System.currentTimeMillis(), request.getMethod(), getPattern(request),
+                                             response.getStatus(), latencyMicros,
+                                             request.getHeader(RequestIdentity.AUTH_ID)));
+        }
+    }
+
+    private String getPattern(final HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.isNull(pattern) ? UNMAPPED : pattern.toString();
+    }
+
+}
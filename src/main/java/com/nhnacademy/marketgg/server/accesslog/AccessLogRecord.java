@@ -0,0 +1,22 @@
+package com.nhnacademy.marketgg.server.accesslog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 요청의 접근 로그입니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccessLogRecord {
+
+    private final long timestamp;
+    private final String method;
+    private final String endpoint;
+    private final int status;
+    private final long latencyMicros;
+    private final String uuid;
+
+}
@@ -0,0 +1,85 @@
+package com.nhnacademy.marketgg.server.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 요청 스레드가 쓰고 하나의 스레드가 읽는 크기 고정의 Lock-Free 링 버퍼입니다.
+ * 버퍼가 가득 차면 기다리지 않고 기록을 버립니다.
+ *
+ * @param <T> - 보관할 기록의 타입입니다.
+ * @version 1.0.0
+ */
+public class AccessLogRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 링 버퍼를 생성합니다.
+     *
+     * @param capacity - 버퍼 크기입니다. 2의 거듭제곱으로 올림합니다.
+     */
+    public AccessLogRingBuffer(final int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 기록을 버퍼에 추가합니다.
+     *
+     * @param element - 추가할 기록입니다.
+     * @return 버퍼가 가득 차 기록을 버렸으면 false 를 반환합니다.
+     * @since 1.0.0
+     */
+    public boolean offer(final T element) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head.get() >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.lazySet(index(position), element);
+        return true;
+    }
+
+    /**
+     * 가장 오래된 기록을 꺼냅니다. 읽는 스레드 하나에서만 호출해야 합니다.
+     *
+     * @return 꺼낸 기록입니다. 꺼낼 기록이 없으면 null 을 반환합니다.
+     * @since 1.0.0
+     */
+    public T poll() {
+        long position = head.get();
+        int index = index(position);
+        T element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+
+        slots.lazySet(index, null);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    private int index(final long position) {
+        return (int) position & mask;
+    }
+
+}
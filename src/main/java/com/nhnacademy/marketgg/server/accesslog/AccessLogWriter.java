@@ -0,0 +1,96 @@
+package com.nhnacademy.marketgg.server.accesslog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 링 버퍼에 쌓인 접근 로그를 백그라운드 스레드에서 JSON 한 줄로 출력합니다.
+ * 요청 스레드는 버퍼에 기록을 넣기만 하므로 로그 출력 I/O 를 기다리지 않습니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class AccessLogWriter implements AutoCloseable {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    private static final long CLOSE_TIMEOUT_MILLIS = 1_000L;
+
+    private final AccessLogRingBuffer<AccessLogRecord> buffer;
+    private final ObjectMapper mapper;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    public AccessLogWriter(final int bufferSize, final ObjectMapper mapper) {
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+        this.mapper = mapper;
+        this.thread = new Thread(this::run, "access-log-writer");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * 접근 로그를 버퍼에 추가합니다. 버퍼가 가득 차면 기록을 버립니다.
+     *
+     * @param accessLogRecord - 접근 로그입니다.
+     * @since 1.0.0
+     */
+    public void offer(final AccessLogRecord accessLogRecord) {
+        buffer.offer(accessLogRecord);
+    }
+
+    public long getDropped() {
+        return buffer.getDropped();
+    }
+
+    public int getPending() {
+        return buffer.size();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(CLOSE_TIMEOUT_MILLIS);
+    }
+
+    private void run() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+
+        drain();
+    }
+
+    private boolean drain() {
+        boolean written = false;
+        AccessLogRecord accessLogRecord;
+        while (Objects.nonNull(accessLogRecord = buffer.poll())) {
+            write(accessLogRecord);
+            written = true;
+        }
+
+        return written;
+    }
+
+    private void write(final AccessLogRecord accessLogRecord) {
+        try {
+            ACCESS_LOG.info(mapper.writeValueAsString(accessLogRecord));
+        } catch (JsonProcessingException e) {
+            log.warn("access log serialization failed", e);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.marketgg.server.accesslog;
+
+import com.nhnacademy.marketgg.server.dto.response.EndpointLatencyResponse;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트별 응답 시간을 HDR Histogram 으로 누적합니다.
+ * 기록은 Wait-Free 로 동작하므로 요청 스레드에서 바로 호출할 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+public class EndpointLatencyHistograms {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * 엔드포인트의 응답 시간을 기록합니다.
+     *
+     * @param endpoint      - HTTP 메서드와 URL 패턴입니다.
+     * @param latencyMicros - 응답 시간(µs)입니다.
+     * @since 1.0.0
+     */
+    public void record(final String endpoint, final long latencyMicros) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+                  .recordValue(Math.max(latencyMicros, 0L));
+    }
+
+    /**
+     * 엔드포인트별 응답 시간 분포를 요청 수가 많은 순으로 반환합니다.
+     *
+     * @return 엔드포인트별 응답 시간 분포입니다.
+     * @since 1.0.0
+     */
+    public List<EndpointLatencyResponse> snapshot() {
+        return histograms.entrySet()
+                         .stream()
+                         .map(entry -> toResponse(entry.getKey(), entry.getValue().copy()))
+                         .sorted(Comparator.comparingLong(EndpointLatencyResponse::getCount).reversed())
+                         .collect(Collectors.toList());
+    }
+
+    /**
+     * 누적된 응답 시간을 모두 초기화합니다.
+     *
+     * @since 1.0.0
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    private EndpointLatencyResponse toResponse(final String endpoint, final Histogram histogram) {
+        return new EndpointLatencyResponse(endpoint, histogram.getTotalCount(),
+                                           toMillis(histogram.getValueAtPercentile(50.0)),
+                                           toMillis(histogram.getValueAtPercentile(90.0)),
+                                           toMillis(histogram.getValueAtPercentile(99.0)),
+                                           toMillis(histogram.getValueAtPercentile(99.9)),
+                                           toMillis(histogram.getMaxValue()));
+    }
+
+    private double toMillis(final long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+}
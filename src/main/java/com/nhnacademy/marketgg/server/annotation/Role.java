@@ -5,7 +5,16 @@ public enum Role {
 
     LOGIN,
     ROLE_ADMIN,
-    ROLE_USER
+    ROLE_USER;
 
-}
+    /**
+     * 권한 집합을 비트마스크로 표현할 때 사용하는 비트입니다.
+     *
+     * @return 권한에 해당하는 비트입니다.
+     * @since 1.0.0
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
 
+}
@@ -1,21 +0,0 @@
-package com.nhnacademy.marketgg.server.aop;
-
-import javax.servlet.http.HttpServletRequest;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
-public final class AspectUtils {
-
-    public static final String AUTH_ID = "AUTH-ID";
-    public static final String WWW_AUTHENTICATION = "WWW-Authentication";
-
-    public static HttpServletRequest getRequest() {
-        ServletRequestAttributes requestAttributes =
-            (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-        return requestAttributes.getRequest();
-    }
-
-}
@@ -0,0 +1,161 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Auth Server 에서 조회한 회원 정보를 보관하는 캐시입니다.
+ * JWT 와 AUTH-ID 의 해시를 키로 사용하며, 설정된 TTL 과 토큰의 exp 중 더 이른 시각에 만료됩니다.
+ * 같은 키로 동시에 요청이 들어오면 하나의 요청만 Auth Server 를 호출합니다.
+ * Stale Fallback 이 활성화되어 있으면 만료된 회원 정보도 토큰이 유효한 동안 별도로 보관하여 Gateway 장애 시 사용합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class AuthInfoCache {
+
+    private static final String CACHE_NAME = "auth.info";
+    private static final String STALE_CACHE_NAME = "auth.info.stale";
+
+    private final ObjectMapper mapper;
+    private final Cache<String, CachedAuthInfo> cache;
+    private final Cache<String, CachedAuthInfo> staleCache;
+    private final boolean staleEnabled;
+
+    public AuthInfoCache(@Value("${gg.auth.cache.maximum-size:10000}") final long maximumSize,
+                         @Value("${gg.auth.cache.ttl:5m}") final Duration ttl,
+                         @Value("${gg.auth.cache.stale-fallback.enabled:false}") final boolean staleEnabled,
+                         @Value("${gg.auth.cache.stale-fallback.max-age:1h}") final Duration staleMaxAge,
+                         final ObjectMapper mapper,
+                         final MeterRegistry meterRegistry) {
+
+        this.mapper = mapper;
+        this.staleEnabled = staleEnabled;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfter(new TokenExpiry(ttl))
+                             .recordStats()
+                             .build();
+        this.staleCache = Caffeine.newBuilder()
+                                  .maximumSize(maximumSize)
+                                  .expireAfter(new TokenExpiry(staleMaxAge))
+                                  .recordStats()
+                                  .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, staleCache, STALE_CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 회원 정보를 반환하고, 없으면 loader 로 조회한 뒤 캐시에 저장합니다.
+     * loader 가 null 을 반환하면 캐시하지 않고 null 을 반환합니다.
+     *
+     * @param jwt    - Authorization 헤더 값입니다.
+     * @param uuid   - 회원의 UUID 입니다.
+     * @param loader - 캐시에 없을 때 회원 정보를 조회하는 함수입니다.
+     * @return 회원 정보입니다.
+     * @since 1.0.0
+     */
+    public AuthInfo get(final String jwt, final String uuid, final Supplier<AuthInfo> loader) {
+        CachedAuthInfo cached = cache.get(JwtUtils.hash(jwt, uuid), key -> {
+            AuthInfo authInfo = loader.get();
+            if (Objects.isNull(authInfo)) {
+                return null;
+            }
+
+            CachedAuthInfo loaded =
+                new CachedAuthInfo(authInfo, JwtUtils.getExpiration(jwt, mapper).orElse(Instant.MAX));
+            if (staleEnabled) {
+                staleCache.put(key, loaded);
+            }
+            return loaded;
+        });
+
+        return Objects.isNull(cached) ? null : cached.getAuthInfo();
+    }
+
+    /**
+     * TTL 이 지났더라도 토큰이 아직 유효한 마지막 회원 정보를 반환합니다.
+     * Stale Fallback 이 비활성화되어 있으면 항상 빈 Optional 을 반환합니다.
+     *
+     * @param jwt  - Authorization 헤더 값입니다.
+     * @param uuid - 회원의 UUID 입니다.
+     * @return 마지막으로 조회한 회원 정보입니다.
+     * @since 1.0.0
+     */
+    public Optional<AuthInfo> getStale(final String jwt, final String uuid) {
+        if (!staleEnabled) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(staleCache.getIfPresent(JwtUtils.hash(jwt, uuid)))
+                       .map(CachedAuthInfo::getAuthInfo);
+    }
+
+    /**
+     * 토큰에 해당하는 캐시를 제거합니다.
+     *
+     * @param jwt  - Authorization 헤더 값입니다.
+     * @param uuid - 회원의 UUID 입니다.
+     * @since 1.0.0
+     */
+    public void evict(final String jwt, final String uuid) {
+        String key = JwtUtils.hash(jwt, uuid);
+        cache.invalidate(key);
+        staleCache.invalidate(key);
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class CachedAuthInfo {
+
+        private final AuthInfo authInfo;
+        private final Instant expiresAt;
+
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class TokenExpiry implements Expiry<String, CachedAuthInfo> {
+
+        private final Duration ttl;
+
+        @Override
+        public long expireAfterCreate(final String key, final CachedAuthInfo value, final long currentTime) {
+            Instant now = Instant.now();
+            Instant maxExpiresAt = now.plus(ttl);
+            Instant expiresAt = value.getExpiresAt().isBefore(maxExpiresAt) ? value.getExpiresAt() : maxExpiresAt;
+
+            Duration untilExpiration = Duration.between(now, expiresAt);
+            return untilExpiration.isNegative() ? 0L : untilExpiration.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedAuthInfo value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedAuthInfo value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.exception.auth.GatewayUnavailableException;
+import com.nhnacademy.marketgg.server.exception.auth.UnAuthenticException;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청의 JWT 로 회원 정보를 조회합니다.
+ * 로컬 검증이 활성화되어 있으면 토큰의 클레임으로 회원 정보를 만들고,
+ * 클레임이 부족하거나 로컬 검증이 비활성화되어 있으면 Gateway 를 통해 조회합니다.
+ * Gateway 장애 시에는 캐시에 남아 있는 마지막 회원 정보를 사용합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthInfoProvider {
+
+    private static final String EMAIL = "email";
+    private static final String NAME = "name";
+    private static final String PHONE_NUMBER = "phoneNumber";
+
+    private final GatewayAuthClient gatewayAuthClient;
+    private final AuthInfoCache authInfoCache;
+    private final Optional<JwtVerifier> jwtVerifier;
+
+    /**
+     * 회원 정보를 조회합니다.
+     *
+     * @param jwt  - Authorization 헤더 값입니다.
+     * @param uuid - 회원의 UUID 입니다.
+     * @return 회원 정보입니다.
+     * @throws UnAuthenticException        - 토큰 서명 검증에 실패하면 발생합니다.
+     * @throws GatewayUnavailableException - Gateway 장애 시 사용할 회원 정보가 없으면 발생합니다.
+     * @since 1.0.0
+     */
+    public AuthInfo retrieve(final String jwt, final String uuid) throws UnAuthenticException {
+        AuthInfo authInfo = authInfoCache.get(jwt, uuid, () -> load(jwt, uuid));
+        if (Objects.isNull(authInfo)) {
+            throw new UnAuthenticException();
+        }
+
+        return authInfo;
+    }
+
+    private AuthInfo load(final String jwt, final String uuid) {
+        if (jwtVerifier.isEmpty()) {
+            return retrieveRemote(jwt, uuid);
+        }
+
+        Optional<JsonNode> claims = jwtVerifier.get().verify(jwt);
+        if (claims.isEmpty()) {
+            return null;
+        }
+
+        return toAuthInfo(claims.get(), uuid)
+            .orElseGet(() -> retrieveRemote(jwt, uuid));
+    }
+
+    private AuthInfo retrieveRemote(final String jwt, final String uuid) {
+        try {
+            return gatewayAuthClient.retrieveAuthInfo(jwt, uuid);
+        } catch (GatewayUnavailableException e) {
+            return authInfoCache.getStale(jwt, uuid)
+                                .orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<AuthInfo> toAuthInfo(final JsonNode claims, final String uuid) {
+        if (!(claims.hasNonNull(EMAIL) && claims.hasNonNull(NAME) && claims.hasNonNull(PHONE_NUMBER))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AuthInfo(uuid, claims.get(EMAIL).asText(), claims.get(NAME).asText(),
+                                        claims.get(PHONE_NUMBER).asText()));
+    }
+
+}
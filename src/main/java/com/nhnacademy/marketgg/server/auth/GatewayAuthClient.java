@@ -0,0 +1,115 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpMethod.GET;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.response.common.ErrorEntity;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.exception.RequestQueueFullException;
+import com.nhnacademy.marketgg.server.exception.auth.GatewayUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Gateway 를 통해 Auth Server 에 회원 정보를 요청하는 클라이언트입니다.
+ * 요청은 Circuit Breaker 와 Bulkhead 를 거치며, Gateway 장애는 {@link GatewayUnavailableException} 으로 전달합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class GatewayAuthClient {
+
+    private final String gateway;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper mapper;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public GatewayAuthClient(@Value("${gg.gateway.origin}") final String gateway,
+                             final RestTemplate restTemplate,
+                             final ObjectMapper mapper,
+                             final CircuitBreaker circuitBreaker,
+                             final Bulkhead bulkhead) {
+
+        this.gateway = gateway;
+        this.restTemplate = restTemplate;
+        this.mapper = mapper;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * JWT 로 Auth Server 에 회원 정보를 요청합니다.
+     *
+     * @param jwt  - Authorization 헤더 값입니다.
+     * @param uuid - 회원의 UUID 입니다.
+     * @return UUID 가 설정된 회원 정보입니다.
+     * @throws GatewayUnavailableException - Circuit 이 열려 있거나 Gateway 가 응답하지 않을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public AuthInfo retrieveAuthInfo(final String jwt, final String uuid) {
+        try {
+            return circuitBreaker.executeSupplier(
+                () -> bulkhead.executeSupplier(() -> requestAuthInfo(jwt, uuid)));
+        } catch (CallNotPermittedException | BulkheadFullException | RequestQueueFullException
+                 | ResourceAccessException | HttpServerErrorException e) {
+            throw new GatewayUnavailableException(e);
+        }
+    }
+
+    private AuthInfo requestAuthInfo(final String jwt, final String uuid) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        headers.set(AUTHORIZATION, jwt);
+
+        HttpEntity<Void> httpEntity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> exchange =
+            restTemplate.exchange(gateway + "/auth/info", GET, httpEntity, String.class);
+
+        try {
+            AuthInfo authInfo = validCheck(exchange);
+            authInfo.setUuid(uuid);
+            return authInfo;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AuthInfo validCheck(ResponseEntity<String> response)
+        throws JsonProcessingException {
+
+        log.debug("http status: {}", response.getStatusCode());
+        if (response.getStatusCode().is4xxClientError()) {
+            ErrorEntity error =
+                mapper.readValue(response.getBody(), ErrorEntity.class);
+            throw new IllegalArgumentException(error.getMessage());
+        }
+
+        SingleResponse<AuthInfo> authInfo
+            = mapper.readValue(response.getBody(), new TypeReference<>() {
+        });
+
+        return authInfo.getData();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.nhnacademy.marketgg.server.annotation.Auth;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.exception.auth.UnAuthenticException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Auth Server 회원 정보와 회원 정보를 모두 사용하는 핸들러에서 두 조회를 동시에 수행하게 합니다.
+ * Gateway 조회는 별도의 Executor 에서 먼저 시작하고, 회원 정보는 요청 스레드에서 ArgumentResolver 가 조회합니다.
+ * 결과는 {@link RequestIdentityArgumentResolver} 가 컨트롤러 호출 전에 합칩니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class IdentityPrefetchInterceptor implements HandlerInterceptor {
+
+    private final AuthInfoProvider authInfoProvider;
+    private final Executor executor;
+    private final Map<Method, Boolean> prefetchTargets = new ConcurrentHashMap<>();
+
+    /**
+     * 핸들러가 두 정보를 모두 사용하면 Gateway 조회를 시작합니다.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) {
+
+        if (!(handler instanceof HandlerMethod) || !isPrefetchTarget((HandlerMethod) handler)) {
+            return true;
+        }
+
+        RequestIdentity identity = RequestIdentity.of(request);
+        String jwt = identity.getAuthorization();
+        String uuid = identity.getUuid();
+        if (isInvalidAuth(jwt, uuid) || Objects.nonNull(identity.getAuthInfo())) {
+            return true;
+        }
+
+        identity.setPendingAuthInfo(CompletableFuture.supplyAsync(() -> retrieve(jwt, uuid), executor));
+        return true;
+    }
+
+    private AuthInfo retrieve(final String jwt, final String uuid) {
+        try {
+            return authInfoProvider.retrieve(jwt, uuid);
+        } catch (UnAuthenticException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private boolean isPrefetchTarget(final HandlerMethod handlerMethod) {
+        return prefetchTargets.computeIfAbsent(handlerMethod.getMethod(), method -> {
+            MethodParameter[] parameters = handlerMethod.getMethodParameters();
+
+            return Arrays.stream(parameters)
+                         .anyMatch(parameter -> MemberInfo.class.isAssignableFrom(parameter.getParameterType()))
+                && Arrays.stream(parameters)
+                         .anyMatch(parameter -> parameter.hasParameterAnnotation(Auth.class)
+                             && AuthInfo.class.isAssignableFrom(parameter.getParameterType()));
+        });
+    }
+
+    private boolean isInvalidAuth(String jwt, String uuid) {
+        return (Objects.isNull(jwt) || Objects.isNull(uuid))
+            || (jwt.isBlank() || uuid.isBlank());
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT 문자열을 다루기 위한 유틸 클래스입니다.
+ * 서명 검증은 하지 않으며, 캐시 만료 시간 계산 등 부가 정보 추출 용도로만 사용합니다.
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtUtils {
+
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Authorization 헤더 값에서 Bearer 접두사를 제거한 토큰을 반환합니다.
+     *
+     * @param authorization - Authorization 헤더 값입니다.
+     * @return 접두사가 제거된 토큰입니다.
+     * @since 1.0.0
+     */
+    public static String stripBearer(final String authorization) {
+        if (authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+
+        return authorization.trim();
+    }
+
+    /**
+     * 토큰의 Payload 를 JSON 으로 디코딩합니다.
+     *
+     * @param authorization - Authorization 헤더 값입니다.
+     * @param mapper        - JSON 역직렬화에 사용할 ObjectMapper 입니다.
+     * @return 디코딩된 Payload, 형식이 올바르지 않으면 빈 Optional 을 반환합니다.
+     * @since 1.0.0
+     */
+    public static Optional<JsonNode> decodePayload(final String authorization, final ObjectMapper mapper) {
+        String[] parts = stripBearer(authorization).split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            return Optional.of(mapper.readTree(payload));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 토큰의 exp 클레임을 반환합니다.
+     *
+     * @param authorization - Authorization 헤더 값입니다.
+     * @param mapper        - JSON 역직렬화에 사용할 ObjectMapper 입니다.
+     * @return 만료 시각, exp 클레임이 없으면 빈 Optional 을 반환합니다.
+     * @since 1.0.0
+     */
+    public static Optional<Instant> getExpiration(final String authorization, final ObjectMapper mapper) {
+        return decodePayload(authorization, mapper)
+            .map(payload -> payload.get("exp"))
+            .filter(exp -> Objects.nonNull(exp) && exp.canConvertToLong())
+            .map(exp -> Instant.ofEpochSecond(exp.asLong()));
+    }
+
+    /**
+     * 토큰 원문을 그대로 보관하지 않도록 SHA-256 해시 문자열을 생성합니다.
+     *
+     * @param values - 해시할 값 목록입니다.
+     * @return 16진수 해시 문자열입니다.
+     * @since 1.0.0
+     */
+    public static String hash(final String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16))
+                       .append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Gateway 를 거치지 않고 JWT 의 서명과 클레임을 직접 검증합니다.
+ * 공개키는 PEM(X.509) 파일 또는 JWKS 파일로 설정할 수 있으며, RS256 / RS384 / RS512 를 지원합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "gg.auth.local-verification", name = "enabled", havingValue = "true")
+public class JwtVerifier {
+
+    private static final String DEFAULT_KID = "";
+    private static final Map<String, String> ALGORITHMS = Map.of(
+        "RS256", "SHA256withRSA",
+        "RS384", "SHA384withRSA",
+        "RS512", "SHA512withRSA");
+
+    private final Map<String, PublicKey> publicKeys;
+    private final ObjectMapper mapper;
+    private final Duration clockSkew;
+    private final Clock clock;
+
+    @Autowired
+    public JwtVerifier(@Value("${gg.auth.local-verification.public-key:}") final String publicKeyLocation,
+                       @Value("${gg.auth.local-verification.jwks:}") final String jwksLocation,
+                       @Value("${gg.auth.local-verification.clock-skew:30s}") final Duration clockSkew,
+                       final ResourceLoader resourceLoader,
+                       final ObjectMapper mapper) throws IOException, GeneralSecurityException {
+
+        this(loadPublicKeys(resourceLoader, publicKeyLocation, jwksLocation, mapper), mapper, clockSkew,
+             Clock.systemUTC());
+    }
+
+    public JwtVerifier(final Map<String, PublicKey> publicKeys, final ObjectMapper mapper,
+                       final Duration clockSkew, final Clock clock) {
+
+        if (publicKeys.isEmpty()) {
+            throw new IllegalStateException("JWT 검증을 위한 공개키가 설정되지 않았습니다.");
+        }
+
+        this.publicKeys = Map.copyOf(publicKeys);
+        this.mapper = mapper;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+    }
+
+    /**
+     * 토큰의 서명, exp, nbf 를 검증하고 클레임을 반환합니다.
+     *
+     * @param authorization - Authorization 헤더 값입니다.
+     * @return 검증된 클레임, 검증에 실패하면 빈 Optional 을 반환합니다.
+     * @since 1.0.0
+     */
+    public Optional<JsonNode> verify(final String authorization) {
+        String[] parts = JwtUtils.stripBearer(authorization).split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            JsonNode header = mapper.readTree(decoder.decode(parts[0]));
+
+            String algorithm = ALGORITHMS.get(header.path("alg").asText());
+            PublicKey publicKey = publicKeys.getOrDefault(header.path("kid").asText(DEFAULT_KID),
+                                                          publicKeys.get(DEFAULT_KID));
+            if (Objects.isNull(algorithm) || Objects.isNull(publicKey)) {
+                return Optional.empty();
+            }
+
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initVerify(publicKey);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(decoder.decode(parts[2]))) {
+                return Optional.empty();
+            }
+
+            JsonNode claims = mapper.readTree(decoder.decode(parts[1]));
+            return isActive(claims) ? Optional.of(claims) : Optional.empty();
+        } catch (IllegalArgumentException | IOException | GeneralSecurityException e) {
+            log.debug("JWT 검증 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isActive(final JsonNode claims) {
+        Instant now = clock.instant();
+
+        JsonNode exp = claims.get("exp");
+        if (Objects.isNull(exp) || Instant.ofEpochSecond(exp.asLong()).plus(clockSkew).isBefore(now)) {
+            return false;
+        }
+
+        JsonNode nbf = claims.get("nbf");
+        return Objects.isNull(nbf) || !Instant.ofEpochSecond(nbf.asLong()).minus(clockSkew).isAfter(now);
+    }
+
+    private static Map<String, PublicKey> loadPublicKeys(final ResourceLoader resourceLoader,
+                                                         final String publicKeyLocation,
+                                                         final String jwksLocation,
+                                                         final ObjectMapper mapper)
+        throws IOException, GeneralSecurityException {
+
+        Map<String, PublicKey> keys = new HashMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+        if (StringUtils.hasText(publicKeyLocation)) {
+            String pem = read(resourceLoader.getResource(publicKeyLocation))
+                .replaceAll("-----(BEGIN|END) PUBLIC KEY-----", "")
+                .replaceAll("\\s", "");
+
+            keys.put(DEFAULT_KID,
+                     keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(pem))));
+        }
+
+        if (StringUtils.hasText(jwksLocation)) {
+            JsonNode jwks = mapper.readTree(read(resourceLoader.getResource(jwksLocation)));
+            for (JsonNode jwk : jwks.path("keys")) {
+                if (!"RSA".equals(jwk.path("kty").asText())) {
+                    continue;
+                }
+
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                keys.put(jwk.path("kid").asText(DEFAULT_KID),
+                         keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            }
+        }
+
+        return keys;
+    }
+
+    private static String read(final Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+}
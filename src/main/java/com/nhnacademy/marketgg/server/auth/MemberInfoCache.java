@@ -0,0 +1,107 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.repository.member.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * UUID 로 조회한 회원 정보를 보관하는 캐시입니다.
+ * 존재하지 않는 UUID 도 짧은 시간 동안 캐시하여 잘못된 헤더로 들어온 요청이 DB 를 조회하지 않게 합니다.
+ * 회원 정보가 변경되면 {@link #evict(String)} 로 캐시를 제거해야 합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class MemberInfoCache {
+
+    private static final String CACHE_NAME = "member.info";
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, Optional<MemberInfo>> cache;
+
+    public MemberInfoCache(final MemberRepository memberRepository,
+                           @Value("${gg.member-info.cache.maximum-size:10000}") final long maximumSize,
+                           @Value("${gg.member-info.cache.ttl:10m}") final Duration ttl,
+                           @Value("${gg.member-info.cache.negative-ttl:30s}") final Duration negativeTtl,
+                           final MeterRegistry meterRegistry) {
+
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfter(new PresenceExpiry(ttl, negativeTtl))
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 회원 정보를 반환하고, 없으면 DB 에서 조회한 뒤 캐시에 저장합니다.
+     *
+     * @param uuid - 회원의 UUID 입니다.
+     * @return 회원 정보입니다. 회원이 없으면 빈 Optional 을 반환합니다.
+     * @since 1.0.0
+     */
+    public Optional<MemberInfo> get(final String uuid) {
+        return cache.get(uuid, memberRepository::findMemberInfoByUuid);
+    }
+
+    /**
+     * 회원의 캐시를 제거합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 제거하여, 커밋 전의 회원 정보가 다시 캐시되지 않게 합니다.
+     *
+     * @param uuid - 회원의 UUID 입니다.
+     * @since 1.0.0
+     */
+    public void evict(final String uuid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(uuid);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                cache.invalidate(uuid);
+            }
+        });
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class PresenceExpiry implements Expiry<String, Optional<MemberInfo>> {
+
+        private final Duration ttl;
+        private final Duration negativeTtl;
+
+        @Override
+        public long expireAfterCreate(final String key, final Optional<MemberInfo> value, final long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Optional<MemberInfo> value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Optional<MemberInfo> value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
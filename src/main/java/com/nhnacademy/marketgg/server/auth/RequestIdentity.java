@@ -0,0 +1,70 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 한 요청 동안 사용자 식별 정보를 보관합니다.
+ * 권한 목록, 회원 정보, Auth Server 회원 정보는 처음 필요할 때 한 번만 조회하고 요청이 끝날 때까지 재사용합니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public final class RequestIdentity {
+
+    public static final String AUTH_ID = "AUTH-ID";
+    public static final String WWW_AUTHENTICATION = "WWW-Authentication";
+
+    private static final String ATTRIBUTE = RequestIdentity.class.getName();
+
+    @Getter(AccessLevel.NONE)
+    private final HttpServletRequest request;
+
+    private RoleSet roles;
+    private MemberInfo memberInfo;
+    private AuthInfo authInfo;
+    private CompletableFuture<AuthInfo> pendingAuthInfo;
+
+    private RequestIdentity(final HttpServletRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * 요청에 연결된 식별 정보를 반환하고, 없으면 새로 만들어 요청에 연결합니다.
+     *
+     * @param request - 현재 요청입니다.
+     * @return 요청의 식별 정보입니다.
+     * @since 1.0.0
+     */
+    public static RequestIdentity of(final HttpServletRequest request) {
+        RequestIdentity identity = (RequestIdentity) request.getAttribute(ATTRIBUTE);
+        if (Objects.isNull(identity)) {
+            identity = new RequestIdentity(request);
+            request.setAttribute(ATTRIBUTE, identity);
+        }
+
+        return identity;
+    }
+
+    public String getUuid() {
+        return request.getHeader(AUTH_ID);
+    }
+
+    public String getAuthorization() {
+        return request.getHeader(AUTHORIZATION);
+    }
+
+    public String getRoleHeader() {
+        return request.getHeader(WWW_AUTHENTICATION);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.nhnacademy.marketgg.server.annotation.Auth;
+import com.nhnacademy.marketgg.server.annotation.UUID;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.exception.auth.UnAuthenticException;
+import com.nhnacademy.marketgg.server.exception.member.MemberNotFoundException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러에서 사용자의 UUID, 회원 정보, Auth Server 의 회원 정보를 파라미터로 전달받을 수 있게 합니다.
+ * 각 정보는 요청당 한 번만 조회합니다.
+ * {@link IdentityPrefetchInterceptor} 가 Auth Server 회원 정보 조회를 미리 시작했다면 그 결과를 기다립니다.
+ * 이때 핸들러가 회원 정보도 받는다면 파라미터 순서와 관계없이 회원 정보를 먼저 조회하여 두 조회가 겹치게 합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestIdentityArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ObjectProvider<MemberInfoCache> memberInfoCache;
+    private final ObjectProvider<AuthInfoProvider> authInfoProvider;
+
+    @Override
+    public boolean supportsParameter(final MethodParameter parameter) {
+        return isUuid(parameter) || isMemberInfo(parameter) || isAuthInfo(parameter);
+    }
+
+    @Override
+    public Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+                                  final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory)
+        throws Exception {
+
+        RequestIdentity identity =
+            RequestIdentity.of(Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class)));
+
+        if (isUuid(parameter)) {
+            return identity.getUuid();
+        }
+
+        if (isMemberInfo(parameter)) {
+            return resolveMemberInfo(identity);
+        }
+
+        if (Objects.nonNull(identity.getPendingAuthInfo()) && hasMemberInfoParameter(parameter)) {
+            resolveMemberInfo(identity);
+        }
+
+        return resolveAuthInfo(identity);
+    }
+
+    private MemberInfo resolveMemberInfo(final RequestIdentity identity) {
+        if (Objects.isNull(identity.getMemberInfo())) {
+            identity.setMemberInfo(memberInfoCache.getObject()
+                                                  .get(identity.getUuid())
+                                                  .orElseThrow(MemberNotFoundException::new));
+        }
+
+        return identity.getMemberInfo();
+    }
+
+    private AuthInfo resolveAuthInfo(final RequestIdentity identity) throws UnAuthenticException {
+        if (Objects.isNull(identity.getAuthInfo()) && Objects.nonNull(identity.getPendingAuthInfo())) {
+            identity.setAuthInfo(join(identity.getPendingAuthInfo()));
+        }
+
+        if (Objects.isNull(identity.getAuthInfo())) {
+            String jwt = identity.getAuthorization();
+            String uuid = identity.getUuid();
+            if (isInvalidAuth(jwt, uuid)) {
+                throw new UnAuthenticException();
+            }
+
+            identity.setAuthInfo(authInfoProvider.getObject().retrieve(jwt, uuid));
+        }
+
+        return identity.getAuthInfo();
+    }
+
+    private AuthInfo join(final CompletableFuture<AuthInfo> pendingAuthInfo) throws UnAuthenticException {
+        try {
+            return pendingAuthInfo.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UnAuthenticException) {
+                throw (UnAuthenticException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private boolean hasMemberInfoParameter(final MethodParameter parameter) {
+        return Arrays.stream(Objects.requireNonNull(parameter.getExecutable()).getParameterTypes())
+                     .anyMatch(MemberInfo.class::isAssignableFrom);
+    }
+
+    private boolean isUuid(final MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(UUID.class)
+            && String.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    private boolean isMemberInfo(final MethodParameter parameter) {
+        return MemberInfo.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    private boolean isAuthInfo(final MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(Auth.class)
+            && AuthInfo.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    private boolean isInvalidAuth(String jwt, String uuid) {
+        return (Objects.isNull(jwt) || Objects.isNull(uuid))
+            || (jwt.isBlank() || uuid.isBlank());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.annotation.RoleCheck;
+import com.nhnacademy.marketgg.server.exception.auth.UnAuthenticException;
+import com.nhnacademy.marketgg.server.exception.auth.UnAuthorizationException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link RoleCheck} 로 권한 처리하는 Interceptor 입니다.
+ * 핸들러 메서드별로 필요한 권한은 애플리케이션 시작 시 한 번만 계산합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class RoleCheckInterceptor implements HandlerInterceptor, ApplicationListener<ContextRefreshedEvent> {
+
+    private final RoleSetCache roleSetCache;
+    private final Map<Method, Optional<Role>> accessLevels = new ConcurrentHashMap<>();
+
+    public RoleCheckInterceptor(final ObjectMapper mapper,
+                                @Value("${gg.auth.role-cache.maximum-size:256}") final long roleCacheSize) {
+        this.roleSetCache = new RoleSetCache(mapper, roleCacheSize);
+    }
+
+    /**
+     * 등록된 모든 핸들러 메서드의 필요 권한을 미리 계산합니다.
+     *
+     * @param event - 컨텍스트 갱신 이벤트입니다.
+     * @since 1.0.0
+     */
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+        event.getApplicationContext()
+             .getBeansOfType(RequestMappingHandlerMapping.class)
+             .values()
+             .forEach(mapping -> mapping.getHandlerMethods().values().forEach(this::getAccessLevel));
+    }
+
+    /**
+     * 핸들러 진입 전 필요한 권한을 체크합니다.
+     *
+     * @throws UnAuthenticException    - 인증 헤더가 없을 시 발생하는 예외입니다.
+     * @throws UnAuthorizationException - 권한이 불충분할 시 발생하는 예외입니다.
+     * @throws UncheckedIOException     - JSON 역 직렬화 시 발생할 수 있는 예외입니다.
+     */
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                             final Object handler) throws Exception {
+
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        Optional<Role> accessLevel = getAccessLevel((HandlerMethod) handler);
+        if (accessLevel.isEmpty()) {
+            return true;
+        }
+
+        RequestIdentity identity = RequestIdentity.of(request);
+        if (isInvalidHeader(identity.getRoleHeader(), identity.getUuid())) {
+            throw new UnAuthenticException();
+        }
+
+        if (Objects.isNull(identity.getRoles())) {
+            identity.setRoles(roleSetCache.get(identity.getRoleHeader()));
+        }
+
+        if (accessLevel.get() == Role.ROLE_USER && !identity.getRoles().isUser()) {
+            throw new UnAuthorizationException();
+        }
+
+        if (accessLevel.get() == Role.ROLE_ADMIN && !identity.getRoles().isAdmin()) {
+            throw new UnAuthorizationException();
+        }
+
+        return true;
+    }
+
+    private Optional<Role> getAccessLevel(final HandlerMethod handlerMethod) {
+        return accessLevels.computeIfAbsent(handlerMethod.getMethod(), method -> {
+            RoleCheck roleCheck = AnnotatedElementUtils.findMergedAnnotation(method, RoleCheck.class);
+            if (Objects.isNull(roleCheck)) {
+                roleCheck = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(),
+                                                                       RoleCheck.class);
+            }
+
+            return Optional.ofNullable(roleCheck).map(RoleCheck::accessLevel);
+        });
+    }
+
+    private boolean isInvalidHeader(String roleHeader, String uuid) {
+        return (Objects.isNull(roleHeader) || Objects.isNull(uuid))
+            || (roleHeader.isBlank() || uuid.isBlank());
+    }
+
+}
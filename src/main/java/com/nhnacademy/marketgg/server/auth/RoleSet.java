@@ -0,0 +1,61 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.nhnacademy.marketgg.server.annotation.Role;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자의 권한 목록을 비트마스크로 표현한 불변 객체입니다.
+ *
+ * @version 1.0.0
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RoleSet {
+
+    private static final Map<String, Role> ROLES =
+        Arrays.stream(Role.values()).collect(Collectors.toUnmodifiableMap(Role::name, Function.identity()));
+
+    private static final int USER_OR_ADMIN = Role.ROLE_USER.mask() | Role.ROLE_ADMIN.mask();
+
+    private final int mask;
+
+    /**
+     * 권한 이름 목록으로 권한 집합을 생성합니다. 알 수 없는 권한 이름은 무시합니다.
+     *
+     * @param roles - 권한 이름 목록입니다.
+     * @return 권한 집합입니다.
+     * @since 1.0.0
+     */
+    public static RoleSet of(final Collection<String> roles) {
+        int mask = 0;
+        for (String name : roles) {
+            Role role = ROLES.get(name);
+            if (Objects.nonNull(role)) {
+                mask |= role.mask();
+            }
+        }
+
+        return new RoleSet(mask);
+    }
+
+    public boolean contains(final Role role) {
+        return (mask & role.mask()) != 0;
+    }
+
+    public boolean isUser() {
+        return (mask & USER_OR_ADMIN) != 0;
+    }
+
+    public boolean isAdmin() {
+        return (mask & Role.ROLE_ADMIN.mask()) != 0;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * WWW-Authentication 헤더 원문을 파싱된 권한 집합으로 변환하고 보관하는 캐시입니다.
+ * 헤더 값의 종류는 몇 가지 권한 조합뿐이므로 대부분의 요청은 JSON 역직렬화 없이 처리됩니다.
+ *
+ * @version 1.0.0
+ */
+public class RoleSetCache {
+
+    private final ObjectMapper mapper;
+    private final Cache<String, RoleSet> cache;
+
+    public RoleSetCache(final ObjectMapper mapper, final long maximumSize) {
+        this.mapper = mapper;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .build();
+    }
+
+    /**
+     * 헤더 값에 해당하는 권한 집합을 반환합니다.
+     *
+     * @param roleHeader - 권한 목록을 담은 JSON List 형식의 헤더 값입니다.
+     * @return 권한 집합입니다.
+     * @throws UncheckedIOException - 헤더 값이 JSON List 형식이 아닐 때 발생합니다.
+     * @since 1.0.0
+     */
+    public RoleSet get(final String roleHeader) {
+        return cache.get(roleHeader, this::parse);
+    }
+
+    private RoleSet parse(final String roleHeader) {
+        try {
+            // 권한 목록은 Gateway 에서 JSON List 타입으로 매핑해서 Http Header 로 전달함.
+            List<String> roles = mapper.readValue(roleHeader, new TypeReference<>() {
+            });
+            return RoleSet.of(roles);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
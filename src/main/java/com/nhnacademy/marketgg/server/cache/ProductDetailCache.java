@@ -0,0 +1,78 @@
+package com.nhnacademy.marketgg.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 번호로 조회한 상품 상세 정보를 보관하는 캐시입니다.
+ * 같은 상품을 동시에 조회하면 한 요청만 DB 를 조회하고 나머지 요청은 그 결과를 기다립니다.
+ * 상품이 수정, 삭제, 복구되면 {@link #evict(Long)} 로 캐시를 제거해야 합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class ProductDetailCache {
+
+    private static final String CACHE_NAME = "product.detail";
+
+    private final ProductRepository productRepository;
+    private final Cache<Long, ProductResponse> cache;
+
+    public ProductDetailCache(final ProductRepository productRepository,
+                              @Value("${gg.product-detail.cache.maximum-size:10000}") final long maximumSize,
+                              @Value("${gg.product-detail.cache.ttl:10m}") final Duration ttl,
+                              final MeterRegistry meterRegistry) {
+
+        this.productRepository = productRepository;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(ttl)
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 상품 상세 정보를 반환하고, 없으면 DB 에서 조회한 뒤 캐시에 저장합니다.
+     * 존재하지 않는 상품은 캐시하지 않습니다.
+     *
+     * @param productId - 상품 번호입니다.
+     * @return 상품 상세 정보입니다. 상품이 없으면 null 을 반환합니다.
+     * @since 1.0.0
+     */
+    public ProductResponse get(final Long productId) {
+        return cache.get(productId, productRepository::queryById);
+    }
+
+    /**
+     * 상품의 캐시를 제거합니다.
+     * 트랜잭션 안에서 호출하면 트랜잭션이 끝난 뒤 제거하여, 커밋 전의 상품 정보가 다시 캐시되지 않게 합니다.
+     *
+     * @param productId - 상품 번호입니다.
+     * @since 1.0.0
+     */
+    public void evict(final Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(productId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                cache.invalidate(productId);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.nhnacademy.marketgg.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchHit;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchResponse;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리별 상품 목록과 상품 검색 결과를 정규화한 질의 단위로 짧은 시간 보관하는 캐시입니다.
+ * 키워드는 소문자로 바꾸고 공백을 정리한 뒤 불용어를 제외하여, 표기만 다른 같은 검색이 한 항목을 공유합니다.
+ * 불용어는 검색 Analyzer 가 버리는 단어와 같아야 하며, 현재 Analyzer 는 불용어를 버리지 않으므로 기본값은 비어 있습니다.
+ * 검색 색인이 바뀌면 {@link #invalidate(Collection, Collection)} 로 해당 카테고리와 해당 상품을 담은 항목을 제거합니다.
+ * 질의 종류별 적중률은 gg.product-search.cache.hit-ratio 지표로 확인할 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class ProductSearchCache {
+
+    private static final String CACHE_NAME = "product.search";
+
+    private final Cache<Key, Entry> cache;
+    private final Set<String> stopWords;
+    private final Map<QueryClass, Counter> hits = new EnumMap<>(QueryClass.class);
+    private final Map<QueryClass, Counter> misses = new EnumMap<>(QueryClass.class);
+
+    public ProductSearchCache(@Value("${gg.product-search.cache.maximum-size:10000}") final long maximumSize,
+                              @Value("${gg.product-search.cache.ttl:30s}") final Duration ttl,
+                              @Value("${gg.product-search.cache.stop-words:}") final List<String> stopWords,
+                              final MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(ttl)
+                             .recordStats()
+                             .build();
+        this.stopWords = stopWords.stream()
+                                  .map(word -> word.strip().toLowerCase(Locale.ROOT))
+                                  .filter(word -> !word.isEmpty())
+                                  .collect(Collectors.toUnmodifiableSet());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        for (QueryClass queryClass : QueryClass.values()) {
+            String tag = queryClass.name().toLowerCase(Locale.ROOT);
+            Counter hit = Counter.builder("gg.product-search.cache.requests")
+                                 .description("Product search cache lookups by query class")
+                                 .tag("class", tag)
+                                 .tag("result", "hit")
+                                 .register(meterRegistry);
+            Counter miss = Counter.builder("gg.product-search.cache.requests")
+                                  .description("Product search cache lookups by query class")
+                                  .tag("class", tag)
+                                  .tag("result", "miss")
+                                  .register(meterRegistry);
+            hits.put(queryClass, hit);
+            misses.put(queryClass, miss);
+            Gauge.builder("gg.product-search.cache.hit-ratio", () -> hitRatio(hit, miss))
+                 .description("Ratio of product search cache lookups served from the cache")
+                 .tag("class", tag)
+                 .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 캐시된 카테고리별 상품 목록을 반환하고, 없으면 조회한 뒤 캐시에 저장합니다.
+     * 조회 중 예외가 발생하면 캐시하지 않고 그대로 던집니다.
+     *
+     * @param categoryCode - 카테고리 코드입니다.
+     * @param pageable     - 페이지 요청입니다.
+     * @param loader       - 캐시에 없을 때 상품 목록을 조회합니다.
+     * @return 상품 목록입니다.
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public List<ElasticProduct> getCategoryPage(final String categoryCode, final Pageable pageable,
+                                                final Supplier<List<ElasticProduct>> loader) {
+
+        Key key = new Key(QueryClass.CATEGORY, categoryCode,
+                          pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort());
+
+        return (List<ElasticProduct>) get(key, () -> {
+            List<ElasticProduct> products = loader.get();
+            return new Entry(products, products.stream().map(ElasticProduct::getId).collect(Collectors.toSet()));
+        });
+    }
+
+    /**
+     * 캐시된 상품 검색 결과를 반환하고, 없으면 검색한 뒤 캐시에 저장합니다.
+     * 조회 중 예외가 발생하면 캐시하지 않고 그대로 던집니다.
+     *
+     * @param searchRequest - 상품 검색 요청입니다.
+     * @param loader        - 캐시에 없을 때 상품을 검색합니다.
+     * @return 상품 검색 결과입니다.
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public SingleResponse<ProductSearchResponse> getSearch(
+        final EsProductSearchRequest searchRequest,
+        final Supplier<SingleResponse<ProductSearchResponse>> loader) {
+
+        Key key = new Key(QueryClass.KEYWORD, searchRequest.getCategoryCode(),
+                          String.join("\u0000", normalize(searchRequest.getKeyword()),
+                                      String.valueOf(searchRequest.getLabelName()),
+                                      String.valueOf(searchRequest.getMinPrice()),
+                                      String.valueOf(searchRequest.getMaxPrice()),
+                                      String.valueOf(searchRequest.getPriceInterval()),
+                                      String.valueOf(searchRequest.getSize()),
+                                      String.valueOf(searchRequest.getCursor())));
+
+        return (SingleResponse<ProductSearchResponse>) get(key, () -> {
+            SingleResponse<ProductSearchResponse> response = loader.get();
+            return new Entry(response, response.getData()
+                                               .getProducts()
+                                               .stream()
+                                               .map(ProductSearchHit::getProduct)
+                                               .map(ElasticProduct::getId)
+                                               .collect(Collectors.toSet()));
+        });
+    }
+
+    /**
+     * 색인이 바뀐 상품과 카테고리에 영향을 받는 항목을 제거합니다.
+     * 바뀐 카테고리로 걸러낸 항목, 카테고리 조건이 없는 검색 항목, 바뀐 상품을 담고 있는 항목이 제거 대상이며,
+     * 마지막 조건으로 카테고리를 옮기거나 삭제한 상품이 이전 카테고리의 결과에 남지 않게 합니다.
+     *
+     * @param productIds    - 색인이 바뀐 상품 번호 목록입니다.
+     * @param categoryCodes - 바뀐 상품이 현재 속한 카테고리 코드 목록입니다.
+     * @since 1.0.0
+     */
+    public void invalidate(final Collection<Long> productIds, final Collection<String> categoryCodes) {
+        if (productIds.isEmpty() && categoryCodes.isEmpty()) {
+            return;
+        }
+
+        cache.asMap().entrySet().removeIf(cached -> {
+            Key key = cached.getKey();
+            return Objects.isNull(key.categoryCode)
+                || categoryCodes.contains(key.categoryCode)
+                || productIds.stream().anyMatch(cached.getValue().productIds::contains);
+        });
+    }
+
+    /**
+     * 키워드를 캐시 키로 쓸 수 있게 정규화합니다.
+     * 키워드가 없으면 빈 문자열과 구분되도록 null 을 나타내는 값을 반환합니다.
+     */
+    String normalize(final String keyword) {
+        if (Objects.isNull(keyword) || keyword.isBlank()) {
+            return "\u0001";
+        }
+
+        return Arrays.stream(keyword.strip().toLowerCase(Locale.ROOT).split("\\s+"))
+                     .filter(word -> !stopWords.contains(word))
+                     .collect(Collectors.joining(" "));
+    }
+
+    private Object get(final Key key, final Supplier<Entry> loader) {
+        Entry cached = cache.getIfPresent(key);
+        if (Objects.nonNull(cached)) {
+            hits.get(key.queryClass).increment();
+            return cached.value;
+        }
+
+        misses.get(key.queryClass).increment();
+        return cache.get(key, k -> loader.get()).value;
+    }
+
+    private static double hitRatio(final Counter hit, final Counter miss) {
+        double total = hit.count() + miss.count();
+        return total == 0 ? 0 : hit.count() / total;
+    }
+
+    /**
+     * 캐시 항목의 질의 종류입니다. 적중률을 종류별로 기록합니다.
+     */
+    private enum QueryClass {
+        CATEGORY, KEYWORD
+    }
+
+    private static final class Key {
+
+        private final QueryClass queryClass;
+        private final String categoryCode;
+        private final String query;
+
+        private Key(final QueryClass queryClass, final String categoryCode, final String query) {
+            this.queryClass = queryClass;
+            this.categoryCode = categoryCode;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) obj;
+            return queryClass == other.queryClass && Objects.equals(categoryCode, other.categoryCode)
+                && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryClass, categoryCode, query);
+        }
+
+    }
+
+    /**
+     * 캐시된 결과와 결과에 포함된 상품 번호입니다.
+     */
+    private static final class Entry {
+
+        private final Object value;
+        private final Set<Long> productIds;
+
+        private Entry(final Object value, final Set<Long> productIds) {
+            this.value = value;
+            this.productIds = productIds;
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.nhnacademy.marketgg.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.accesslog.AccessLogInterceptor;
+import com.nhnacademy.marketgg.server.accesslog.AccessLogWriter;
+import com.nhnacademy.marketgg.server.accesslog.EndpointLatencyHistograms;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 접근 로그와 엔드포인트별 응답 시간 기록을 설정합니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AccessLogConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper mapper;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${gg.access-log.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${gg.access-log.always-log-errors:true}")
+    private boolean alwaysLogErrors;
+
+    @Value("${gg.access-log.buffer-size:8192}")
+    private int bufferSize;
+
+    @Bean
+    public EndpointLatencyHistograms endpointLatencyHistograms() {
+        return new EndpointLatencyHistograms();
+    }
+
+    /**
+     * 접근 로그를 출력하는 백그라운드 Writer 를 생성합니다.
+     * 버려진 로그 수와 출력을 기다리는 로그 수를 지표로 등록합니다.
+     *
+     * @return 시작된 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean(destroyMethod = "close")
+    public AccessLogWriter accessLogWriter() {
+        AccessLogWriter writer = new AccessLogWriter(bufferSize, mapper);
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("gg.access-log.dropped", writer, AccessLogWriter::getDropped)
+                           .description("The number of access log records dropped because the buffer was full")
+                           .register(registry);
+            Gauge.builder("gg.access-log.pending", writer, AccessLogWriter::getPending)
+                 .description("The number of access log records waiting to be written")
+                 .register(registry);
+        });
+        writer.start();
+
+        return writer;
+    }
+
+    @Bean
+    public AccessLogInterceptor accessLogInterceptor() {
+        return new AccessLogInterceptor(endpointLatencyHistograms(), accessLogWriter(), sampleRate, alwaysLogErrors);
+    }
+
+    /**
+     * 인증, 권한 처리 시간까지 포함하도록 가장 먼저 실행되는 Interceptor 로 등록합니다.
+     *
+     * @param registry - Interceptor Registry 입니다.
+     * @since 1.0.0
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(accessLogInterceptor())
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+}
@@ -5,6 +5,7 @@ import com.nhnacademy.marketgg.server.repository.JpaRepositoryMarker;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
@@ -12,11 +13,23 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         type = FilterType.ASSIGNABLE_TYPE,
         classes = { ElasticRepositoryMarker.class }),
                        basePackageClasses = { JpaRepositoryMarker.class })
-@EnableElasticsearchRepositories(excludeFilters = @ComponentScan.Filter(
-        type = FilterType.ASSIGNABLE_TYPE,
-        classes = { JpaRepositoryMarker.class }),
-                                 basePackageClasses = { ElasticRepositoryMarker.class })
 @Configuration
 public class DbConfig {
 
+    /**
+     * Elasticsearch 저장소를 등록합니다.
+     * lucene 프로필에서는 {@link LuceneConfig} 의 Lucene 저장소를 대신 사용합니다.
+     *
+     * @version 1.0.0
+     */
+    @EnableElasticsearchRepositories(excludeFilters = @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE,
+            classes = { JpaRepositoryMarker.class }),
+                                     basePackageClasses = { ElasticRepositoryMarker.class })
+    @Profile("!lucene")
+    @Configuration
+    static class ElasticsearchRepositoryConfig {
+
+    }
+
 }
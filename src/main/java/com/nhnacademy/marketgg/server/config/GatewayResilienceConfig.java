@@ -0,0 +1,119 @@
+package com.nhnacademy.marketgg.server.config;
+
+import com.nhnacademy.marketgg.server.exception.RequestQueueFullException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Gateway 호출을 보호하는 Circuit Breaker 와 Bulkhead 를 설정합니다.
+ * Gateway 가 느려지거나 장애가 나면 호출을 빠르게 실패시켜 Tomcat 스레드가 묶이지 않게 합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+public class GatewayResilienceConfig {
+
+    private static final String NAME = "gateway";
+
+    /**
+     * Gateway 호출에 사용할 Circuit Breaker 를 생성합니다.
+     * 4xx 응답, Bulkhead 거절, 요청 대기열 초과는 Gateway 의 장애가 아니므로 실패로 기록하지 않습니다.
+     *
+     * @param failureRateThreshold      - Circuit 을 여는 실패율(%)입니다.
+     * @param slowCallRateThreshold     - Circuit 을 여는 느린 호출 비율(%)입니다.
+     * @param slowCallDuration          - 느린 호출로 판단하는 응답 시간입니다.
+     * @param slidingWindowSize         - 실패율을 계산할 최근 호출 수입니다.
+     * @param minimumNumberOfCalls      - 실패율을 계산하기 위한 최소 호출 수입니다.
+     * @param waitInOpenState           - Circuit 이 열린 뒤 Half-Open 으로 바뀌기까지의 시간입니다.
+     * @param permittedCallsInHalfOpen  - Half-Open 상태에서 허용할 호출 수입니다.
+     * @param meterRegistry             - 상태 지표를 등록할 Registry 입니다.
+     * @return Gateway 용 Circuit Breaker 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public CircuitBreaker gatewayCircuitBreaker(
+        @Value("${gg.gateway.circuit-breaker.failure-rate-threshold:50}") final float failureRateThreshold,
+        @Value("${gg.gateway.circuit-breaker.slow-call-rate-threshold:80}") final float slowCallRateThreshold,
+        @Value("${gg.gateway.circuit-breaker.slow-call-duration:2s}") final Duration slowCallDuration,
+        @Value("${gg.gateway.circuit-breaker.sliding-window-size:50}") final int slidingWindowSize,
+        @Value("${gg.gateway.circuit-breaker.minimum-number-of-calls:20}") final int minimumNumberOfCalls,
+        @Value("${gg.gateway.circuit-breaker.wait-in-open-state:10s}") final Duration waitInOpenState,
+        @Value("${gg.gateway.circuit-breaker.permitted-calls-in-half-open:5}") final int permittedCallsInHalfOpen,
+        final MeterRegistry meterRegistry) {
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                                                          .failureRateThreshold(failureRateThreshold)
+                                                          .slowCallRateThreshold(slowCallRateThreshold)
+                                                          .slowCallDurationThreshold(slowCallDuration)
+                                                          .slidingWindowSize(slidingWindowSize)
+                                                          .minimumNumberOfCalls(minimumNumberOfCalls)
+                                                          .waitDurationInOpenState(waitInOpenState)
+                                                          .permittedNumberOfCallsInHalfOpenState(
+                                                              permittedCallsInHalfOpen)
+                                                          .ignoreExceptions(HttpClientErrorException.class,
+                                                                            IllegalArgumentException.class,
+                                                                            BulkheadFullException.class,
+                                                                            RequestQueueFullException.class)
+                                                          .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("gateway circuit breaker: {}", event.getStateTransition());
+            Counter.builder("resilience4j.circuitbreaker.state.transitions")
+                   .description("The number of circuit breaker state transitions")
+                   .tag("name", NAME)
+                   .tag("from", event.getStateTransition().getFromState().name().toLowerCase())
+                   .tag("to", event.getStateTransition().getToState().name().toLowerCase())
+                   .register(meterRegistry)
+                   .increment();
+        });
+
+        return circuitBreaker;
+    }
+
+    /**
+     * Gateway 를 동시에 호출할 수 있는 요청 수를 제한하는 Bulkhead 를 생성합니다.
+     *
+     * @param maxConcurrentCalls - 동시에 Gateway 를 호출할 수 있는 최대 요청 수입니다.
+     * @param maxWait            - 호출 허가를 기다리는 최대 시간입니다.
+     * @param meterRegistry      - 지표를 등록할 Registry 입니다.
+     * @return Gateway 용 Bulkhead 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Bulkhead gatewayBulkhead(
+        @Value("${gg.gateway.bulkhead.max-concurrent-calls:50}") final int maxConcurrentCalls,
+        @Value("${gg.gateway.bulkhead.max-wait:0ms}") final Duration maxWait,
+        final MeterRegistry meterRegistry) {
+
+        BulkheadConfig config = BulkheadConfig.custom()
+                                              .maxConcurrentCalls(maxConcurrentCalls)
+                                              .maxWaitDuration(maxWait)
+                                              .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        return registry.bulkhead(NAME);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.nhnacademy.marketgg.server.config;
+
+import com.nhnacademy.marketgg.server.auth.AuthInfoProvider;
+import com.nhnacademy.marketgg.server.auth.IdentityPrefetchInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Collections;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Gateway 회원 정보 조회와 DB 회원 정보 조회를 동시에 수행하는 모드를 설정합니다.
+ * {@code gg.identity.prefetch.enabled} 가 true 일 때만 등록됩니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "gg.identity.prefetch", name = "enabled", havingValue = "true")
+public class IdentityPrefetchConfig {
+
+    private static final String EXECUTOR_NAME = "identity-prefetch";
+
+    /**
+     * Gateway 조회에 사용할 Executor 를 생성합니다.
+     * 대기열이 가득 차면 요청 스레드에서 직접 조회하므로 순차 실행과 같은 동작으로 돌아갑니다.
+     *
+     * @param poolSize      - 스레드 수입니다.
+     * @param queueCapacity - 대기열 크기입니다.
+     * @param meterRegistry - Executor 지표를 등록할 Registry 입니다.
+     * @return Gateway 조회용 Executor 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public ThreadPoolTaskExecutor identityPrefetchExecutor(
+        @Value("${gg.identity.prefetch.pool-size:32}") final int poolSize,
+        @Value("${gg.identity.prefetch.queue-capacity:100}") final int queueCapacity,
+        final MeterRegistry meterRegistry) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(EXECUTOR_NAME + "-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), EXECUTOR_NAME, Collections.emptyList())
+            .bindTo(meterRegistry);
+
+        return executor;
+    }
+
+    @Bean
+    public IdentityPrefetchInterceptor identityPrefetchInterceptor(
+        final AuthInfoProvider authInfoProvider,
+        final ThreadPoolTaskExecutor identityPrefetchExecutor) {
+
+        return new IdentityPrefetchInterceptor(authInfoProvider, identityPrefetchExecutor);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.marketgg.server.config;
+
+import com.nhnacademy.marketgg.server.auth.IdentityPrefetchInterceptor;
+import com.nhnacademy.marketgg.server.auth.RequestIdentityArgumentResolver;
+import com.nhnacademy.marketgg.server.auth.RoleCheckInterceptor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청의 사용자 식별 정보를 처리하는 Interceptor 와 ArgumentResolver 를 등록합니다.
+ * 조회를 미리 시작하는 Interceptor 는 권한 검사를 통과한 요청에만 동작하도록 권한 검사 뒤에 등록합니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class IdentityWebConfig implements WebMvcConfigurer {
+
+    private final RoleCheckInterceptor roleCheckInterceptor;
+    private final RequestIdentityArgumentResolver requestIdentityArgumentResolver;
+    private final ObjectProvider<IdentityPrefetchInterceptor> identityPrefetchInterceptor;
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(roleCheckInterceptor);
+        identityPrefetchInterceptor.ifAvailable(registry::addInterceptor);
+    }
+
+    @Override
+    public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(requestIdentityArgumentResolver);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.nhnacademy.marketgg.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.elastic.lucene.LuceneBoardRepository;
+import com.nhnacademy.marketgg.server.elastic.lucene.LuceneIndex;
+import com.nhnacademy.marketgg.server.elastic.lucene.LuceneProductRepository;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Elasticsearch 없이 실행할 수 있도록 상품, 게시글 검색 저장소를 내장 Lucene 색인으로 등록합니다.
+ * CI, 로컬 실행, 검색 부하 테스트에서 lucene 프로필을 함께 활성화하여 사용합니다.
+ *
+ * @version 1.0.0
+ */
+@Profile("lucene")
+@Configuration
+public class LuceneConfig {
+
+    private final Path directory;
+    private final Duration maxStale;
+    private final Duration commitInterval;
+
+    public LuceneConfig(@Value("${gg.lucene.directory:${java.io.tmpdir}/marketgg-lucene}") final Path directory,
+                        @Value("${gg.lucene.max-stale:1s}") final Duration maxStale,
+                        @Value("${gg.lucene.commit-interval:30s}") final Duration commitInterval) {
+
+        this.directory = directory;
+        this.maxStale = maxStale;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * 색인과 검색에 사용할 Analyzer 를 생성합니다.
+     *
+     * @return Analyzer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean(destroyMethod = "close")
+    public Analyzer luceneAnalyzer() {
+        return new StandardAnalyzer();
+    }
+
+    /**
+     * 상품 검색 저장소를 생성합니다.
+     *
+     * @param luceneAnalyzer - 색인과 검색에 사용할 Analyzer 입니다.
+     * @param mapper         - 문서를 직렬화할 ObjectMapper 입니다.
+     * @return 상품 검색 저장소를 반환합니다.
+     * @throws IOException 색인을 열 수 없을 때 발생합니다.
+     * @since 1.0.0
+     */
+    @Bean(destroyMethod = "close")
+    public LuceneProductRepository elasticProductRepository(final Analyzer luceneAnalyzer, final ObjectMapper mapper)
+        throws IOException {
+
+        return new LuceneProductRepository(
+            new LuceneIndex(directory.resolve("products"), luceneAnalyzer, maxStale, commitInterval),
+            luceneAnalyzer, mapper);
+    }
+
+    /**
+     * 게시글 검색 저장소를 생성합니다.
+     *
+     * @param luceneAnalyzer - 색인과 검색에 사용할 Analyzer 입니다.
+     * @param mapper         - 문서를 직렬화할 ObjectMapper 입니다.
+     * @return 게시글 검색 저장소를 반환합니다.
+     * @throws IOException 색인을 열 수 없을 때 발생합니다.
+     * @since 1.0.0
+     */
+    @Bean(destroyMethod = "close")
+    public LuceneBoardRepository elasticBoardRepository(final Analyzer luceneAnalyzer, final ObjectMapper mapper)
+        throws IOException {
+
+        return new LuceneBoardRepository(
+            new LuceneIndex(directory.resolve("boards"), luceneAnalyzer, maxStale, commitInterval),
+            mapper);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.marketgg.server.config;
+
+import com.nhnacademy.marketgg.server.exception.RequestQueueFullException;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 커넥션 풀을 사용 중이거나 기다리는 요청 수를 제한하는 Interceptor 입니다.
+ * 한도를 넘는 요청은 커넥션을 기다리지 않고 {@link RequestQueueFullException} 으로 바로 실패합니다.
+ * RestTemplate 이 I/O 오류로 감싸지 않도록 unchecked 예외를 던지며, Circuit Breaker 는 이를 원격 서버의 실패로 기록하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+public class RequestQueueLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Semaphore permits;
+
+    public RequestQueueLimitInterceptor(final int maxConcurrentRequests) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+                                        final ClientHttpRequestExecution execution) throws IOException {
+
+        if (!permits.tryAcquire()) {
+            throw new RequestQueueFullException(request.getURI().toString());
+        }
+
+        try {
+            return execution.execute(request, body);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 현재 추가로 받을 수 있는 요청 수를 반환합니다.
+     *
+     * @return 남은 허용 요청 수입니다.
+     * @since 1.0.0
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+}
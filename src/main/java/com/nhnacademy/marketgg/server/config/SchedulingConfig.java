@@ -0,0 +1,15 @@
+package com.nhnacademy.marketgg.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 백그라운드 작업을 활성화합니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
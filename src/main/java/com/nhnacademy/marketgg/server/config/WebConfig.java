@@ -1,9 +1,22 @@
 package com.nhnacademy.marketgg.server.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -15,16 +28,136 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class WebConfig {
 
+    private static final String POOL_NAME = "rest-template";
+
+    /**
+     * RestTemplate 이 사용할 커넥션 풀을 생성합니다.
+     * Gateway 로 가는 Route 는 별도의 최대 커넥션 수를 가집니다.
+     *
+     * @param gateway             - Gateway 의 Origin 입니다.
+     * @param maxTotal            - 전체 최대 커넥션 수입니다.
+     * @param maxPerRoute         - Route 별 기본 최대 커넥션 수입니다.
+     * @param gatewayMaxPerRoute  - Gateway Route 의 최대 커넥션 수입니다.
+     * @param validateAfterIdle   - 커넥션 재사용 전 유효성 검사를 하는 유휴 시간입니다.
+     * @param meterRegistry       - 커넥션 풀 지표를 등록할 Registry 입니다.
+     * @return 커넥션 풀을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager connectionManager(
+        @Value("${gg.gateway.origin}") final String gateway,
+        @Value("${gg.http-client.max-total:200}") final int maxTotal,
+        @Value("${gg.http-client.max-per-route:50}") final int maxPerRoute,
+        @Value("${gg.http-client.gateway-max-per-route:100}") final int gatewayMaxPerRoute,
+        @Value("${gg.http-client.validate-after-idle:2s}") final Duration validateAfterIdle,
+        final MeterRegistry meterRegistry) {
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setMaxPerRoute(gatewayRoute(gateway), gatewayMaxPerRoute);
+        connectionManager.setValidateAfterInactivity((int) validateAfterIdle.toMillis());
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    /**
+     * 실제 요청이 사용하는 Route 와 같도록 포트가 생략된 Gateway 주소에 scheme 의 기본 포트를 채워 Route 를 만듭니다.
+     *
+     * @param gateway - Gateway 주소입니다.
+     * @return Gateway Route 를 반환합니다.
+     * @since 1.0.0
+     */
+    static HttpRoute gatewayRoute(final String gateway) {
+        HttpHost host = HttpHost.create(gateway);
+        boolean secure = "https".equalsIgnoreCase(host.getSchemeName());
+        int port = host.getPort();
+        if (port < 0) {
+            port = secure ? 443 : 80;
+        }
+
+        return new HttpRoute(new HttpHost(host.getHostName(), port, host.getSchemeName()), null, secure);
+    }
+
+    /**
+     * Keep-Alive 커넥션을 재사용하는 HttpClient 를 생성합니다.
+     * 유휴 상태가 길어진 커넥션과 만료된 커넥션은 백그라운드에서 정리합니다.
+     *
+     * @param connectionManager        - 커넥션 풀입니다.
+     * @param idleTimeout              - 유휴 커넥션을 정리하는 기준 시간입니다.
+     * @param keepAlive                - 서버가 Keep-Alive 시간을 알려주지 않을 때 사용할 시간입니다.
+     * @param connectionRequestTimeout - 풀에서 커넥션을 얻기 위해 기다리는 최대 시간입니다.
+     * @return HttpClient 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(
+        final PoolingHttpClientConnectionManager connectionManager,
+        @Value("${gg.http-client.idle-timeout:30s}") final Duration idleTimeout,
+        @Value("${gg.http-client.keep-alive:30s}") final Duration keepAlive,
+        @Value("${gg.http-client.connection-request-timeout:1s}") final Duration connectionRequestTimeout) {
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectionRequestTimeout(
+                                                       (int) connectionRequestTimeout.toMillis())
+                                                   .build();
+
+        return HttpClients.custom()
+                          .setConnectionManager(connectionManager)
+                          .setDefaultRequestConfig(requestConfig)
+                          .setKeepAliveStrategy((response, context) -> {
+                              long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                                  .getKeepAliveDuration(response, context);
+                              return serverKeepAlive > 0 ? serverKeepAlive : keepAlive.toMillis();
+                          })
+                          .evictExpiredConnections()
+                          .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                          .build();
+    }
+
+    /**
+     * 커넥션 풀을 사용 중이거나 기다리는 요청 수를 제한하는 Interceptor 를 생성합니다.
+     *
+     * @param maxTotal          - 전체 최대 커넥션 수입니다.
+     * @param maxQueuedRequests - 커넥션을 기다릴 수 있는 최대 요청 수입니다.
+     * @param meterRegistry     - 대기열 지표를 등록할 Registry 입니다.
+     * @return 요청 수를 제한하는 Interceptor 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public RequestQueueLimitInterceptor requestQueueLimitInterceptor(
+        @Value("${gg.http-client.max-total:200}") final int maxTotal,
+        @Value("${gg.http-client.max-queued-requests:100}") final int maxQueuedRequests,
+        final MeterRegistry meterRegistry) {
+
+        RequestQueueLimitInterceptor interceptor = new RequestQueueLimitInterceptor(maxTotal + maxQueuedRequests);
+
+        Gauge.builder("httpcomponents.httpclient.queue.available", interceptor,
+                      RequestQueueLimitInterceptor::availablePermits)
+             .description("The number of requests that can still be admitted")
+             .tag("httpclient", POOL_NAME)
+             .register(meterRegistry);
+
+        return interceptor;
+    }
+
     /**
      * RestTemplate 을 원하는 값으로 설정 후 반환합니다.
      *
-     * @param builder - RestTemplate 의 설정을 변경할 수 있는 Builder 객체입니다.
+     * @param builder     - RestTemplate 의 설정을 변경할 수 있는 Builder 객체입니다.
+     * @param httpClient  - 커넥션 풀을 사용하는 HttpClient 입니다.
+     * @param interceptor - 요청 수를 제한하는 Interceptor 입니다.
      * @return 원하는 값으로 설정한 RestTemplate 객체를 반환합니다.
      * @since 1.0.0
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient,
+                                     RequestQueueLimitInterceptor interceptor) {
         return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(interceptor)
                 .setReadTimeout(Duration.ofSeconds(10L))
                 .setConnectTimeout(Duration.ofSeconds(5L))
                 .build();
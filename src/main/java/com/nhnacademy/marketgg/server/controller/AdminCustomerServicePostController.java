@@ -1,7 +1,9 @@
 package com.nhnacademy.marketgg.server.controller;
 
 import com.nhnacademy.marketgg.server.constant.CustomerServicePostReason;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostStatusUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.PostResponseForOtoInquiry;
 import com.nhnacademy.marketgg.server.service.CustomerServicePostService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,7 @@ import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.validation.Valid;
 
 /**
  * 관리자의 고객센터 관리에 관련된 Rest Controller 입니다.
@@ -69,6 +72,25 @@ public class AdminCustomerServicePostController {
                              .body(inquiryResponses);
     }
 
+    /**
+     * 모든 1:1 문의 목록을 커서 기반으로 조회하는 GET Mapping 을 지원합니다.
+     * cursor 파라미터가 있으면 이 Mapping 이 선택되며, 빈 값이면 첫 페이지를 조회합니다.
+     *
+     * @param pageRequest - 커서와 페이지 크기입니다.
+     * @return 1:1 문의 목록과 다음 커서를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping(value = "/oto-inquiries", params = "cursor")
+    public ResponseEntity<CursorPage<PostResponseForOtoInquiry>> retrieveOtoInquiriesByCursor(
+            @Valid final CursorPageRequest pageRequest) {
+        CursorPage<PostResponseForOtoInquiry> inquiryResponses =
+                customerServicePostService.retrieveOtoInquiriesByCursor(pageRequest);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .location(URI.create(DEFAULT_ADMIN_CUSTOMER_SERVICE + "/oto-inquiries"))
+                             .body(inquiryResponses);
+    }
+
     /**
      * 1:1 문의의 답변 상태를 변경할 수 있는 PATCH Mapping 을 지원합니다.
      *
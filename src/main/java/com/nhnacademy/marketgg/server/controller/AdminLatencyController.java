@@ -0,0 +1,57 @@
+package com.nhnacademy.marketgg.server.controller;
+
+import com.nhnacademy.marketgg.server.accesslog.EndpointLatencyHistograms;
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.annotation.RoleCheck;
+import com.nhnacademy.marketgg.server.dto.response.common.CommonResponse;
+import com.nhnacademy.marketgg.server.dto.response.common.ListResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자가 엔드포인트별 응답 시간 분포를 조회할 수 있는 Mapping 을 지원합니다.
+ *
+ * @version 1.0.0
+ */
+@RoleCheck(accessLevel = Role.ROLE_ADMIN)
+@RestController
+@RequestMapping("/admin/latencies")
+@RequiredArgsConstructor
+public class AdminLatencyController {
+
+    private final EndpointLatencyHistograms endpointLatencyHistograms;
+
+    /**
+     * 애플리케이션 시작 혹은 마지막 초기화 이후 엔드포인트별 응답 시간 분포를 반환합니다.
+     *
+     * @return 엔드포인트별 요청 수와 p50, p90, p99, p99.9, 최대 응답 시간(ms)을 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping
+    public ResponseEntity<CommonResponse> retrieveLatencies() {
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(new ListResponse<>(endpointLatencyHistograms.snapshot()));
+    }
+
+    /**
+     * 누적된 응답 시간 분포를 초기화합니다.
+     *
+     * @return 204 No Content
+     * @since 1.0.0
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetLatencies() {
+        endpointLatencyHistograms.reset();
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                             .build();
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.marketgg.server.controller;
+
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.annotation.RoleCheck;
+import com.nhnacademy.marketgg.server.dto.response.common.CommonResponse;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.service.ProductImportService;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 관리자가 상품을 파일로 일괄 등록할 수 있는 Mapping 을 지원합니다.
+ *
+ * @version 1.0.0
+ */
+@RoleCheck(accessLevel = Role.ROLE_ADMIN)
+@RestController
+@RequestMapping("/admin/products/import")
+@RequiredArgsConstructor
+public class AdminProductImportController {
+
+    private final ProductImportService productImportService;
+
+    /**
+     * 상품 파일과 이미지 압축 파일로 일괄 등록을 시작합니다.
+     * 상품 파일은 첫 행이 필드 이름인 CSV 이거나 한 줄에 상품 하나씩 적은 NDJSON 이며,
+     * image 필드에 이미지 압축 파일 안의 경로를 적으면 대표 이미지로 등록합니다.
+     *
+     * @param file   - 상품 파일입니다. 확장자(.csv, .ndjson, .jsonl)나 Content-Type 으로 형식을 판단합니다.
+     * @param images - 대표 이미지를 담은 zip 파일입니다.
+     * @return 작업 번호와 진행 상황을 담은 응답 객체를 반환합니다.
+     * @throws IOException - 업로드한 파일을 저장하지 못하면 IOException 을 던집니다.
+     * @since 1.0.0
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CommonResponse> importProducts(@RequestPart final MultipartFile file,
+                                                         @RequestPart(required = false) final MultipartFile images)
+        throws IOException {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(new SingleResponse<>(productImportService.startImport(file, images)));
+    }
+
+    /**
+     * 일괄 등록 작업의 진행 상황과 등록하지 못한 행의 오류를 조회합니다.
+     *
+     * @param jobId - 작업 번호입니다.
+     * @return 진행 상황을 담은 응답 객체를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CommonResponse> retrieveImport(@PathVariable final Long jobId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(new SingleResponse<>(productImportService.retrieveImport(jobId)));
+    }
+
+}
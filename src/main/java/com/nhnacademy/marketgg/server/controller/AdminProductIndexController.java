@@ -0,0 +1,59 @@
+package com.nhnacademy.marketgg.server.controller;
+
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.annotation.RoleCheck;
+import com.nhnacademy.marketgg.server.dto.response.common.CommonResponse;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.service.ProductReindexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자가 상품 검색 색인을 재구축할 수 있는 Mapping 을 지원합니다.
+ * 재구축은 Elasticsearch 에서만 지원하므로 lucene 프로필에서는 등록하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+@Profile("!lucene")
+@RoleCheck(accessLevel = Role.ROLE_ADMIN)
+@RestController
+@RequestMapping("/admin/product-index")
+@RequiredArgsConstructor
+public class AdminProductIndexController {
+
+    private final ProductReindexService productReindexService;
+
+    /**
+     * 상품 테이블로 검색 색인 재구축을 시작하거나 중단된 재구축을 이어서 진행합니다.
+     *
+     * @return 작업의 진행 상황을 담은 응답 객체를 반환합니다.
+     * @since 1.0.0
+     */
+    @PostMapping("/reindex")
+    public ResponseEntity<CommonResponse> reindex() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(new SingleResponse<>(productReindexService.reindex()));
+    }
+
+    /**
+     * 가장 최근 재구축 작업의 진행 상황과 처리량을 조회합니다.
+     *
+     * @return 작업의 진행 상황을 담은 응답 객체를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping("/reindex")
+    public ResponseEntity<CommonResponse> retrieveReindexStatus() {
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(new SingleResponse<>(productReindexService.retrieveStatus()));
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.nhnacademy.marketgg.server.controller;
 
+import com.nhnacademy.marketgg.server.exception.RequestQueueFullException;
+import com.nhnacademy.marketgg.server.exception.auth.GatewayUnavailableException;
 import com.nhnacademy.marketgg.server.exception.auth.UnAuthenticException;
 import com.nhnacademy.marketgg.server.exception.auth.UnAuthorizationException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,4 +30,18 @@ public class AuthControllerAdvice {
                              .build();
     }
 
+    @ExceptionHandler(GatewayUnavailableException.class)
+    public ResponseEntity<Void> handleGatewayUnavailable(GatewayUnavailableException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException
+            || cause instanceof RequestQueueFullException) {
+            log.warn("인증 서버 호출 거부: {}", cause.getMessage());
+        } else {
+            log.error("인증 서버 장애", e);
+        }
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .build();
+    }
+
 }
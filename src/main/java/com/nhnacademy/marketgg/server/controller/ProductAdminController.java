@@ -1,8 +1,10 @@
 package com.nhnacademy.marketgg.server.controller;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.DefaultPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.CommonResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
@@ -10,6 +12,7 @@ import com.nhnacademy.marketgg.server.service.ProductService;
 import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -68,7 +72,7 @@ public class ProductAdminController {
      * @since 1.0.0
      */
     @GetMapping
-    public ResponseEntity<? extends CommonResponse> retrieveProducts(DefaultPageRequest pageRequest) {
+    public ResponseEntity<? extends CommonResponse> retrieveProducts(@Valid DefaultPageRequest pageRequest) {
         SingleResponse<Page> productList = this.productService.retrieveProducts(pageRequest.getPageable());
 
         return ResponseEntity.status(HttpStatus.OK)
@@ -77,18 +81,44 @@ public class ProductAdminController {
                              .body(productList);
     }
 
+    /**
+     * 전체 상품 목록을 커서 기반으로 조회하는 GET Mapping 을 지원합니다.
+     * cursor 파라미터가 있으면 이 Mapping 이 선택되며, 빈 값이면 첫 페이지를 조회합니다.
+     *
+     * @param pageRequest - 커서와 페이지 크기입니다.
+     * @return - 상품 목록과 다음 커서를 담은 응답 객체를 반환 합니다.
+     * @since 1.0.0
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<? extends CommonResponse> retrieveProductsByCursor(
+        @Valid final CursorPageRequest pageRequest) {
+
+        SingleResponse<CursorPage<ProductResponse>> productList =
+            this.productService.retrieveProductsByCursor(pageRequest);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .location(URI.create(DEFAULT_ADMIN_PRODUCT))
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(productList);
+    }
+
     /**
      * 상품 상세 정보 조회를 위한 GET Mapping 을 지원합니다.
+     * expand 가 true 이면 카테고리 분류, 이미지, 라벨을 함께 조회합니다.
      *
      * @param productId - 상품의 PK로 조회합니다.
-     * @return - ProductResponse 를 담은 응답 객체를 반환 합니다.
+     * @param expand    - 카테고리 분류, 이미지, 라벨을 함께 조회할지 여부입니다.
+     * @return - ProductResponse 또는 ProductDetailResponse 를 담은 응답 객체를 반환 합니다.
      * @since 1.0.0
      */
     @GetMapping("/{productId}")
     public ResponseEntity<? extends CommonResponse> retrieveProductDetails(
-        @PathVariable final Long productId) {
+        @PathVariable final Long productId,
+        @RequestParam(defaultValue = "false") final boolean expand) {
 
-        SingleResponse<ProductResponse> response = this.productService.retrieveProductDetails(productId);
+        SingleResponse<?> response = expand
+            ? this.productService.retrieveExpandedProductDetails(productId)
+            : this.productService.retrieveProductDetails(productId);
 
         return ResponseEntity.status(HttpStatus.OK)
                              .location(URI.create(DEFAULT_ADMIN_PRODUCT))
@@ -1,10 +1,20 @@
 package com.nhnacademy.marketgg.server.controller;
 
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductSuggestRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
 import com.nhnacademy.marketgg.server.service.ProductService;
+import com.nhnacademy.marketgg.server.service.ProductSuggestService;
 import java.net.URI;
 import java.util.List;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductSuggestService productSuggestService;
 
     private static final String DEFAULT_PRODUCT_URI = "products";
 
@@ -43,4 +54,56 @@ public class ProductController {
                              .body(productResponseList);
     }
 
+    /**
+     * DB 에서 카테고리별 상품 목록을 조회하기 위한 GET Mapping을 지원합니다.
+     * 카테고리 분류 코드만 전달하면 그 아래 모든 카테고리의 상품을 조회하며, 삭제된 상품은 제외합니다.
+     *
+     * @param browseRequest - 카테고리 분류 코드, 카테고리 코드, 정렬 기준, 페이지 요청입니다.
+     * @return - 상품 페이지를 담은 응답 객체를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping("/browse")
+    public ResponseEntity<SingleResponse<Page<ProductResponse>>> browseProducts(
+            @Valid final ProductBrowseRequest browseRequest) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(productService.browseProducts(browseRequest));
+    }
+
+    /**
+     * 키워드 상품 검색을 위한 GET Mapping을 지원합니다.
+     * 상품명, 내용, 설명, 라벨명에서 키워드를 검색하며, 다음 페이지는 응답의 cursor 를 전달하여 조회합니다.
+     * 카테고리, 라벨, 가격 범위로 결과를 거를 수 있고, 첫 페이지에는 필터 사이드바를 위한 집계 결과가 함께 담깁니다.
+     *
+     * @param searchRequest - 키워드, 필터 조건, 페이지 크기, 커서를 담은 검색 요청입니다.
+     * @return - 검색 결과와 집계 결과를 담은 응답 객체를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping("/search")
+    public ResponseEntity<SingleResponse<ProductSearchResponse>> searchProducts(
+            @Valid final EsProductSearchRequest searchRequest) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(productService.searchProducts(searchRequest));
+    }
+
+    /**
+     * 상품명 자동완성을 위한 GET Mapping을 지원합니다.
+     * 상품명 또는 상품명 중간 단어가 접두어로 시작하는 상품을 반환합니다.
+     *
+     * @param suggestRequest - 접두어와 최대 결과 수를 담은 요청입니다.
+     * @return - 자동완성 결과를 담은 응답 객체를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<SingleResponse<List<ProductSuggestion>>> suggestProducts(
+            @Valid final ProductSuggestRequest suggestRequest) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(productSuggestService.suggestProducts(suggestRequest));
+    }
+
 }
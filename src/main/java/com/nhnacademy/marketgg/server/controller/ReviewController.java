@@ -1,5 +1,6 @@
 package com.nhnacademy.marketgg.server.controller;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.DefaultPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewUpdateRequest;
@@ -78,7 +79,7 @@ public class ReviewController {
      */
     @GetMapping("/{productId}/review")
     public ResponseEntity<CommonResponse> retrieveReviews(@PathVariable final Long productId,
-                                                          final DefaultPageRequest pageRequest) {
+                                                          @Valid final DefaultPageRequest pageRequest) {
 
         SingleResponse<?> response = reviewService.retrieveReviews(pageRequest.getPageable());
 
@@ -87,6 +88,25 @@ public class ReviewController {
                              .contentType(MediaType.APPLICATION_JSON).body(response);
     }
 
+    /**
+     * 리뷰를 커서 기반으로 조회합니다.
+     * cursor 파라미터가 있으면 이 Mapping 이 선택되며, 빈 값이면 첫 페이지를 조회합니다.
+     *
+     * @param productId   - 리뷰가 달린 상품의 기본키입니다.
+     * @param pageRequest - 커서와 페이지 크기입니다.
+     * @return - 리뷰 목록과 다음 커서가 담긴 공통 응답 객체를 반환합니다.
+     */
+    @GetMapping(value = "/{productId}/review", params = "cursor")
+    public ResponseEntity<CommonResponse> retrieveReviewsByCursor(@PathVariable final Long productId,
+                                                                  @Valid final CursorPageRequest pageRequest) {
+
+        SingleResponse<?> response = reviewService.retrieveReviewsByCursor(pageRequest);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .location(URI.create(DEFAULT_REVIEW_URI + productId + "/review"))
+                             .contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
     /**
      * 후기의 상세정보를 조회합니다.
      *
@@ -13,6 +13,23 @@ public class AuthInfo {
     private String phoneNumber;
     private boolean flag;
 
+    /**
+     * JWT 클레임 등 이미 확인된 정보로 회원 정보를 생성합니다.
+     *
+     * @param uuid        - 회원의 UUID 입니다.
+     * @param email       - 회원의 이메일입니다.
+     * @param name        - 회원의 이름입니다.
+     * @param phoneNumber - 회원의 전화번호입니다.
+     * @since 1.0.0
+     */
+    public AuthInfo(String uuid, String email, String name, String phoneNumber) {
+        this.uuid = uuid;
+        this.email = email;
+        this.name = name;
+        this.phoneNumber = phoneNumber;
+        this.flag = true;
+    }
+
     public void setUuid(String uuid) {
         if (!flag) {
             this.uuid = uuid;
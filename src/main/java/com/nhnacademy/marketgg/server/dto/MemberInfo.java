@@ -1,19 +1,23 @@
 package com.nhnacademy.marketgg.server.dto;
 
-import com.nhnacademy.marketgg.server.entity.Cart;
-import com.nhnacademy.marketgg.server.entity.MemberGrade;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 요청한 회원의 정보를 담은 불변 객체입니다.
+ * 요청과 스레드 간에 캐시되어 공유되므로 엔티티 대신 장바구니 번호, 회원 등급 이름 같은 값만 가집니다.
+ *
+ * @version 1.0.0
+ */
 @AllArgsConstructor
 @Getter
-public class MemberInfo {
+public final class MemberInfo {
 
     private final Long id;
-    private final Cart cart;
-    private final MemberGrade memberGrade;
+    private final Long cartId;
+    private final String memberGrade;
     private final Character gender;
     private final LocalDate birthDate;
     private final LocalDateTime ggpassUpdatedAt;
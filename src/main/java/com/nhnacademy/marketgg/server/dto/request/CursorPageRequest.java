@@ -0,0 +1,52 @@
+package com.nhnacademy.marketgg.server.dto.request;
+
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 커서 기반 목록 조회 요청입니다.
+ * cursor 는 이전 응답의 nextCursor 이며, 빈 값이면 첫 페이지를 조회합니다.
+ * OFFSET 없이 마지막으로 받은 PK 다음부터 조회하므로 페이지 깊이와 관계없이 비용이 같습니다.
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CursorPageRequest {
+
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    private int size = 10;
+
+    /**
+     * 커서가 가리키는 마지막 PK 를 반환합니다.
+     *
+     * @return 마지막으로 조회한 PK 입니다. 첫 페이지이면 null 을 반환합니다.
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public Long getLastId() {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return null;
+        }
+
+        List<Object> sortValues = SearchAfterCursor.decode(cursor);
+        if (sortValues.size() != 1 || !(sortValues.get(0) instanceof Number)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        return ((Number) sortValues.get(0)).longValue();
+    }
+
+}
@@ -1,25 +1,46 @@
 package com.nhnacademy.marketgg.server.dto.request;
 
+import com.nhnacademy.marketgg.server.repository.support.CountMode;
+import com.nhnacademy.marketgg.server.repository.support.CountingPageRequest;
+import java.util.Objects;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @AllArgsConstructor
 @Builder
 @Getter
+@Setter
 public class DefaultPageRequest {
 
+    @Min(1)
     private int page;
+
+    @Min(1)
+    @Max(100)
     private int size;
 
+    /**
+     * 전체 개수를 구하는 방식입니다. 지정하지 않으면 서버 기본 방식을 따릅니다.
+     * 다음 페이지 여부만 필요하면 NONE 을 지정합니다.
+     */
+    private CountMode count;
+
     public DefaultPageRequest() {
         this.page = 1;
         this.size = 10;
     }
 
     public Pageable getPageable() {
-        return PageRequest.of(page - 1, size);
+        if (Objects.isNull(count)) {
+            return PageRequest.of(page - 1, size);
+        }
+
+        return CountingPageRequest.of(page - 1, size, count);
     }
 }
@@ -1,15 +1,44 @@
 package com.nhnacademy.marketgg.server.dto.request;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import lombok.Setter;
 
+/**
+ * 상품 검색 요청입니다.
+ * 키워드가 없으면 필터 조건에 맞는 모든 상품을 조회합니다.
+ * 다음 페이지는 이전 응답의 cursor 를 그대로 전달하여 조회합니다.
+ *
+ * @version 1.0.0
+ */
 @NoArgsConstructor
 @Getter
+@Setter
 public class EsProductSearchRequest {
 
+    @Size(max = 100)
     private String keyword;
 
-    private Pageable pageable;
+    private String categoryCode;
+
+    private String labelName;
+
+    @Min(0)
+    private Long minPrice;
+
+    @Min(0)
+    private Long maxPrice;
+
+    @Min(1)
+    private long priceInterval = 5000L;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    private String cursor;
 
 }
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.server.dto.request;
+
+import com.nhnacademy.marketgg.server.repository.support.CountMode;
+import com.nhnacademy.marketgg.server.repository.support.CountingPageRequest;
+import java.util.Objects;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 카테고리별 상품 목록 조회 요청입니다.
+ * categoryCode 가 있으면 해당 카테고리만, 없으면 categorizationCode 에 속한 모든 카테고리의 상품을 조회합니다.
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class ProductBrowseRequest {
+
+    private String categorizationCode;
+
+    private String categoryCode;
+
+    @NotNull
+    private Sort sort = Sort.LATEST;
+
+    @Min(1)
+    private int page = 1;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    /**
+     * 전체 개수를 구하는 방식입니다. 지정하지 않으면 서버 기본 방식을 따릅니다.
+     */
+    private CountMode count;
+
+    public Pageable getPageable() {
+        if (Objects.isNull(count)) {
+            return PageRequest.of(page - 1, size);
+        }
+
+        return CountingPageRequest.of(page - 1, size, count);
+    }
+
+    /**
+     * 상품 목록의 정렬 기준입니다. 값이 같으면 상품 번호를 정렬 기준과 같은 방향으로 정렬합니다.
+     */
+    public enum Sort {
+        LATEST, PRICE_ASC, PRICE_DESC
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.nhnacademy.marketgg.server.dto.request;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품명 자동완성 요청입니다.
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class ProductSuggestRequest {
+
+    @NotBlank
+    @Size(max = 50)
+    private String prefix;
+
+    @Min(1)
+    @Max(20)
+    private int size = 10;
+
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 기반 목록 조회 결과입니다.
+ * nextCursor 를 다음 요청의 cursor 로 보내면 이어지는 목록을 조회하며, 마지막 페이지이면 null 입니다.
+ *
+ * @param <T> - 목록 요소의 타입입니다.
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+
+    private final String nextCursor;
+
+    /**
+     * size 보다 하나 더 조회한 목록으로 결과를 만듭니다. 남는 요소가 있으면 다음 페이지가 있는 것입니다.
+     *
+     * @param rows - PK 내림차순으로 최대 size + 1 개를 조회한 목록입니다.
+     * @param size - 페이지 크기입니다.
+     * @param idOf - 요소의 PK 를 반환하는 함수입니다.
+     * @param <T>  - 목록 요소의 타입입니다.
+     * @return 조회 결과입니다.
+     * @since 1.0.0
+     */
+    public static <T> CursorPage<T> of(final List<T> rows, final int size, final Function<T, Long> idOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, size);
+        Long lastId = idOf.apply(content.get(size - 1));
+
+        return new CursorPage<>(List.copyOf(content), SearchAfterCursor.encode(List.of(lastId)));
+    }
+
+    /**
+     * 커서는 그대로 두고 목록 요소만 바꿉니다.
+     *
+     * @param mapper - 요소 변환 함수입니다.
+     * @param <R>    - 바뀐 요소의 타입입니다.
+     * @return 변환된 결과입니다.
+     * @since 1.0.0
+     */
+    public <R> CursorPage<R> map(final Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+}
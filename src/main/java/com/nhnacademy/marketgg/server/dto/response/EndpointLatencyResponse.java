@@ -0,0 +1,27 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔드포인트의 응답 시간 분포입니다. 응답 시간의 단위는 ms 입니다.
+ */
+@RequiredArgsConstructor
+@Getter
+public class EndpointLatencyResponse {
+
+    private final String endpoint;
+
+    private final long count;
+
+    private final double p50;
+
+    private final double p90;
+
+    private final double p99;
+
+    private final double p999;
+
+    private final double max;
+
+}
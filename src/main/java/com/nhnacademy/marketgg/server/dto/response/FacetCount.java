@@ -0,0 +1,20 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 결과에서 한 값에 해당하는 상품 수입니다.
+ * 가격 구간의 경우 value 는 구간의 시작 가격입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class FacetCount {
+
+    private final String value;
+
+    private final long count;
+
+}
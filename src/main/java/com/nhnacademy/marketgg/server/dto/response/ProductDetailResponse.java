@@ -0,0 +1,27 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 정보에 카테고리 분류, 이미지, 라벨을 더한 상세 정보입니다.
+ * 요청한 경우에만 별도의 쿼리로 조회합니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductDetailResponse {
+
+    private final ProductResponse product;
+
+    private final String categorizationCode;
+
+    private final String categorizationName;
+
+    private final List<String> imageAddresses;
+
+    private final List<String> labelNames;
+
+}
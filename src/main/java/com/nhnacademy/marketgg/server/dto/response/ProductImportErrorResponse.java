@@ -0,0 +1,24 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import com.nhnacademy.marketgg.server.entity.ProductImportError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 일괄 등록에서 등록하지 못한 행의 번호와 오류 내용입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductImportErrorResponse {
+
+    private final long rowNumber;
+
+    private final String message;
+
+    public static ProductImportErrorResponse from(final ProductImportError error) {
+        return new ProductImportErrorResponse(error.getRowNumber(), error.getMessage());
+    }
+
+}
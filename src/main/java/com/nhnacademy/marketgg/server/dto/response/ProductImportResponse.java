@@ -0,0 +1,74 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 일괄 등록 작업의 진행 상황입니다.
+ * 진행률은 파일에서 읽은 바이트 비율이고, 처리량은 시작한 이후 초당 처리한 행 수입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductImportResponse {
+
+    private final Long jobId;
+
+    private final String fileName;
+
+    private final String format;
+
+    private final String status;
+
+    private final long processedCount;
+
+    private final long importedCount;
+
+    private final long failedCount;
+
+    private final double progress;
+
+    private final double rowsPerSecond;
+
+    @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
+    private final LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
+    private final LocalDateTime updatedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
+    private final LocalDateTime completedAt;
+
+    private final String failureReason;
+
+    private final List<ProductImportErrorResponse> errors;
+
+    /**
+     * 일괄 등록 작업으로 진행 상황을 만듭니다.
+     *
+     * @param job    - 일괄 등록 작업입니다.
+     * @param errors - 등록하지 못한 행의 오류 목록입니다.
+     * @return 진행 상황입니다.
+     * @since 1.0.0
+     */
+    public static ProductImportResponse from(final ProductImportJob job,
+                                             final List<ProductImportErrorResponse> errors) {
+
+        long total = job.getTotalBytes();
+        double progress = total == 0 ? 100.0 : Math.min(100.0, job.getReadBytes() * 100.0 / total);
+        long elapsedMillis = Duration.between(job.getStartedAt(), job.getUpdatedAt()).toMillis();
+        double rowsPerSecond = elapsedMillis <= 0 ? 0.0 : job.getProcessedCount() * 1000.0 / elapsedMillis;
+
+        return new ProductImportResponse(job.getId(), job.getFileName(), job.getFormat().name(),
+                                         job.getStatus().name(), job.getProcessedCount(), job.getImportedCount(),
+                                         job.getFailedCount(), progress, rowsPerSecond, job.getStartedAt(),
+                                         job.getUpdatedAt(), job.getCompletedAt(), job.getFailureReason(), errors);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nhnacademy.marketgg.server.entity.ProductReindexJob;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 색인 재구축 작업의 진행 상황입니다.
+ * 처리량은 마지막으로 시작하거나 재개한 이후 초당 색인한 문서 수입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductReindexResponse {
+
+    private final Long jobId;
+
+    private final String indexName;
+
+    private final String status;
+
+    private final Long checkpoint;
+
+    private final long indexedCount;
+
+    private final long totalCount;
+
+    private final double progress;
+
+    private final double documentsPerSecond;
+
+    @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
+    private final LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
+    private final LocalDateTime checkpointedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
+    private final LocalDateTime completedAt;
+
+    private final String failureReason;
+
+    /**
+     * 재구축 작업으로 진행 상황을 만듭니다.
+     *
+     * @param job - 재구축 작업입니다.
+     * @return 진행 상황입니다.
+     * @since 1.0.0
+     */
+    public static ProductReindexResponse from(final ProductReindexJob job) {
+        long total = job.getTotalCount();
+        double progress = total == 0 ? 100.0 : Math.min(100.0, job.getIndexedCount() * 100.0 / total);
+        long elapsedMillis = Duration.between(job.getRunStartedAt(), job.getCheckpointedAt()).toMillis();
+        double documentsPerSecond = elapsedMillis <= 0 ? 0.0 : job.getRunIndexedCount() * 1000.0 / elapsedMillis;
+
+        return new ProductReindexResponse(job.getId(), job.getIndexName(), job.getStatus().name(),
+                                          job.getCheckpoint(), job.getIndexedCount(), total, progress,
+                                          documentsPerSecond, job.getStartedAt(), job.getCheckpointedAt(),
+                                          job.getCompletedAt(), job.getFailureReason());
+    }
+
+}
@@ -1,25 +1,27 @@
 package com.nhnacademy.marketgg.server.dto.response;
 
-import com.nhnacademy.marketgg.server.entity.Asset;
-import com.nhnacademy.marketgg.server.entity.Category;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 상품 목록과 상세 조회에 사용하는 상품 정보입니다.
+ * 엔티티를 참조하지 않고 상품 컬럼과 연관 엔티티의 PK, 카테고리명만 담으므로
+ * 조회 시 추가 쿼리가 없고 캐시하거나 직렬화해도 지연 로딩이 일어나지 않습니다.
+ * 이미지, 라벨, 카테고리 분류가 필요하면 {@link ProductDetailResponse} 를 사용합니다.
+ *
+ * @version 1.0.0
+ */
 @RequiredArgsConstructor
 @Getter
 public class ProductResponse {
 
     private final Long id;
 
-    private final Asset asset;
-
     private final Long assetNo;
 
-    private final Category category;
-
     private final String categoryCode;
 
     private final String categoryName;
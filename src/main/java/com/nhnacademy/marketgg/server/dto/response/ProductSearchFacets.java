@@ -0,0 +1,22 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 결과의 카테고리별, 라벨별, 가격 구간별 상품 수입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductSearchFacets {
+
+    private final List<FacetCount> categories;
+
+    private final List<FacetCount> labels;
+
+    private final List<FacetCount> prices;
+
+}
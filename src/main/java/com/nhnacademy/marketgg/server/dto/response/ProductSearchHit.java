@@ -0,0 +1,24 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 결과의 한 건입니다. 하이라이트는 필드 이름별로 일치한 부분을 &lt;em&gt; 태그로 감싼 조각입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductSearchHit {
+
+    private final ElasticProduct product;
+
+    private final float score;
+
+    private final Map<String, List<String>> highlights;
+
+}
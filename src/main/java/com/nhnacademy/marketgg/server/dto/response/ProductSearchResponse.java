@@ -0,0 +1,25 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 결과입니다. 다음 페이지가 있으면 cursor 로 이어서 조회할 수 있고, 없으면 cursor 는 null 입니다.
+ * 집계는 첫 페이지에서만 함께 반환하며 이후 페이지에서는 null 입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductSearchResponse {
+
+    private final List<ProductSearchHit> products;
+
+    private final long totalHits;
+
+    private final String cursor;
+
+    private final ProductSearchFacets facets;
+
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.marketgg.server.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품명 자동완성 결과입니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ProductSuggestion {
+
+    private final Long id;
+
+    private final String productName;
+
+}
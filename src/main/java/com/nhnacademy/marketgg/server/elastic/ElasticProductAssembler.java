@@ -0,0 +1,45 @@
+package com.nhnacademy.marketgg.server.elastic;
+
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 PK 목록으로 검색 문서를 만듭니다.
+ * 라벨과 대표 이미지는 상품마다 조회하지 않고 묶음 단위로 한 번의 쿼리로 함께 조회합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ElasticProductAssembler {
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 삭제되지 않은 상품의 검색 문서 목록을 만듭니다.
+     * 삭제되었거나 없는 상품은 결과에 포함되지 않으며, 라벨이나 대표 이미지가 없는 상품은 해당 필드를 비워 둡니다.
+     *
+     * @param productIds - 문서로 만들 상품의 PK 목록입니다.
+     * @return 검색 문서 목록입니다.
+     * @since 1.0.0
+     */
+    public List<ElasticProduct> assemble(final Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ElasticProduct> documents = new LinkedHashMap<>();
+        productRepository.findIndexDocuments(productIds)
+                         .forEach(document -> documents.putIfAbsent(document.getId(), document));
+
+        return new ArrayList<>(documents.values());
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.nhnacademy.marketgg.server.elastic;
+
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.entity.Product;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상품 엔티티에서 가져와 검색 문서에 색인하는 필드입니다.
+ * 상품 수정 전후의 값을 비교해 바뀐 필드만 부분 갱신할 수 있도록 합니다.
+ * 라벨은 상품 수정으로 바뀌지 않으므로 포함하지 않습니다.
+ * 조회 수와 장바구니 수는 상품 수정과 관계없이 따로 집계하므로 스냅샷에는 넣지 않고 부분 갱신에만 사용합니다.
+ *
+ * @version 1.0.0
+ */
+public final class ProductIndexFields {
+
+    public static final String CATEGORY_CODE = "categoryCode";
+    public static final String PRODUCT_NAME = "productName";
+    public static final String CONTENT = "content";
+    public static final String DESCRIPTION = "description";
+    public static final String IMAGE_ADDRESS = "imageAddress";
+    public static final String PRICE = "price";
+    public static final String AMOUNT = "amount";
+    public static final String VIEW_COUNT = "viewCount";
+    public static final String CART_COUNT = "cartCount";
+
+    /**
+     * 검색 점수에만 영향을 주는 인기도 필드입니다.
+     */
+    public static final Set<String> POPULARITY = Set.of(VIEW_COUNT, CART_COUNT);
+
+    private static final Map<String, Function<ElasticProduct, Object>> DOCUMENT_VALUES = documentValues();
+
+    private ProductIndexFields() {
+    }
+
+    /**
+     * 상품의 색인 필드 값을 복사합니다. 대표 이미지는 주소 대신 자원 번호로 비교합니다.
+     *
+     * @param product - 상품입니다.
+     * @return 필드 이름과 값입니다.
+     * @since 1.0.0
+     */
+    public static Map<String, Object> snapshot(final Product product) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(CATEGORY_CODE, Objects.isNull(product.getCategory()) ? null : product.getCategory().getId());
+        values.put(PRODUCT_NAME, product.getName());
+        values.put(CONTENT, product.getContent());
+        values.put(DESCRIPTION, product.getDescription());
+        values.put(IMAGE_ADDRESS, Objects.isNull(product.getAsset()) ? null : product.getAsset().getId());
+        values.put(PRICE, product.getPrice());
+        values.put(AMOUNT, product.getTotalStock());
+
+        return values;
+    }
+
+    /**
+     * 두 스냅샷에서 값이 다른 필드를 구합니다.
+     *
+     * @param before - 수정 전 스냅샷입니다.
+     * @param after  - 수정 후 스냅샷입니다.
+     * @return 바뀐 필드 이름입니다. 바뀐 필드가 없으면 빈 집합입니다.
+     * @since 1.0.0
+     */
+    public static Set<String> changed(final Map<String, Object> before, final Map<String, Object> after) {
+        Set<String> fields = new LinkedHashSet<>();
+        after.forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                fields.add(field);
+            }
+        });
+
+        return fields;
+    }
+
+    /**
+     * 검색 문서에서 지정한 필드의 값만 꺼냅니다.
+     *
+     * @param document - 검색 문서입니다.
+     * @param fields   - 꺼낼 필드 이름입니다.
+     * @return 필드 이름과 값입니다.
+     * @throws IllegalArgumentException 색인 필드가 아닌 이름이 있으면 발생합니다.
+     * @since 1.0.0
+     */
+    public static Map<String, Object> values(final ElasticProduct document, final Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            Function<ElasticProduct, Object> getter = DOCUMENT_VALUES.get(field);
+            if (Objects.isNull(getter)) {
+                throw new IllegalArgumentException("색인 필드가 아닙니다: " + field);
+            }
+            values.put(field, getter.apply(document));
+        }
+
+        return values;
+    }
+
+    private static Map<String, Function<ElasticProduct, Object>> documentValues() {
+        Map<String, Function<ElasticProduct, Object>> getters = new LinkedHashMap<>();
+        getters.put(CATEGORY_CODE, ElasticProduct::getCategoryCode);
+        getters.put(PRODUCT_NAME, ElasticProduct::getProductName);
+        getters.put(CONTENT, ElasticProduct::getContent);
+        getters.put(DESCRIPTION, ElasticProduct::getDescription);
+        getters.put(IMAGE_ADDRESS, ElasticProduct::getImageAddress);
+        getters.put(PRICE, ElasticProduct::getPrice);
+        getters.put(AMOUNT, ElasticProduct::getAmount);
+        getters.put(VIEW_COUNT, ElasticProduct::getViewCount);
+        getters.put(CART_COUNT, ElasticProduct::getCartCount);
+
+        return getters;
+    }
+
+}
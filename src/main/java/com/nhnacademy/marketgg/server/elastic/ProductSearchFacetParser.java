@@ -0,0 +1,66 @@
+package com.nhnacademy.marketgg.server.elastic;
+
+import static java.util.stream.Collectors.toList;
+
+import com.nhnacademy.marketgg.server.dto.response.FacetCount;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchFacets;
+import java.util.List;
+import java.util.Objects;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.histogram.Histogram;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
+
+/**
+ * 상품 검색 응답의 집계 결과를 카테고리, 라벨, 가격 구간별 상품 수로 바꿉니다.
+ *
+ * @version 1.0.0
+ */
+public final class ProductSearchFacetParser {
+
+    public static final String CATEGORIES = "categories";
+    public static final String LABELS = "labels";
+    public static final String PRICES = "prices";
+
+    private ProductSearchFacetParser() {
+    }
+
+    /**
+     * 집계 결과를 상품 수 목록으로 바꿉니다.
+     *
+     * @param container - 검색 응답의 집계 결과입니다.
+     * @return 집계 결과가 없으면 null 을 반환합니다.
+     * @since 1.0.0
+     */
+    public static ProductSearchFacets parse(final AggregationsContainer<?> container) {
+        if (Objects.isNull(container) || !(container.aggregations() instanceof Aggregations)) {
+            return null;
+        }
+
+        Aggregations aggregations = (Aggregations) container.aggregations();
+        Terms categories = aggregations.get(CATEGORIES);
+        Terms labels = aggregations.get(LABELS);
+        Histogram prices = aggregations.get(PRICES);
+        if (Objects.isNull(categories) || Objects.isNull(labels) || Objects.isNull(prices)) {
+            return null;
+        }
+
+        return new ProductSearchFacets(terms(categories), terms(labels), histogram(prices));
+    }
+
+    private static List<FacetCount> terms(final Terms terms) {
+        return terms.getBuckets()
+                    .stream()
+                    .map(bucket -> new FacetCount(bucket.getKeyAsString(), bucket.getDocCount()))
+                    .collect(toList());
+    }
+
+    private static List<FacetCount> histogram(final Histogram histogram) {
+        return histogram.getBuckets()
+                        .stream()
+                        .map(bucket -> new FacetCount(String.valueOf(((Number) bucket.getKey()).longValue()),
+                                                      bucket.getDocCount()))
+                        .collect(toList());
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.server.elastic;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검색 결과의 마지막 문서 정렬 값을 search_after 커서 문자열로 바꿉니다.
+ *
+ * @version 1.0.0
+ */
+public final class SearchAfterCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Object>> SORT_VALUES = new TypeReference<>() {
+    };
+
+    private SearchAfterCursor() {
+    }
+
+    /**
+     * 정렬 값을 URL 에 그대로 쓸 수 있는 커서 문자열로 바꿉니다.
+     *
+     * @param sortValues - 마지막 문서의 정렬 값입니다.
+     * @return 커서 문자열입니다.
+     * @since 1.0.0
+     */
+    public static String encode(final List<Object> sortValues) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(sortValues));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 커서 문자열을 정렬 값으로 되돌립니다.
+     *
+     * @param cursor - 커서 문자열입니다.
+     * @return 정렬 값입니다.
+     * @throws IllegalArgumentException - 커서 형식이 올바르지 않을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public static List<Object> decode(final String cursor) {
+        try {
+            List<Object> sortValues = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), SORT_VALUES);
+            if (Objects.isNull(sortValues) || sortValues.isEmpty()) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            return sortValues;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+}
@@ -1,62 +1,106 @@
 package com.nhnacademy.marketgg.server.elastic.document;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nhnacademy.marketgg.server.elastic.suggest.SuggestInputs;
 import com.nhnacademy.marketgg.server.entity.Image;
 import com.nhnacademy.marketgg.server.entity.Label;
 import com.nhnacademy.marketgg.server.entity.Product;
+import java.util.Objects;
 import javax.persistence.Id;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 @Document(indexName = "products")
-@AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Setter
 public class ElasticProduct {
 
     @Id
-    @Field
+    @Field(type = FieldType.Long)
     private Long id;
 
-    @Field
+    @Field(type = FieldType.Keyword)
     private String categoryCode;
 
-    @Field
+    @Field(type = FieldType.Text)
     private String productName;
 
-    @Field
+    @Field(type = FieldType.Text)
     private String content;
 
-    @Field
+    @Field(type = FieldType.Text)
     private String description;
 
-    @Field
+    @MultiField(mainField = @Field(type = FieldType.Text),
+                otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword))
     private String labelName;
 
-    @Field
+    @Field(type = FieldType.Keyword, index = false)
     private String imageAddress;
 
-    @Field
+    @Field(type = FieldType.Long)
     private Long price;
 
-    @Field
+    @Field(type = FieldType.Long)
     private Long amount;
 
+    @Field(type = FieldType.Long)
+    private Long viewCount;
+
+    @Field(type = FieldType.Long)
+    private Long cartCount;
+
+    @JsonIgnore
+    @CompletionField(maxInputLength = 100)
+    private Completion nameSuggest;
+
+    public ElasticProduct(final Long id, final String categoryCode, final String productName, final String content,
+                          final String description, final String labelName, final String imageAddress,
+                          final Long price, final Long amount) {
+        this(id, categoryCode, productName, content, description, labelName, imageAddress, price, amount, null,
+             null);
+    }
+
+    public ElasticProduct(final Long id, final String categoryCode, final String productName, final String content,
+                          final String description, final String labelName, final String imageAddress,
+                          final Long price, final Long amount, final Long viewCount, final Long cartCount) {
+        this.id = id;
+        this.categoryCode = categoryCode;
+        this.productName = productName;
+        this.content = content;
+        this.description = description;
+        this.labelName = labelName;
+        this.imageAddress = imageAddress;
+        this.price = price;
+        this.amount = amount;
+        this.viewCount = viewCount;
+        this.cartCount = cartCount;
+        this.nameSuggest = new Completion(SuggestInputs.of(productName));
+    }
+
     public ElasticProduct(final Product product, final Label label, final Image image) {
         this.id = product.getId();
         this.categoryCode = product.getCategory().getId();
         this.productName = product.getName();
         this.content = product.getContent();
         this.description = product.getDescription();
-        this.labelName = label.getName();
-        this.imageAddress = image.getImageAddress();
+        this.labelName = Objects.isNull(label) ? null : label.getName();
+        this.imageAddress = Objects.isNull(image) ? null : image.getImageAddress();
         this.price = product.getPrice();
         this.amount = product.getTotalStock();
+        this.viewCount = product.getViewCount();
+        this.cartCount = product.getCartCount();
+        this.nameSuggest = new Completion(SuggestInputs.of(productName));
     }
 
 }
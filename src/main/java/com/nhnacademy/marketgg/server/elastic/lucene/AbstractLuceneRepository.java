@@ -0,0 +1,271 @@
+package com.nhnacademy.marketgg.server.elastic.lucene;
+
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+
+/**
+ * {@link ElasticsearchRepository} 계약을 Lucene 색인으로 구현하는 저장소의 공통 부분입니다.
+ *
+ * <p>Elasticsearch 의 _source 와 같이 문서 전체를 JSON 으로 저장해 두고 조회 시 그대로 역직렬화하며,
+ * 검색과 정렬에 필요한 필드만 하위 클래스에서 따로 색인합니다.</p>
+ *
+ * @param <T> - 문서 타입입니다.
+ * @version 1.0.0
+ */
+public abstract class AbstractLuceneRepository<T> implements ElasticsearchRepository<T, Long>, Closeable {
+
+    protected static final String ID = "id";
+    private static final String SOURCE = "_source";
+
+    private final LuceneIndex index;
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+
+    protected AbstractLuceneRepository(final LuceneIndex index, final ObjectMapper mapper, final Class<T> type) {
+        this.index = index;
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    /**
+     * 문서의 id 를 반환합니다.
+     *
+     * @param entity - 문서입니다.
+     * @return 문서의 id 입니다.
+     * @since 1.0.0
+     */
+    protected abstract Long idOf(final T entity);
+
+    /**
+     * 검색, 필터, 정렬에 사용할 필드를 Lucene 문서에 추가합니다.
+     *
+     * @param document - Lucene 문서입니다.
+     * @param entity   - 색인할 문서입니다.
+     * @since 1.0.0
+     */
+    protected abstract void addFields(final Document document, final T entity);
+
+    /**
+     * 정렬할 수 있는 필드와 그 타입입니다. 필드는 NumericDocValuesField 로 색인되어 있어야 합니다.
+     *
+     * @return 필드 이름과 정렬 타입입니다.
+     * @since 1.0.0
+     */
+    protected abstract Map<String, SortField.Type> sortableFields();
+
+    @Override
+    public <S extends T> S save(final S entity) {
+        index.update(List.of(entry(entity)));
+        return entity;
+    }
+
+    @Override
+    public <S extends T> Iterable<S> saveAll(final Iterable<S> entities) {
+        List<S> saved = StreamSupport.stream(entities.spliterator(), false).collect(toList());
+        index.update(saved.stream().map(this::entry).collect(toList()));
+
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(final Long id) {
+        return find(new TermQuery(idTerm(id)), 1, Sort.INDEXORDER).stream().findFirst();
+    }
+
+    @Override
+    public boolean existsById(final Long id) {
+        return index.search(searcher -> searcher.count(new TermQuery(idTerm(id)))) > 0;
+    }
+
+    @Override
+    public Iterable<T> findAll() {
+        return findAll(org.springframework.data.domain.Sort.unsorted());
+    }
+
+    @Override
+    public Iterable<T> findAll(final org.springframework.data.domain.Sort sort) {
+        return index.search(searcher -> toEntities(searcher, searcher.search(
+            new MatchAllDocsQuery(), Math.max(1, searcher.getIndexReader().numDocs()), toSort(sort))));
+    }
+
+    @Override
+    public Page<T> findAll(final Pageable pageable) {
+        return findPage(new MatchAllDocsQuery(), pageable);
+    }
+
+    @Override
+    public Iterable<T> findAllById(final Iterable<Long> ids) {
+        List<BytesRef> terms = new ArrayList<>();
+        ids.forEach(id -> terms.add(new BytesRef(id.toString())));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        return find(new TermInSetQuery(ID, terms), terms.size(), toSort(org.springframework.data.domain.Sort.unsorted()));
+    }
+
+    @Override
+    public long count() {
+        return index.search(searcher -> searcher.count(new MatchAllDocsQuery()));
+    }
+
+    @Override
+    public void deleteById(final Long id) {
+        index.delete(new TermQuery(idTerm(id)));
+    }
+
+    @Override
+    public void delete(final T entity) {
+        deleteById(idOf(entity));
+    }
+
+    @Override
+    public void deleteAllById(final Iterable<? extends Long> ids) {
+        List<BytesRef> terms = new ArrayList<>();
+        ids.forEach(id -> terms.add(new BytesRef(id.toString())));
+        if (!terms.isEmpty()) {
+            index.delete(new TermInSetQuery(ID, terms));
+        }
+    }
+
+    @Override
+    public void deleteAll(final Iterable<? extends T> entities) {
+        List<Long> ids = new ArrayList<>();
+        entities.forEach(entity -> ids.add(idOf(entity)));
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAll() {
+        index.deleteAll();
+    }
+
+    /**
+     * Lucene 저장소는 more_like_this 에 해당하는 유사 문서 검색을 지원하지 않으므로,
+     * 호출하는 쪽이 검색 엔진 종류와 관계없이 동작하도록 항상 빈 페이지를 반환합니다.
+     *
+     * @return 빈 페이지를 반환합니다.
+     */
+    @Override
+    public Page<T> searchSimilar(final T entity, final String[] fields, final Pageable pageable) {
+        return Page.empty(pageable);
+    }
+
+    @Override
+    public void close() throws IOException {
+        index.close();
+    }
+
+    protected LuceneIndex index() {
+        return index;
+    }
+
+    protected List<T> find(final Query query, final int limit, final Sort sort) {
+        return index.search(searcher -> toEntities(searcher, searcher.search(query, Math.max(1, limit), sort)));
+    }
+
+    protected Page<T> findPage(final Query query, final Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<T> all = index.search(searcher -> toEntities(searcher, searcher.search(
+                query, Math.max(1, searcher.getIndexReader().numDocs()), toSort(pageable.getSort()))));
+            return new PageImpl<>(all);
+        }
+
+        return index.search(searcher -> {
+            int offset = Math.toIntExact(pageable.getOffset());
+            TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize(), toSort(pageable.getSort()));
+            List<T> content = new ArrayList<>(pageable.getPageSize());
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                content.add(toEntity(searcher.doc(topDocs.scoreDocs[i].doc)));
+            }
+
+            return new PageImpl<>(content, pageable, searcher.count(query));
+        });
+    }
+
+    protected T toEntity(final Document document) throws IOException {
+        BytesRef source = document.getBinaryValue(SOURCE);
+        return mapper.readValue(source.bytes, source.offset, source.length, type);
+    }
+
+    protected List<T> toEntities(final IndexSearcher searcher, final TopDocs topDocs) throws IOException {
+        List<T> entities = new ArrayList<>(topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            entities.add(toEntity(searcher.doc(scoreDoc.doc)));
+        }
+
+        return entities;
+    }
+
+    protected static Term idTerm(final Long id) {
+        return new Term(ID, id.toString());
+    }
+
+    private LuceneIndex.Entry entry(final T entity) {
+        Long id = Objects.requireNonNull(idOf(entity), "id");
+
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID, id));
+        try {
+            document.add(new StoredField(SOURCE, mapper.writeValueAsBytes(entity)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        addFields(document, entity);
+
+        return new LuceneIndex.Entry(idTerm(id), document);
+    }
+
+    /**
+     * Spring Data 의 정렬 조건을 Lucene 정렬로 바꿉니다. 같은 값은 id 오름차순으로 정렬합니다.
+     *
+     * @throws IllegalArgumentException 정렬할 수 없는 필드를 지정한 경우 발생합니다.
+     */
+    private Sort toSort(final org.springframework.data.domain.Sort sort) {
+        List<SortField> fields = new ArrayList<>();
+        for (org.springframework.data.domain.Sort.Order order : sort) {
+            SortField.Type sortType = ID.equals(order.getProperty())
+                ? SortField.Type.LONG
+                : sortableFields().get(order.getProperty());
+            if (Objects.isNull(sortType)) {
+                throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+            fields.add(new SortField(order.getProperty(), sortType, order.isDescending()));
+        }
+        fields.add(new SortField(ID, SortField.Type.LONG));
+
+        return new Sort(fields.toArray(SortField[]::new));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.nhnacademy.marketgg.server.elastic.lucene;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticBoard;
+import com.nhnacademy.marketgg.server.elastic.repository.ElasticBoardRepository;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * 고객센터 게시글 검색 문서를 Lucene 색인에 저장하는 {@link ElasticBoardRepository} 구현입니다.
+ *
+ * @version 1.0.0
+ */
+public class LuceneBoardRepository extends AbstractLuceneRepository<ElasticBoard> implements ElasticBoardRepository {
+
+    private static final String CATEGORY_CODE = "categoryCode";
+    private static final String TITLE = "title";
+    private static final String REASON = "reason";
+    private static final String STATUS = "status";
+    private static final String CREATED_AT = "createdAt";
+
+    public LuceneBoardRepository(final LuceneIndex index, final ObjectMapper mapper) {
+        super(index, mapper, ElasticBoard.class);
+    }
+
+    @Override
+    protected Long idOf(final ElasticBoard entity) {
+        return entity.getId();
+    }
+
+    @Override
+    protected void addFields(final Document document, final ElasticBoard board) {
+        if (Objects.nonNull(board.getCategoryCode())) {
+            document.add(new StringField(CATEGORY_CODE, board.getCategoryCode(), Field.Store.NO));
+        }
+        if (Objects.nonNull(board.getTitle())) {
+            document.add(new TextField(TITLE, board.getTitle(), Field.Store.NO));
+        }
+        if (Objects.nonNull(board.getReason())) {
+            document.add(new TextField(REASON, board.getReason(), Field.Store.NO));
+        }
+        if (Objects.nonNull(board.getStatus())) {
+            document.add(new StringField(STATUS, board.getStatus(), Field.Store.NO));
+        }
+        if (Objects.nonNull(board.getCreatedAt())) {
+            document.add(new NumericDocValuesField(CREATED_AT,
+                                                   board.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        }
+    }
+
+    @Override
+    protected Map<String, SortField.Type> sortableFields() {
+        return Map.of(CREATED_AT, SortField.Type.LONG);
+    }
+
+    @Override
+    public void deleteAllByCategoryCode(final String categoryCode) {
+        index().delete(new TermQuery(new Term(CATEGORY_CODE, categoryCode)));
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.nhnacademy.marketgg.server.elastic.lucene;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 메모리 매핑 파일로 저장하는 Lucene 색인입니다.
+ *
+ * <p>검색은 IndexWriter 에서 바로 여는 NRT reader 로 처리하므로 변경 내용을 보기 위해 commit 할 필요가 없습니다.
+ * 쓰기 작업은 그 변경이 보이는 reader 가 열릴 때까지 기다린 뒤 반환하여,
+ * Spring Data Elasticsearch 저장소가 저장 후 refresh 하는 것과 같이 저장한 문서를 바로 조회할 수 있습니다.
+ * commit 은 재시작 시 복구를 위해 주기적으로, 그리고 닫을 때 한 번 수행합니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class LuceneIndex implements Closeable {
+
+    private static final double MIN_STALE_SEC = 0.01D;
+
+    private final MMapDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final ScheduledExecutorService committer;
+
+    /**
+     * 경로에 색인을 열고, 없으면 새로 만듭니다.
+     *
+     * @param path           - 색인 파일을 저장할 디렉토리입니다.
+     * @param analyzer       - 색인과 검색에 사용할 Analyzer 입니다.
+     * @param maxStale       - 쓰기가 없을 때 reader 를 다시 여는 최대 간격입니다.
+     * @param commitInterval - 색인을 디스크에 commit 하는 간격입니다.
+     * @throws IOException 색인을 열 수 없을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public LuceneIndex(final Path path, final Analyzer analyzer, final Duration maxStale,
+                       final Duration commitInterval) throws IOException {
+
+        this.directory = new MMapDirectory(Files.createDirectories(path));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager,
+                                                                 maxStale.toMillis() / 1000.0D, MIN_STALE_SEC);
+        this.reopenThread.setName("lucene-nrt-" + path.getFileName());
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+
+        this.committer = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("lucene-commit-" + path.getFileName() + "-"));
+        this.committer.scheduleWithFixedDelay(this::commit, commitInterval.toMillis(), commitInterval.toMillis(),
+                                              TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 같은 id 의 문서를 교체합니다.
+     *
+     * @param documents - 색인할 문서와 그 문서를 찾을 id Term 목록입니다.
+     * @since 1.0.0
+     */
+    public void update(final List<Entry> documents) {
+        long generation = -1L;
+        try {
+            for (Entry entry : documents) {
+                generation = writer.updateDocument(entry.getId(), entry.getDocument());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        await(generation);
+    }
+
+    /**
+     * 쿼리에 일치하는 문서를 삭제합니다.
+     *
+     * @param queries - 삭제할 문서의 조건입니다.
+     * @since 1.0.0
+     */
+    public void delete(final Query... queries) {
+        try {
+            await(writer.deleteDocuments(queries));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모든 문서를 삭제합니다.
+     *
+     * @since 1.0.0
+     */
+    public void deleteAll() {
+        try {
+            await(writer.deleteAll());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 최신 NRT reader 로 검색합니다.
+     *
+     * @param search - 검색 함수입니다.
+     * @param <R>    - 검색 결과 타입입니다.
+     * @return 검색 결과입니다.
+     * @since 1.0.0
+     */
+    public <R> R search(final SearchFunction<R> search) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return search.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        committer.shutdown();
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to commit the Lucene index in {}", directory.getDirectory(), e);
+        }
+    }
+
+    private void await(final long generation) {
+        if (generation < 0) {
+            return;
+        }
+
+        try {
+            reopenThread.waitForGeneration(generation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * IndexSearcher 로 검색하는 함수입니다.
+     *
+     * @param <R> - 검색 결과 타입입니다.
+     */
+    @FunctionalInterface
+    public interface SearchFunction<R> {
+
+        R apply(final IndexSearcher searcher) throws IOException;
+
+    }
+
+    /**
+     * 색인할 문서와 그 문서의 id Term 입니다.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static class Entry {
+
+        private final Term id;
+        private final Document document;
+
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.nhnacademy.marketgg.server.elastic.lucene;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.elastic.suggest.SuggestInputs;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+
+/**
+ * 상품 검색 문서를 Lucene 색인에 저장하는 {@link ElasticProductRepository} 구현입니다.
+ * 키워드 검색은 Elasticsearch 구현과 같은 필드 가중치, 정렬, 커서를 사용합니다.
+ * 하이라이트와 집계는 지원하지 않으며 빈 값을 반환합니다. 조회 수와 장바구니 수는 저장만 하고 점수에 반영하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+public class LuceneProductRepository extends AbstractLuceneRepository<ElasticProduct>
+    implements ElasticProductRepository {
+
+    private static final String INDEX_NAME = "products";
+
+    private static final String CATEGORY_CODE = "categoryCode";
+    private static final String PRODUCT_NAME = "productName";
+    private static final String CONTENT = "content";
+    private static final String DESCRIPTION = "description";
+    private static final String LABEL_NAME = "labelName";
+    private static final String LABEL_NAME_KEYWORD = "labelName.keyword";
+    private static final String PRICE = "price";
+    private static final String AMOUNT = "amount";
+    private static final String NAME_SUGGEST = "nameSuggest";
+
+    private static final Map<String, Float> KEYWORD_FIELDS =
+        Map.of(PRODUCT_NAME, 3.0f, LABEL_NAME, 2.0f, DESCRIPTION, 1.5f, CONTENT, 1.0f);
+    private static final float TIE_BREAKER = 0.3f;
+
+    private static final Sort SCORE_SORT =
+        new Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.LONG));
+
+    private final QueryBuilder queryBuilder;
+    private final ObjectMapper mapper;
+
+    public LuceneProductRepository(final LuceneIndex index, final Analyzer analyzer, final ObjectMapper mapper) {
+        super(index, mapper, ElasticProduct.class);
+        this.queryBuilder = new QueryBuilder(analyzer);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected Long idOf(final ElasticProduct entity) {
+        return entity.getId();
+    }
+
+    @Override
+    protected void addFields(final Document document, final ElasticProduct product) {
+        addString(document, CATEGORY_CODE, product.getCategoryCode());
+        addText(document, PRODUCT_NAME, product.getProductName());
+        addText(document, CONTENT, product.getContent());
+        addText(document, DESCRIPTION, product.getDescription());
+        addText(document, LABEL_NAME, product.getLabelName());
+        addString(document, LABEL_NAME_KEYWORD, product.getLabelName());
+
+        if (Objects.nonNull(product.getPrice())) {
+            document.add(new LongPoint(PRICE, product.getPrice()));
+            document.add(new NumericDocValuesField(PRICE, product.getPrice()));
+        }
+        if (Objects.nonNull(product.getAmount())) {
+            document.add(new NumericDocValuesField(AMOUNT, product.getAmount()));
+        }
+
+        for (String input : SuggestInputs.of(product.getProductName())) {
+            document.add(new StringField(NAME_SUGGEST, SuggestInputs.normalize(input), Field.Store.NO));
+        }
+    }
+
+    @Override
+    protected Map<String, SortField.Type> sortableFields() {
+        return Map.of(PRICE, SortField.Type.LONG, AMOUNT, SortField.Type.LONG);
+    }
+
+    @Override
+    public void deleteAllByCategoryCode(final String categoryCode) {
+        index().delete(new TermQuery(new Term(CATEGORY_CODE, categoryCode)));
+    }
+
+    @Override
+    public List<ElasticProduct> findAllByLabelName(final String name) {
+        Query query = queryBuilder.createBooleanQuery(LABEL_NAME, name, BooleanClause.Occur.MUST);
+        if (Objects.isNull(query)) {
+            return List.of();
+        }
+
+        return index().search(searcher -> toEntities(searcher, searcher.search(
+            query, Math.max(1, searcher.getIndexReader().numDocs()), new Sort(new SortField(ID, SortField.Type.LONG)))));
+    }
+
+    @Override
+    public Page<ElasticProduct> findAllByCategoryCode(final Pageable pageable, final String categoryCode) {
+        return findPage(new TermQuery(new Term(CATEGORY_CODE, categoryCode)), pageable);
+    }
+
+    @Override
+    public SearchHits<ElasticProduct> search(final EsProductSearchRequest request) {
+        Query query = query(request);
+        Object[] after = Objects.isNull(request.getCursor()) ? null : after(request.getCursor());
+
+        return index().search(searcher -> {
+            // 정렬 값이 같은 문서는 커서의 문서 자신뿐이므로, 마지막 Lucene 문서 번호를 넣어 그 문서까지 건너뜁니다.
+            TopFieldDocs topDocs = Objects.isNull(after)
+                ? searcher.search(query, request.getSize(), SCORE_SORT, true)
+                : searcher.searchAfter(new FieldDoc(searcher.getIndexReader().maxDoc() - 1, (float) after[0], after),
+                                       query, request.getSize(), SCORE_SORT, true);
+
+            List<SearchHit<ElasticProduct>> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            float maxScore = Float.NaN;
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                ElasticProduct product = toEntity(searcher.doc(scoreDoc.doc));
+                hits.add(new SearchHit<>(INDEX_NAME, String.valueOf(product.getId()), null, scoreDoc.score,
+                                         ((FieldDoc) scoreDoc).fields, Map.of(), product));
+                maxScore = Float.isNaN(maxScore) ? scoreDoc.score : Math.max(maxScore, scoreDoc.score);
+            }
+
+            TotalHitsRelation relation = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                ? TotalHitsRelation.EQUAL_TO
+                : TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
+
+            return new SearchHitsImpl<>(topDocs.totalHits.value, relation, maxScore, null, hits, null, null);
+        });
+    }
+
+    @Override
+    public List<ProductSuggestion> suggest(final String prefix, final int size) {
+        Query query = new PrefixQuery(new Term(NAME_SUGGEST, SuggestInputs.normalize(prefix)));
+
+        Map<String, ProductSuggestion> suggestions = new LinkedHashMap<>();
+        for (ElasticProduct product : find(query, size * 4, new Sort(new SortField(ID, SortField.Type.LONG)))) {
+            if (suggestions.size() == size) {
+                break;
+            }
+            suggestions.putIfAbsent(product.getProductName(),
+                                    new ProductSuggestion(product.getId(), product.getProductName()));
+        }
+
+        return new ArrayList<>(suggestions.values());
+    }
+
+    /**
+     * Lucene 은 문서의 일부만 바꿀 수 없으므로 저장된 문서에 바뀐 필드를 덮어쓴 뒤 문서 전체를 다시 색인합니다.
+     */
+    @Override
+    public Set<Long> updateFields(final Map<Long, Map<String, Object>> changes) {
+        if (changes.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> missing = new HashSet<>(changes.keySet());
+        List<ElasticProduct> updated = new ArrayList<>(changes.size());
+        for (ElasticProduct product : findAllById(changes.keySet())) {
+            try {
+                mapper.updateValue(product, changes.get(product.getId()));
+            } catch (JsonMappingException e) {
+                throw new IllegalArgumentException("갱신할 수 없는 필드입니다: " + changes.get(product.getId()), e);
+            }
+            missing.remove(product.getId());
+            updated.add(product);
+        }
+        saveAll(updated);
+
+        return missing;
+    }
+
+    private Query query(final EsProductSearchRequest request) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (Objects.isNull(request.getKeyword()) || request.getKeyword().isBlank()) {
+            query.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            query.add(keywordQuery(request.getKeyword()), BooleanClause.Occur.MUST);
+        }
+
+        if (Objects.nonNull(request.getCategoryCode())) {
+            query.add(new TermQuery(new Term(CATEGORY_CODE, request.getCategoryCode())), BooleanClause.Occur.FILTER);
+        }
+        if (Objects.nonNull(request.getLabelName())) {
+            query.add(new TermQuery(new Term(LABEL_NAME_KEYWORD, request.getLabelName())),
+                      BooleanClause.Occur.FILTER);
+        }
+        if (Objects.nonNull(request.getMinPrice()) || Objects.nonNull(request.getMaxPrice())) {
+            long min = Objects.isNull(request.getMinPrice()) ? Long.MIN_VALUE : request.getMinPrice();
+            long max = Objects.isNull(request.getMaxPrice()) ? Long.MAX_VALUE : request.getMaxPrice();
+            query.add(LongPoint.newRangeQuery(PRICE, min, max), BooleanClause.Occur.FILTER);
+        }
+
+        return query.build();
+    }
+
+    /**
+     * Elasticsearch 의 best_fields multi_match 와 같이 필드별 점수 중 가장 높은 점수에 나머지 점수의 일부를 더합니다.
+     */
+    private Query keywordQuery(final String keyword) {
+        List<Query> fieldQueries = new ArrayList<>();
+        KEYWORD_FIELDS.forEach((field, boost) -> {
+            Query fieldQuery = queryBuilder.createBooleanQuery(field, keyword);
+            if (Objects.nonNull(fieldQuery)) {
+                fieldQueries.add(new BoostQuery(fieldQuery, boost));
+            }
+        });
+
+        return fieldQueries.isEmpty() ? new MatchNoDocsQuery() : new DisjunctionMaxQuery(fieldQueries, TIE_BREAKER);
+    }
+
+    private static Object[] after(final String cursor) {
+        List<Object> sortValues = SearchAfterCursor.decode(cursor);
+        if (sortValues.size() != 2 || !(sortValues.get(0) instanceof Number)
+            || !(sortValues.get(1) instanceof Number)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        float score = ((Number) sortValues.get(0)).floatValue();
+        long id = ((Number) sortValues.get(1)).longValue();
+
+        return new Object[] { score, id };
+    }
+
+    private static void addString(final Document document, final String field, final String value) {
+        if (Objects.nonNull(value)) {
+            document.add(new StringField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static void addText(final Document document, final String field, final String value) {
+        if (Objects.nonNull(value)) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+}
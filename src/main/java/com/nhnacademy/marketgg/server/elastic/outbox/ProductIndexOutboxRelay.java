@@ -0,0 +1,295 @@
+package com.nhnacademy.marketgg.server.elastic.outbox;
+
+import static java.util.stream.Collectors.toList;
+
+import com.nhnacademy.marketgg.server.cache.ProductSearchCache;
+import com.nhnacademy.marketgg.server.elastic.ElasticProductAssembler;
+import com.nhnacademy.marketgg.server.elastic.ProductIndexFields;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.entity.ProductIndexOutbox;
+import com.nhnacademy.marketgg.server.repository.productindexoutbox.ProductIndexOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 검색 색인 아웃박스를 Elasticsearch 에 반영하는 릴레이입니다.
+ * 아웃박스 레코드를 저장 순서대로 묶음 단위로 가져가 Bulk 요청 한 번으로 색인하고, 성공하면 레코드를 삭제합니다.
+ * 레코드는 잠금을 건 짧은 트랜잭션에서 다음 시도 시각을 임대 시간만큼 미뤄 가져가므로, 색인 요청 중에는 잠금을 잡지 않습니다.
+ * 문서는 아웃박스에 기록된 시점이 아니라 반영하는 시점의 상품 상태로 만들기 때문에,
+ * 같은 상품의 레코드가 여러 개 있어도 마지막 변경만 반영되며 재시도 순서와 관계없이 결과가 같습니다.
+ * 묶음 안의 레코드가 모두 부분 갱신이면 바뀐 필드만 모아 부분 갱신 요청으로 보내고,
+ * 색인에 문서가 없어 부분 갱신하지 못한 상품은 문서 전체를 색인합니다.
+ * 묶음 반영에 실패하면 상품별로 다시 반영하고, 그래도 실패한 상품의 레코드만 남겨 시도 횟수에 따라
+ * 지수적으로 늘어나는 시간만큼 다음 시도를 미룹니다. 최대 시도 횟수만큼 실패한 레코드는 오류와 함께 보류합니다.
+ * 반영에 성공하면 바뀐 상품과 카테고리의 검색 결과 캐시를 제거합니다. 인기도만 바뀐 상품은 순위에만 영향을 주므로
+ * 캐시를 제거하지 않고 캐시 유효 시간이 지나 반영되게 하며, 다른 서버의 캐시도 유효 시간이 지나면 만료됩니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "gg.product-index.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductIndexOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final ProductIndexOutboxRepository outboxRepository;
+    private final ElasticProductAssembler assembler;
+    private final ElasticProductRepository elasticProductRepository;
+    private final ProductSearchCache productSearchCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int maxAttempts;
+    private final Duration lease;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayed;
+    private final Counter failures;
+    private final Counter parked;
+    private final Counter partialUpdates;
+
+    public ProductIndexOutboxRelay(final ProductIndexOutboxRepository outboxRepository,
+                                   final ElasticProductAssembler assembler,
+                                   final ElasticProductRepository elasticProductRepository,
+                                   final ProductSearchCache productSearchCache,
+                                   final PlatformTransactionManager transactionManager,
+                                   @Value("${gg.product-index.outbox.relay.batch-size:500}") final int batchSize,
+                                   @Value("${gg.product-index.outbox.relay.retry-backoff:1s}")
+                                   final Duration retryBackoff,
+                                   @Value("${gg.product-index.outbox.relay.max-retry-backoff:5m}")
+                                   final Duration maxRetryBackoff,
+                                   @Value("${gg.product-index.outbox.relay.max-attempts:10}") final int maxAttempts,
+                                   @Value("${gg.product-index.outbox.relay.lease:1m}") final Duration lease,
+                                   final MeterRegistry meterRegistry) {
+
+        this.outboxRepository = outboxRepository;
+        this.assembler = assembler;
+        this.elasticProductRepository = elasticProductRepository;
+        this.productSearchCache = productSearchCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.batchSize = batchSize;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+
+        TimeGauge.builder("gg.product-index.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                 .description("Age of the oldest product index change not yet applied to Elasticsearch")
+                 .register(meterRegistry);
+        this.relayed = Counter.builder("gg.product-index.outbox.relayed")
+                              .description("Outbox records applied to Elasticsearch")
+                              .register(meterRegistry);
+        this.failures = Counter.builder("gg.product-index.outbox.failures")
+                               .description("Products whose index changes failed and were postponed or parked")
+                               .register(meterRegistry);
+        this.parked = Counter.builder("gg.product-index.outbox.parked")
+                             .description("Outbox records parked after reaching the maximum attempts")
+                             .register(meterRegistry);
+        this.partialUpdates = Counter.builder("gg.product-index.outbox.partial-updates")
+                                     .description("Product documents updated with only their changed fields")
+                                     .register(meterRegistry);
+    }
+
+    /**
+     * 처리할 수 있는 아웃박스 레코드가 없을 때까지 묶음 단위로 반영합니다.
+     *
+     * @since 1.0.0
+     */
+    @Scheduled(fixedDelayString = "${gg.product-index.outbox.relay.interval-ms:1000}")
+    public void relay() {
+        int drained;
+        do {
+            drained = drainBatch();
+        } while (drained >= batchSize);
+
+        lagMillis.set(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()
+                                      .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now())
+                                                             .toMillis())
+                                      .orElse(0L));
+    }
+
+    private int drainBatch() {
+        List<ProductIndexOutbox> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> changedIds = new HashSet<>();
+        Set<String> changedCategories = new HashSet<>();
+        try {
+            apply(claimed, changedIds, changedCategories);
+            complete(claimed);
+        } catch (RuntimeException e) {
+            log.warn("Failed to relay {} product index changes, retrying each product separately",
+                     claimed.size(), e);
+            retryEachProduct(claimed, changedIds, changedCategories);
+        }
+        if (!changedIds.isEmpty()) {
+            productSearchCache.invalidate(changedIds, changedCategories);
+        }
+
+        return claimed.size();
+    }
+
+    /**
+     * 처리할 레코드를 잠가 읽고 처리하는 동안 다른 릴레이가 가져가지 않도록 다음 시도 시각을 미룬 뒤 바로 커밋합니다.
+     * Elasticsearch 요청은 잠금을 놓은 뒤에 보냅니다.
+     */
+    private List<ProductIndexOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            List<ProductIndexOutbox> pending =
+                outboxRepository.findPending(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (!pending.isEmpty()) {
+                outboxRepository.lease(ids(pending), LocalDateTime.now().plus(lease));
+            }
+
+            return pending;
+        });
+    }
+
+    private void complete(final List<ProductIndexOutbox> records) {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(ids(records)));
+        relayed.increment(records.size());
+    }
+
+    /**
+     * 묶음 반영에 실패하면 상품별로 나누어 다시 반영하여, 실패하는 상품이 같은 묶음의 다른 상품을 붙잡지 않게 합니다.
+     */
+    private void retryEachProduct(final List<ProductIndexOutbox> claimed, final Set<Long> changedIds,
+                                  final Set<String> changedCategories) {
+
+        Map<Long, List<ProductIndexOutbox>> byProduct = new LinkedHashMap<>();
+        for (ProductIndexOutbox outbox : claimed) {
+            byProduct.computeIfAbsent(outbox.getProductId(), id -> new ArrayList<>()).add(outbox);
+        }
+
+        for (List<ProductIndexOutbox> records : byProduct.values()) {
+            try {
+                apply(records, changedIds, changedCategories);
+                complete(records);
+            } catch (RuntimeException e) {
+                fail(records, e);
+            }
+        }
+    }
+
+    /**
+     * 레코드를 Elasticsearch 에 반영하고, 모두 반영한 뒤에만 캐시에서 제거할 상품과 카테고리를 더합니다.
+     */
+    private void apply(final List<ProductIndexOutbox> claimed, final Set<Long> changedIds,
+                       final Set<String> changedCategories) {
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        Set<Long> indexedIds = new HashSet<>();
+        Set<String> indexedCategories = new HashSet<>();
+        Map<Long, Set<String>> partial = new LinkedHashMap<>();
+        for (ProductIndexOutbox outbox : claimed) {
+            Long productId = outbox.getProductId();
+            boolean firstSeen = productIds.add(productId);
+            if (outbox.getOperation() != ProductIndexOutbox.Operation.UPDATE || outbox.getFieldNames().isEmpty()) {
+                partial.remove(productId);
+            } else if (firstSeen || partial.containsKey(productId)) {
+                partial.computeIfAbsent(productId, id -> new LinkedHashSet<>()).addAll(outbox.getFieldNames());
+            }
+        }
+
+        for (Long productId : productIds) {
+            Set<String> fields = partial.get(productId);
+            if (Objects.isNull(fields) || !ProductIndexFields.POPULARITY.containsAll(fields)) {
+                indexedIds.add(productId);
+            }
+        }
+
+        List<ElasticProduct> assembled = assembler.assemble(productIds);
+        Set<Long> removed = new LinkedHashSet<>(productIds);
+        List<ElasticProduct> documents = new ArrayList<>();
+        Map<Long, Map<String, Object>> changes = new LinkedHashMap<>();
+        for (ElasticProduct document : assembled) {
+            removed.remove(document.getId());
+            if (indexedIds.contains(document.getId())) {
+                indexedCategories.add(document.getCategoryCode());
+            }
+            Set<String> fields = partial.get(document.getId());
+            if (Objects.isNull(fields)) {
+                documents.add(document);
+            } else {
+                changes.put(document.getId(), ProductIndexFields.values(document, fields));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            Set<Long> missing = elasticProductRepository.updateFields(changes);
+            assembled.stream()
+                     .filter(document -> missing.contains(document.getId()))
+                     .forEach(documents::add);
+            partialUpdates.increment((double) changes.size() - missing.size());
+        }
+        if (!documents.isEmpty()) {
+            elasticProductRepository.saveAll(documents);
+        }
+        if (!removed.isEmpty()) {
+            elasticProductRepository.deleteAllById(removed);
+        }
+        changedIds.addAll(indexedIds);
+        changedCategories.addAll(indexedCategories);
+    }
+
+    /**
+     * 실패한 레코드의 다음 시도를 시도 횟수에 따라 지수적으로 미루고, 최대 시도 횟수에 이르면 보류합니다.
+     */
+    private void fail(final List<ProductIndexOutbox> records, final RuntimeException cause) {
+        failures.increment();
+        int attempts = records.stream().mapToInt(ProductIndexOutbox::getAttempts).max().orElse(0);
+        if (attempts + 1 >= maxAttempts) {
+            log.error("Parking {} index changes of product {} after {} attempts",
+                      records.size(), records.get(0).getProductId(), attempts + 1, cause);
+            String lastError = String.valueOf(cause.getMessage());
+            String truncated = lastError.length() > MAX_ERROR_LENGTH
+                ? lastError.substring(0, MAX_ERROR_LENGTH) : lastError;
+            transactionTemplate.executeWithoutResult(
+                status -> outboxRepository.park(ids(records), LocalDateTime.now(), truncated));
+            parked.increment(records.size());
+            return;
+        }
+
+        log.warn("Failed to relay index changes of product {}, postponing", records.get(0).getProductId(), cause);
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+
+        LocalDateTime availableAt = LocalDateTime.now().plus(backoff);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.postpone(ids(records), availableAt));
+    }
+
+    private static List<Long> ids(final List<ProductIndexOutbox> claimed) {
+        return claimed.stream().map(ProductIndexOutbox::getId).collect(toList());
+    }
+
+}
@@ -0,0 +1,304 @@
+package com.nhnacademy.marketgg.server.elastic.reindex;
+
+import com.nhnacademy.marketgg.server.elastic.ElasticProductAssembler;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.entity.ProductReindexJob;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import com.nhnacademy.marketgg.server.repository.productreindexjob.ProductReindexJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.settings.Settings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 테이블로 새 검색 색인을 만들고 별칭을 옮겨 무중단으로 교체합니다.
+ *
+ * <ol>
+ *     <li>상품 PK 를 DB 커서로 스트리밍하며 묶음 단위로 나눕니다.</li>
+ *     <li>각 묶음은 라벨, 대표 이미지와 함께 한 번의 쿼리로 문서를 만들고 Bulk 요청으로 새 색인에 저장합니다.
+ *         동시에 처리하는 묶음 수는 parallelism 으로 제한합니다.</li>
+ *     <li>앞선 묶음이 모두 끝난 마지막 상품 번호를 체크포인트로 저장하므로, 중단되면 그 다음 상품부터 이어서 진행합니다.</li>
+ *     <li>작업 중 변경된 상품을 새 색인에 다시 반영한 뒤 별칭을 한 번의 요청으로 옮기고,
+ *         별칭을 옮기는 사이 이전 색인에만 반영된 변경을 한 번 더 반영합니다.</li>
+ * </ol>
+ *
+ * <p>Elasticsearch 의 색인과 별칭을 다루므로 lucene 프로필에서는 등록하지 않습니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Profile("!lucene")
+@Component
+public class ProductReindexer {
+
+    private static final String REFRESH_INTERVAL = "index.refresh_interval";
+
+    private final ProductRepository productRepository;
+    private final ProductReindexJobRepository jobRepository;
+    private final ElasticProductAssembler assembler;
+    private final ElasticsearchOperations operations;
+    private final RestHighLevelClient client;
+    private final TransactionTemplate streamTemplate;
+    private final TransactionTemplate jobTemplate;
+    private final int batchSize;
+    private final int parallelism;
+    private final int fetchSize;
+    private final Counter documents;
+
+    public ProductReindexer(final ProductRepository productRepository,
+                            final ProductReindexJobRepository jobRepository,
+                            final ElasticProductAssembler assembler,
+                            final ElasticsearchOperations operations,
+                            final RestHighLevelClient client,
+                            final PlatformTransactionManager transactionManager,
+                            @Value("${gg.product-index.reindex.batch-size:1000}") final int batchSize,
+                            @Value("${gg.product-index.reindex.parallelism:4}") final int parallelism,
+                            @Value("${gg.product-index.reindex.fetch-size:-2147483648}") final int fetchSize,
+                            final MeterRegistry meterRegistry) {
+
+        this.productRepository = productRepository;
+        this.jobRepository = jobRepository;
+        this.assembler = assembler;
+        this.operations = operations;
+        this.client = client;
+        this.streamTemplate = new TransactionTemplate(transactionManager);
+        this.streamTemplate.setReadOnly(true);
+        this.jobTemplate = new TransactionTemplate(transactionManager);
+        this.jobTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.fetchSize = fetchSize;
+        this.documents = Counter.builder("gg.product-index.reindex.documents")
+                                .description("Documents written to a new products index by the reindex job")
+                                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 검색 색인의 별칭 이름입니다. 검색과 색인 요청은 모두 이 이름으로 합니다.
+     *
+     * @return 별칭 이름입니다.
+     * @since 1.0.0
+     */
+    public String alias() {
+        return operations.getIndexCoordinatesFor(ElasticProduct.class).getIndexName();
+    }
+
+    /**
+     * 재구축 작업을 체크포인트부터 끝까지 진행합니다.
+     * 실패하면 작업을 실패 상태로 저장하며, 같은 작업을 다시 실행하면 체크포인트부터 이어서 진행합니다.
+     *
+     * @param job - 진행할 재구축 작업입니다.
+     * @since 1.0.0
+     */
+    public void reindex(final ProductReindexJob job) {
+        IndexCoordinates target = IndexCoordinates.of(job.getIndexName());
+        try {
+            prepare(target);
+            load(job, target);
+            finishLoad(target);
+
+            LocalDateTime swapStartedAt = LocalDateTime.now();
+            catchUp(job.getStartedAt(), target);
+            swapAlias(target);
+            catchUp(swapStartedAt, target);
+
+            job.complete();
+            save(job);
+            log.info("Reindexed {} products into {}", job.getIndexedCount(), job.getIndexName());
+        } catch (RuntimeException e) {
+            log.error("Reindex into {} failed at product {}", job.getIndexName(), job.getCheckpoint(), e);
+            job.fail(e.toString());
+            save(job);
+        }
+    }
+
+    private void prepare(final IndexCoordinates target) {
+        IndexOperations indexOperations = operations.indexOps(target);
+        if (indexOperations.exists()) {
+            return;
+        }
+
+        org.springframework.data.elasticsearch.core.index.Settings settings =
+            indexOperations.createSettings(ElasticProduct.class);
+        settings.put(REFRESH_INTERVAL, "-1");
+        indexOperations.create(settings, indexOperations.createMapping(ElasticProduct.class));
+    }
+
+    private void load(final ProductReindexJob job, final IndexCoordinates target) {
+        ExecutorService executor =
+            Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("product-reindex-"));
+        Semaphore permits = new Semaphore(parallelism);
+        Deque<Batch> inFlight = new ArrayDeque<>();
+
+        try {
+            streamTemplate.executeWithoutResult(status -> {
+                try (Stream<Long> ids = productRepository.streamLiveIds(job.getCheckpoint(), fetchSize)) {
+                    Iterator<Long> iterator = ids.iterator();
+                    List<Long> batch = new ArrayList<>(batchSize);
+                    while (iterator.hasNext()) {
+                        batch.add(iterator.next());
+                        if (batch.size() == batchSize) {
+                            submit(batch, target, executor, permits, inFlight);
+                            advance(job, inFlight, false);
+                            batch = new ArrayList<>(batchSize);
+                        }
+                    }
+                    if (!batch.isEmpty()) {
+                        submit(batch, target, executor, permits, inFlight);
+                    }
+                }
+            });
+
+            advance(job, inFlight, true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submit(final List<Long> ids, final IndexCoordinates target, final ExecutorService executor,
+                        final Semaphore permits, final Deque<Batch> inFlight) {
+
+        permits.acquireUninterruptibly();
+        CompletableFuture<Integer> future = CompletableFuture.supplyAsync(() -> {
+            List<ElasticProduct> batch = assembler.assemble(ids);
+            if (!batch.isEmpty()) {
+                operations.save(batch, target);
+            }
+            documents.increment(batch.size());
+            return batch.size();
+        }, executor);
+        future.whenComplete((indexed, e) -> permits.release());
+
+        inFlight.addLast(new Batch(ids.get(ids.size() - 1), future));
+    }
+
+    /**
+     * 앞에서부터 끝난 묶음까지 체크포인트를 옮깁니다.
+     * 뒤의 묶음이 먼저 끝나더라도 앞의 묶음이 끝나기 전에는 체크포인트에 포함하지 않습니다.
+     */
+    private void advance(final ProductReindexJob job, final Deque<Batch> inFlight, final boolean waitAll) {
+        Long lastProductId = null;
+        long indexed = 0;
+        while (!inFlight.isEmpty() && (waitAll || inFlight.peekFirst().future.isDone())) {
+            Batch batch = inFlight.pollFirst();
+            indexed += batch.future.join();
+            lastProductId = batch.lastProductId;
+        }
+
+        if (lastProductId != null) {
+            long before = job.getIndexedCount();
+            job.checkpoint(lastProductId, indexed);
+            save(job);
+
+            if (before / (batchSize * 10L) != job.getIndexedCount() / (batchSize * 10L)) {
+                log.info("Reindexed {}/{} products into {}", job.getIndexedCount(), job.getTotalCount(),
+                         job.getIndexName());
+            }
+        }
+    }
+
+    private void finishLoad(final IndexCoordinates target) {
+        try {
+            client.indices().putSettings(new UpdateSettingsRequest(target.getIndexName())
+                                             .settings(Settings.builder().putNull(REFRESH_INTERVAL)),
+                                         RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        operations.indexOps(target).refresh();
+    }
+
+    private void catchUp(final LocalDateTime since, final IndexCoordinates target) {
+        List<Long> updated = productRepository.findIdsUpdatedSince(since);
+        for (int from = 0; from < updated.size(); from += batchSize) {
+            Set<Long> removed = new LinkedHashSet<>(updated.subList(from, Math.min(from + batchSize,
+                                                                                   updated.size())));
+            List<ElasticProduct> batch = assembler.assemble(removed);
+            batch.forEach(document -> removed.remove(document.getId()));
+
+            if (!batch.isEmpty()) {
+                operations.save(batch, target);
+            }
+            removed.forEach(id -> operations.delete(String.valueOf(id), target));
+        }
+    }
+
+    /**
+     * 별칭이 가리키는 색인을 새 색인으로 한 번에 바꾸고 이전 색인을 삭제합니다.
+     * 별칭 대신 같은 이름의 색인이 있었다면 그 색인을 지우고 별칭을 만드는 것도 같은 요청에서 합니다.
+     */
+    private void swapAlias(final IndexCoordinates target) {
+        String alias = alias();
+        IndexOperations aliasOperations = operations.indexOps(IndexCoordinates.of(alias));
+        Map<String, Set<AliasData>> current = aliasOperations.getAliases(alias);
+
+        AliasActions actions = new AliasActions();
+        if (current.isEmpty() && aliasOperations.exists()) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(alias).build()));
+        }
+        current.keySet()
+               .stream()
+               .filter(index -> !index.equals(target.getIndexName()))
+               .forEach(index -> actions.add(new AliasAction.Remove(
+                   AliasActionParameters.builder().withIndices(index).withAliases(alias).build())));
+        actions.add(new AliasAction.Add(
+            AliasActionParameters.builder().withIndices(target.getIndexName()).withAliases(alias).build()));
+
+        operations.indexOps(target).alias(actions);
+
+        current.keySet()
+               .stream()
+               .filter(index -> !index.equals(target.getIndexName()))
+               .forEach(index -> operations.indexOps(IndexCoordinates.of(index)).delete());
+    }
+
+    private void save(final ProductReindexJob job) {
+        jobTemplate.executeWithoutResult(status -> jobRepository.save(job));
+    }
+
+    private static final class Batch {
+
+        private final Long lastProductId;
+        private final CompletableFuture<Integer> future;
+
+        private Batch(final Long lastProductId, final CompletableFuture<Integer> future) {
+            this.lastProductId = lastProductId;
+            this.future = future;
+        }
+
+    }
+
+}
@@ -7,7 +7,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 
-public interface ElasticProductRepository extends ElasticsearchRepository<ElasticProduct, Long> {
+public interface ElasticProductRepository
+    extends ElasticsearchRepository<ElasticProduct, Long>, ElasticProductRepositoryCustom {
 
     void deleteAllByCategoryCode(final String categoryCode);
     List<ElasticProduct> findAllByLabelName(final String name);
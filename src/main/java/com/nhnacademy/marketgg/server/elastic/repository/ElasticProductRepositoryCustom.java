@@ -0,0 +1,51 @@
+package com.nhnacademy.marketgg.server.elastic.repository;
+
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+/**
+ * 상품 검색 색인에 대한 검색 쿼리입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ElasticProductRepositoryCustom {
+
+    /**
+     * 상품명, 내용, 설명, 라벨명을 대상으로 키워드를 검색합니다.
+     * 상품명과 라벨명에 일치하는 문서가 더 높은 점수를 받고, 일치한 부분은 하이라이트로 함께 반환합니다.
+     * 조회 수와 장바구니 수가 많은 상품은 점수가 조금 더 높습니다.
+     * 결과는 점수, 상품 번호 순으로 정렬되며 커서가 있으면 그 다음 문서부터 반환합니다.
+     *
+     * @param request - 검색 요청입니다.
+     * @return 검색 결과입니다.
+     * @since 1.0.0
+     */
+    SearchHits<ElasticProduct> search(final EsProductSearchRequest request);
+
+    /**
+     * 상품명 자동완성 필드에서 접두어로 시작하는 상품을 찾습니다.
+     * 문서는 조회하지 않고 completion suggester 만 실행하며, 상품명이 같은 결과는 하나만 반환합니다.
+     *
+     * @param prefix - 접두어입니다.
+     * @param size   - 최대 결과 수입니다.
+     * @return 자동완성 결과입니다.
+     * @since 1.0.0
+     */
+    List<ProductSuggestion> suggest(final String prefix, final int size);
+
+    /**
+     * 여러 상품 문서의 일부 필드만 한 번의 요청으로 갱신합니다.
+     * 문서 전체를 다시 보내지 않으므로 가격, 재고처럼 자주 바뀌는 필드의 갱신 비용이 줄어듭니다.
+     *
+     * @param changes - 상품 번호별로 갱신할 필드 이름과 값입니다.
+     * @return 색인에 문서가 없어 갱신하지 못한 상품 번호입니다. 호출한 쪽에서 문서 전체를 색인해야 합니다.
+     * @since 1.0.0
+     */
+    Set<Long> updateFields(final Map<Long, Map<String, Object>> changes);
+
+}
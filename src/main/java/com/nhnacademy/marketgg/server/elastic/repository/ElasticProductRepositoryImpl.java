@@ -0,0 +1,241 @@
+package com.nhnacademy.marketgg.server.elastic.repository;
+
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.functionScoreQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+import static org.elasticsearch.index.query.QueryBuilders.multiMatchQuery;
+import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders.fieldValueFactorFunction;
+
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.ProductSearchFacetParser;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.elastic.suggest.SuggestInputs;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.elasticsearch.common.lucene.search.function.CombineFunction;
+import org.elasticsearch.common.lucene.search.function.FieldValueFactorFunction;
+import org.elasticsearch.common.lucene.search.function.FunctionScoreQuery;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.elasticsearch.search.suggest.SuggestBuilder;
+import org.elasticsearch.search.suggest.SuggestBuilders;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.suggest.response.CompletionSuggestion;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+
+@RequiredArgsConstructor
+public class ElasticProductRepositoryImpl implements ElasticProductRepositoryCustom {
+
+    private static final String ID = "id";
+    private static final String CATEGORY_CODE = "categoryCode";
+    private static final String PRODUCT_NAME = "productName";
+    private static final String LABEL_NAME = "labelName";
+    private static final String LABEL_NAME_KEYWORD = "labelName.keyword";
+    private static final String DESCRIPTION = "description";
+    private static final String CONTENT = "content";
+    private static final String PRICE = "price";
+    private static final String NAME_SUGGEST = "nameSuggest";
+    private static final String VIEW_COUNT = "viewCount";
+    private static final String CART_COUNT = "cartCount";
+    private static final String DOCUMENT_MISSING = "document_missing_exception";
+
+    private static final BulkOptions BULK_OPTIONS =
+        BulkOptions.builder().withRefreshPolicy(RefreshPolicy.WAIT_UNTIL).build();
+
+    private static final int CATEGORY_FACET_SIZE = 50;
+    private static final int LABEL_FACET_SIZE = 30;
+
+    private static final float VIEW_COUNT_WEIGHT = 0.5f;
+    private static final float CART_COUNT_WEIGHT = 1.0f;
+
+    private final ElasticsearchOperations operations;
+
+    @Override
+    public SearchHits<ElasticProduct> search(final EsProductSearchRequest request) {
+        NativeSearchQueryBuilder builder = new NativeSearchQueryBuilder()
+            .withQuery(popularityBoosted(query(request)))
+            .withSort(SortBuilders.scoreSort().order(SortOrder.DESC))
+            .withSort(SortBuilders.fieldSort(ID).order(SortOrder.ASC))
+            .withHighlightBuilder(new HighlightBuilder()
+                                      .field(PRODUCT_NAME, 0)
+                                      .field(LABEL_NAME, 0)
+                                      .field(DESCRIPTION, 100, 1)
+                                      .field(CONTENT, 100, 1)
+                                      .preTags("<em>")
+                                      .postTags("</em>"))
+            .withPageable(PageRequest.of(0, request.getSize()));
+
+        if (Objects.isNull(request.getCursor())) {
+            builder.withAggregations(
+                AggregationBuilders.terms(ProductSearchFacetParser.CATEGORIES)
+                                   .field(CATEGORY_CODE)
+                                   .size(CATEGORY_FACET_SIZE),
+                AggregationBuilders.terms(ProductSearchFacetParser.LABELS)
+                                   .field(LABEL_NAME_KEYWORD)
+                                   .size(LABEL_FACET_SIZE),
+                AggregationBuilders.histogram(ProductSearchFacetParser.PRICES)
+                                   .field(PRICE)
+                                   .interval(request.getPriceInterval())
+                                   .minDocCount(1L));
+        }
+
+        NativeSearchQuery query = builder.build();
+        if (Objects.nonNull(request.getCursor())) {
+            query.setSearchAfter(SearchAfterCursor.decode(request.getCursor()));
+        }
+
+        return operations.search(query, ElasticProduct.class);
+    }
+
+    @Override
+    public List<ProductSuggestion> suggest(final String prefix, final int size) {
+        NativeSearchQuery query = new NativeSearchQueryBuilder()
+            .withSuggestBuilder(new SuggestBuilder().addSuggestion(
+                NAME_SUGGEST,
+                SuggestBuilders.completionSuggestion(NAME_SUGGEST)
+                               .prefix(prefix)
+                               .skipDuplicates(true)
+                               .size(size)))
+            .withSourceFilter(new FetchSourceFilter(new String[] { ID, PRODUCT_NAME }, null))
+            .withMaxResults(0)
+            .build();
+
+        Suggest suggest = operations.search(query, ElasticProduct.class).getSuggest();
+        if (Objects.isNull(suggest) || Objects.isNull(suggest.getSuggestion(NAME_SUGGEST))) {
+            return List.of();
+        }
+
+        return suggest.getSuggestion(NAME_SUGGEST)
+                      .getEntries()
+                      .stream()
+                      .flatMap(entry -> entry.getOptions().stream())
+                      .filter(CompletionSuggestion.Entry.Option.class::isInstance)
+                      .map(option -> ((CompletionSuggestion.Entry.Option<?>) option).getSearchHit())
+                      .filter(hit -> Objects.nonNull(hit) && hit.getContent() instanceof ElasticProduct)
+                      .map(hit -> (ElasticProduct) hit.getContent())
+                      .map(product -> new ProductSuggestion(product.getId(), product.getProductName()))
+                      .collect(Collectors.toList());
+    }
+
+    /**
+     * 부분 문서는 기존 문서와 병합되므로 바뀐 필드만 보냅니다.
+     * 상품명이 바뀌면 자동완성 입력값도 함께 갱신합니다.
+     * 저장소의 저장, 삭제처럼 갱신이 검색에 보일 때까지 기다린 뒤 반환하여, 호출한 쪽이 캐시를 비운 직후
+     * 이전 문서로 다시 채우지 않게 합니다.
+     */
+    @Override
+    public Set<Long> updateFields(final Map<Long, Map<String, Object>> changes) {
+        if (changes.isEmpty()) {
+            return Set.of();
+        }
+
+        List<UpdateQuery> queries = new ArrayList<>(changes.size());
+        changes.forEach((id, fields) -> {
+            Document document = Document.from(fields);
+            if (fields.containsKey(PRODUCT_NAME)) {
+                document.put(NAME_SUGGEST, Map.of("input", SuggestInputs.of((String) fields.get(PRODUCT_NAME))));
+            }
+            queries.add(UpdateQuery.builder(id.toString()).withDocument(document).build());
+        });
+
+        try {
+            operations.bulkUpdate(queries, BULK_OPTIONS, operations.getIndexCoordinatesFor(ElasticProduct.class));
+            return Set.of();
+        } catch (BulkFailureException e) {
+            Set<Long> missing = new HashSet<>();
+            for (Map.Entry<String, String> failure : e.getFailedDocuments().entrySet()) {
+                if (!failure.getValue().contains(DOCUMENT_MISSING)) {
+                    throw e;
+                }
+                missing.add(Long.valueOf(failure.getKey()));
+            }
+
+            return missing;
+        }
+    }
+
+    /**
+     * 조회 수와 장바구니 수의 로그 값을 검색 점수에 더합니다.
+     * 로그를 취하므로 인기 상품이라도 키워드 일치 점수를 크게 넘지 않고, 집계가 없는 문서는 점수가 그대로입니다.
+     */
+    private static FunctionScoreQueryBuilder popularityBoosted(final QueryBuilder query) {
+        FunctionScoreQueryBuilder.FilterFunctionBuilder[] functions = {
+            new FunctionScoreQueryBuilder.FilterFunctionBuilder(
+                fieldValueFactorFunction(VIEW_COUNT).modifier(FieldValueFactorFunction.Modifier.LOG1P)
+                                                    .missing(0)
+                                                    .setWeight(VIEW_COUNT_WEIGHT)),
+            new FunctionScoreQueryBuilder.FilterFunctionBuilder(
+                fieldValueFactorFunction(CART_COUNT).modifier(FieldValueFactorFunction.Modifier.LOG1P)
+                                                    .missing(0)
+                                                    .setWeight(CART_COUNT_WEIGHT))
+        };
+
+        return functionScoreQuery(query, functions).scoreMode(FunctionScoreQuery.ScoreMode.SUM)
+                                                   .boostMode(CombineFunction.SUM);
+    }
+
+    /**
+     * 키워드는 점수 계산에 쓰고, 카테고리, 라벨, 가격 조건은 점수에 영향을 주지 않고 캐시되는 filter 절에 넣습니다.
+     */
+    private BoolQueryBuilder query(final EsProductSearchRequest request) {
+        BoolQueryBuilder query = boolQuery();
+        if (Objects.isNull(request.getKeyword()) || request.getKeyword().isBlank()) {
+            query.must(matchAllQuery());
+        } else {
+            query.must(multiMatchQuery(request.getKeyword())
+                           .field(PRODUCT_NAME, 3.0f)
+                           .field(LABEL_NAME, 2.0f)
+                           .field(DESCRIPTION, 1.5f)
+                           .field(CONTENT)
+                           .type(MultiMatchQueryBuilder.Type.BEST_FIELDS)
+                           .tieBreaker(0.3f));
+        }
+
+        if (Objects.nonNull(request.getCategoryCode())) {
+            query.filter(termQuery(CATEGORY_CODE, request.getCategoryCode()));
+        }
+        if (Objects.nonNull(request.getLabelName())) {
+            query.filter(termQuery(LABEL_NAME_KEYWORD, request.getLabelName()));
+        }
+        if (Objects.nonNull(request.getMinPrice()) || Objects.nonNull(request.getMaxPrice())) {
+            RangeQueryBuilder price = rangeQuery(PRICE);
+            if (Objects.nonNull(request.getMinPrice())) {
+                price.gte(request.getMinPrice());
+            }
+            if (Objects.nonNull(request.getMaxPrice())) {
+                price.lte(request.getMaxPrice());
+            }
+            query.filter(price);
+        }
+
+        return query;
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.nhnacademy.marketgg.server.elastic.suggest;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 판매 중인 상품명의 자동완성 색인을 메모리에 보관합니다.
+ * Elasticsearch 를 사용할 수 없을 때 자동완성을 대신 처리하며, 조회 시 DB 에 접근하지 않습니다.
+ *
+ * <p>정규화한 입력값을 키로 정렬해 두므로 접두어 검색은 정렬된 범위를 앞에서부터 읽는 것으로 끝납니다.
+ * 상품 등록, 수정, 삭제는 트랜잭션 커밋 후 바로 반영하고,
+ * 다른 서버에서 변경된 상품은 주기적인 전체 재구성으로 반영합니다.
+ * 재구성 중에 반영한 변경은 기록해 두었다가 새 색인에 다시 적용한 뒤 교체하므로 재구성으로 잃지 않습니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final ProductRepository productRepository;
+
+    private final Object lock = new Object();
+
+    private volatile Index index = new Index();
+
+    /**
+     * 재구성 중에 반영한 변경입니다. 재구성 중이 아니면 null 이며, lock 으로 보호합니다.
+     */
+    private List<Consumer<Index>> changesDuringRebuild;
+
+    public ProductNameIndex(final ProductRepository productRepository, final MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+
+        Gauge.builder("gg.product-suggest.index.size", this, ProductNameIndex::size)
+             .description("The number of products in the in-memory autocomplete index")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 판매 중인 상품명으로 색인을 다시 만들고 교체합니다.
+     * 재구성 중에도 기존 색인으로 조회할 수 있으며, 재구성 중에 반영한 변경은 새 색인에 다시 적용합니다.
+     *
+     * @since 1.0.0
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${gg.product-suggest.rebuild-interval-ms:600000}",
+               initialDelayString = "${gg.product-suggest.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            Index rebuilt = new Index();
+            productRepository.findSuggestions().forEach(rebuilt::put);
+            synchronized (lock) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                this.index = rebuilt;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild the product name index", e);
+        } finally {
+            synchronized (lock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 상품명을 색인에 등록하거나 변경합니다. 트랜잭션 안에서 호출하면 커밋 후에 반영합니다.
+     *
+     * @param productId   - 상품 번호입니다.
+     * @param productName - 상품명입니다.
+     * @since 1.0.0
+     */
+    public void put(final Long productId, final String productName) {
+        ProductSuggestion suggestion = new ProductSuggestion(productId, productName);
+        afterCommit(() -> apply(target -> target.put(suggestion)));
+    }
+
+    /**
+     * 상품을 색인에서 제거합니다. 트랜잭션 안에서 호출하면 커밋 후에 반영합니다.
+     *
+     * @param productId - 상품 번호입니다.
+     * @since 1.0.0
+     */
+    public void remove(final Long productId) {
+        afterCommit(() -> apply(target -> target.remove(productId)));
+    }
+
+    /**
+     * 입력한 접두어로 시작하는 상품명을 찾습니다.
+     *
+     * @param prefix - 접두어입니다.
+     * @param size   - 최대 결과 수입니다.
+     * @return 정규화한 상품명 순으로 정렬된 자동완성 결과입니다.
+     * @since 1.0.0
+     */
+    public List<ProductSuggestion> suggest(final String prefix, final int size) {
+        return index.suggest(SuggestInputs.normalize(prefix), size);
+    }
+
+    public int size() {
+        return index.products.size();
+    }
+
+    private void apply(final Consumer<Index> change) {
+        synchronized (lock) {
+            change.accept(index);
+            if (Objects.nonNull(changesDuringRebuild)) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Index {
+
+        private final NavigableMap<String, ProductSuggestion> entries = new ConcurrentSkipListMap<>();
+        private final Map<Long, List<String>> products = new ConcurrentHashMap<>();
+
+        void put(final ProductSuggestion suggestion) {
+            List<String> keys = new ArrayList<>();
+            for (String input : SuggestInputs.of(suggestion.getProductName())) {
+                keys.add(SuggestInputs.normalize(input) + SEPARATOR + suggestion.getId());
+            }
+
+            keys.forEach(key -> entries.put(key, suggestion));
+            List<String> previous = products.put(suggestion.getId(), keys);
+            if (Objects.nonNull(previous)) {
+                previous.stream()
+                        .filter(key -> !keys.contains(key))
+                        .forEach(entries::remove);
+            }
+        }
+
+        void remove(final Long productId) {
+            List<String> keys = products.remove(productId);
+            if (Objects.nonNull(keys)) {
+                keys.forEach(entries::remove);
+            }
+        }
+
+        List<ProductSuggestion> suggest(final String prefix, final int size) {
+            List<ProductSuggestion> suggestions = new ArrayList<>(size);
+            Set<Long> seen = new HashSet<>();
+            for (Map.Entry<String, ProductSuggestion> entry : entries.tailMap(prefix, true).entrySet()) {
+                if (suggestions.size() == size || !entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                if (seen.add(entry.getValue().getId())) {
+                    suggestions.add(entry.getValue());
+                }
+            }
+
+            return suggestions;
+        }
+
+    }
+
+}
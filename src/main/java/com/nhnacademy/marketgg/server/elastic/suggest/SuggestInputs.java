@@ -0,0 +1,53 @@
+package com.nhnacademy.marketgg.server.elastic.suggest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 상품명 자동완성에 사용할 입력값을 만듭니다.
+ * "제주 자몽 1kg" 은 "제주 자몽 1kg", "자몽 1kg", "1kg" 으로 등록되어 중간 단어로 시작하는 입력도 일치합니다.
+ *
+ * @version 1.0.0
+ */
+public final class SuggestInputs {
+
+    private static final int MAX_INPUTS = 8;
+
+    private SuggestInputs() {
+    }
+
+    /**
+     * 상품명을 단어 단위로 나누어 각 단어부터 끝까지의 문자열 목록을 만듭니다.
+     *
+     * @param productName - 상품명입니다.
+     * @return 자동완성 입력값 목록입니다. 상품명이 비어 있으면 빈 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    public static List<String> of(final String productName) {
+        if (Objects.isNull(productName) || productName.isBlank()) {
+            return List.of();
+        }
+
+        String[] words = productName.strip().split("\\s+");
+        List<String> inputs = new ArrayList<>(Math.min(words.length, MAX_INPUTS));
+        for (int i = 0; i < words.length && i < MAX_INPUTS; i++) {
+            inputs.add(String.join(" ", List.of(words).subList(i, words.length)));
+        }
+
+        return inputs;
+    }
+
+    /**
+     * 대소문자와 공백 차이를 무시하고 비교할 수 있도록 입력값을 정규화합니다.
+     *
+     * @param input - 입력값입니다.
+     * @return 정규화한 입력값입니다.
+     * @since 1.0.0
+     */
+    public static String normalize(final String input) {
+        return input.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+}
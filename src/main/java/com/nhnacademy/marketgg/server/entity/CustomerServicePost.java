@@ -12,12 +12,14 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 
-@Table(name = "cs_posts")
+@Table(name = "cs_posts",
+       indexes = @Index(name = "idx_cs_posts_category_code_cs_post_no", columnList = "category_code, cs_post_no"))
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
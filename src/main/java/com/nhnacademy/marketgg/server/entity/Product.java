@@ -10,6 +10,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -17,13 +18,20 @@ import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 상품 엔티티입니다.
  *
  * @since 1.0.0
  */
-@Table(name = "products")
+@Table(name = "products",
+       indexes = {
+           @Index(name = "idx_products_category_live_price",
+                  columnList = "category_code, deleted_at, price, product_no"),
+           @Index(name = "idx_products_category_live_created",
+                  columnList = "category_code, deleted_at, created_at, product_no")
+       })
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -79,6 +87,21 @@ public class Product {
     @Column
     private String capacity;
 
+    /**
+     * 상세 조회 수입니다. 조회마다 갱신하지 않고 메모리에 모아 두었다가 주기적으로 더합니다.
+     * 엔티티를 저장할 때 읽어 온 값으로 덮어쓰지 않도록 집계 쿼리에서만 갱신합니다.
+     */
+    @Column(name = "view_count", insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewCount;
+
+    /**
+     * 장바구니에 담긴 횟수입니다. 조회 수와 같은 방식으로 갱신합니다.
+     */
+    @Column(name = "cart_count", insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long cartCount;
+
     @Column(name = "created_at")
     @JsonFormat(pattern = "yyyy-MM-dd kk:mm:ss")
     private LocalDateTime createdAt;
@@ -106,6 +129,8 @@ public class Product {
         this.expirationDate = productRequest.getExpirationDate();
         this.allergyInfo = productRequest.getAllergyInfo();
         this.capacity = productRequest.getCapacity();
+        this.viewCount = 0L;
+        this.cartCount = 0L;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -134,10 +159,12 @@ public class Product {
      */
     public void deleteProduct() {
         this.deletedAt = LocalDateTime.now();
+        this.updatedAt = this.deletedAt;
     }
 
     public void restoreProduct() {
         this.deletedAt = null;
+        this.updatedAt = LocalDateTime.now();
     }
 
 }
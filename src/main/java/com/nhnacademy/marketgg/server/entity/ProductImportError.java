@@ -0,0 +1,63 @@
+package com.nhnacademy.marketgg.server.entity;
+
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록에서 등록하지 못한 행의 오류 엔티티입니다.
+ *
+ * @version 1.0.0
+ */
+@Table(name = "product_import_errors",
+       indexes = @Index(name = "idx_product_import_errors_job_row", columnList = "product_import_job_no, row_no"))
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ProductImportError {
+
+    private static final int MAX_MESSAGE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_import_error_no")
+    private Long id;
+
+    @Column(name = "product_import_job_no")
+    private Long jobId;
+
+    @Column(name = "row_no")
+    private Long rowNumber;
+
+    @Column
+    private String message;
+
+    /**
+     * 행의 오류를 기록합니다.
+     *
+     * @param jobId     - 일괄 등록 작업 번호입니다.
+     * @param rowNumber - 오류가 난 행 번호입니다. 헤더를 제외하고 1부터 셉니다.
+     * @param message   - 오류 내용입니다. 컬럼 길이를 넘으면 잘라서 저장합니다.
+     * @return 오류 엔티티입니다.
+     * @since 1.0.0
+     */
+    public static ProductImportError of(final Long jobId, final long rowNumber, final String message) {
+        ProductImportError error = new ProductImportError();
+        error.jobId = jobId;
+        error.rowNumber = rowNumber;
+        error.message = Objects.nonNull(message) && message.length() > MAX_MESSAGE_LENGTH
+            ? message.substring(0, MAX_MESSAGE_LENGTH)
+            : message;
+
+        return error;
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.nhnacademy.marketgg.server.entity;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록 작업 엔티티입니다.
+ * 파일을 읽은 위치와 처리한 행 수를 묶음마다 저장하여 진행 상황을 조회할 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+@Table(name = "product_import_jobs")
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ProductImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_import_job_no")
+    private Long id;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Format format;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "total_bytes")
+    private Long totalBytes;
+
+    @Column(name = "read_bytes")
+    private Long readBytes;
+
+    @Column(name = "processed_count")
+    private Long processedCount;
+
+    @Column(name = "imported_count")
+    private Long importedCount;
+
+    @Column(name = "failed_count")
+    private Long failedCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    /**
+     * 새 일괄 등록 작업을 생성합니다.
+     *
+     * @param fileName   - 업로드한 파일 이름입니다.
+     * @param format     - 파일 형식입니다.
+     * @param totalBytes - 파일 크기입니다.
+     * @return 일괄 등록 작업입니다.
+     * @since 1.0.0
+     */
+    public static ProductImportJob start(final String fileName, final Format format, final long totalBytes) {
+        ProductImportJob job = new ProductImportJob();
+        job.fileName = fileName;
+        job.format = format;
+        job.status = Status.RUNNING;
+        job.totalBytes = totalBytes;
+        job.readBytes = 0L;
+        job.processedCount = 0L;
+        job.importedCount = 0L;
+        job.failedCount = 0L;
+        job.startedAt = LocalDateTime.now();
+        job.updatedAt = job.startedAt;
+
+        return job;
+    }
+
+    /**
+     * 한 묶음을 처리한 결과를 기록합니다.
+     *
+     * @param readBytes - 지금까지 읽은 파일 크기입니다.
+     * @param imported  - 이번 묶음에서 등록한 행 수입니다.
+     * @param failed    - 이번 묶음에서 실패한 행 수입니다.
+     * @since 1.0.0
+     */
+    public void progress(final long readBytes, final long imported, final long failed) {
+        this.readBytes = readBytes;
+        this.processedCount += imported + failed;
+        this.importedCount += imported;
+        this.failedCount += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.readBytes = this.totalBytes;
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
+    }
+
+    public void fail(final String reason) {
+        this.status = Status.FAILED;
+        this.failureReason = reason;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 일괄 등록 작업의 상태입니다.
+     */
+    public enum Status {
+        RUNNING, FAILED, COMPLETED
+    }
+
+    /**
+     * 일괄 등록 파일의 형식입니다. CSV 는 첫 행을 필드 이름으로 사용하고, NDJSON 은 한 줄에 상품 하나를 JSON 객체로 적습니다.
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * 파일 확장자나 Content-Type 으로 형식을 판단합니다.
+         *
+         * @param fileName    - 파일 이름입니다.
+         * @param contentType - Content-Type 입니다.
+         * @return 파일 형식입니다.
+         * @throws IllegalArgumentException 지원하지 않는 형식이면 발생합니다.
+         * @since 1.0.0
+         */
+        public static Format of(final String fileName, final String contentType) {
+            String name = Objects.toString(fileName, "").toLowerCase(Locale.ROOT);
+            String type = Objects.toString(contentType, "").toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.startsWith("application/x-ndjson")) {
+                return NDJSON;
+            }
+
+            throw new IllegalArgumentException("CSV 또는 NDJSON 파일만 등록할 수 있습니다: " + fileName);
+        }
+    }
+
+}
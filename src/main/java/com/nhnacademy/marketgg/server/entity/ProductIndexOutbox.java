@@ -0,0 +1,134 @@
+package com.nhnacademy.marketgg.server.entity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 색인 아웃박스 엔티티입니다.
+ * 상품 변경과 같은 트랜잭션에서 저장되며, 릴레이가 Elasticsearch 에 반영한 뒤 삭제합니다.
+ * 정해진 횟수만큼 반영에 실패한 레코드는 삭제하지 않고 보류하여 다른 레코드의 반영을 막지 않게 합니다.
+ *
+ * @version 1.0.0
+ */
+@Table(name = "product_index_outbox",
+       indexes = @Index(name = "idx_product_index_outbox_available_at", columnList = "available_at, outbox_no"))
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ProductIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_no")
+    private Long id;
+
+    @Column(name = "product_no")
+    private Long productId;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Operation operation;
+
+    @Column(name = "changed_fields")
+    private String fields;
+
+    @Column
+    private Integer attempts;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    /**
+     * 반영을 포기하고 보류한 시각입니다. 보류한 레코드는 릴레이가 다시 읽지 않습니다.
+     */
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    private ProductIndexOutbox(final Long productId, final Operation operation, final String fields) {
+        this.productId = productId;
+        this.operation = operation;
+        this.fields = fields;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    /**
+     * 상품 문서를 색인해야 함을 기록합니다.
+     *
+     * @param productId - 색인할 상품의 식별번호입니다.
+     * @return 아웃박스 레코드입니다.
+     * @since 1.0.0
+     */
+    public static ProductIndexOutbox index(final Long productId) {
+        return new ProductIndexOutbox(productId, Operation.INDEX, null);
+    }
+
+    /**
+     * 상품 문서를 색인에서 제거해야 함을 기록합니다.
+     *
+     * @param productId - 제거할 상품의 식별번호입니다.
+     * @return 아웃박스 레코드입니다.
+     * @since 1.0.0
+     */
+    public static ProductIndexOutbox delete(final Long productId) {
+        return new ProductIndexOutbox(productId, Operation.DELETE, null);
+    }
+
+    /**
+     * 상품 문서의 일부 필드만 갱신해야 함을 기록합니다.
+     *
+     * @param productId - 갱신할 상품의 식별번호입니다.
+     * @param fields    - 바뀐 검색 문서 필드 이름입니다.
+     * @return 아웃박스 레코드입니다.
+     * @since 1.0.0
+     */
+    public static ProductIndexOutbox update(final Long productId, final Collection<String> fields) {
+        return new ProductIndexOutbox(productId, Operation.UPDATE, String.join(",", fields));
+    }
+
+    /**
+     * 부분 갱신할 필드 이름을 반환합니다.
+     *
+     * @return 필드 이름입니다. 부분 갱신 레코드가 아니면 빈 집합입니다.
+     * @since 1.0.0
+     */
+    public Set<String> getFieldNames() {
+        if (Objects.isNull(fields) || fields.isBlank()) {
+            return Set.of();
+        }
+
+        return new LinkedHashSet<>(List.of(fields.split(",")));
+    }
+
+    /**
+     * 아웃박스 레코드가 요청하는 색인 작업입니다.
+     * UPDATE 는 기록된 필드만 갱신하며, 같은 상품에 INDEX 나 DELETE 가 함께 있으면 그 작업을 따릅니다.
+     */
+    public enum Operation {
+        INDEX, UPDATE, DELETE
+    }
+
+}
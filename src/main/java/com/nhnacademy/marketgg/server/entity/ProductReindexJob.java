@@ -0,0 +1,136 @@
+package com.nhnacademy.marketgg.server.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 색인 재구축 작업 엔티티입니다.
+ * 색인한 마지막 상품 번호를 체크포인트로 저장하여 중단된 작업을 이어서 진행할 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+@Table(name = "product_reindex_jobs")
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ProductReindexJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_reindex_job_no")
+    private Long id;
+
+    @Column(name = "index_name")
+    private String indexName;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "last_product_no")
+    private Long checkpoint;
+
+    @Column(name = "total_count")
+    private Long totalCount;
+
+    @Column(name = "indexed_count")
+    private Long indexedCount;
+
+    @Column(name = "run_indexed_count")
+    private Long runIndexedCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "run_started_at")
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "checkpointed_at")
+    private LocalDateTime checkpointedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    /**
+     * 새 색인에 대한 재구축 작업을 생성합니다.
+     *
+     * @param indexName  - 새로 만들 색인의 이름입니다.
+     * @param totalCount - 색인할 상품 수입니다.
+     * @return 재구축 작업입니다.
+     * @since 1.0.0
+     */
+    public static ProductReindexJob start(final String indexName, final long totalCount) {
+        ProductReindexJob job = new ProductReindexJob();
+        job.indexName = indexName;
+        job.status = Status.RUNNING;
+        job.checkpoint = 0L;
+        job.totalCount = totalCount;
+        job.indexedCount = 0L;
+        job.runIndexedCount = 0L;
+        job.startedAt = LocalDateTime.now();
+        job.runStartedAt = job.startedAt;
+        job.checkpointedAt = job.startedAt;
+
+        return job;
+    }
+
+    /**
+     * 중단된 작업을 마지막 체크포인트부터 다시 진행합니다.
+     *
+     * @since 1.0.0
+     */
+    public void resume() {
+        this.status = Status.RUNNING;
+        this.runIndexedCount = 0L;
+        this.runStartedAt = LocalDateTime.now();
+        this.checkpointedAt = this.runStartedAt;
+        this.failureReason = null;
+    }
+
+    /**
+     * 색인을 마친 마지막 상품 번호와 색인한 문서 수를 기록합니다.
+     *
+     * @param lastProductId - 색인을 마친 마지막 상품 번호입니다.
+     * @param indexed       - 이번 체크포인트까지 새로 색인한 문서 수입니다.
+     * @since 1.0.0
+     */
+    public void checkpoint(final Long lastProductId, final long indexed) {
+        this.checkpoint = lastProductId;
+        this.indexedCount += indexed;
+        this.runIndexedCount += indexed;
+        this.checkpointedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.checkpointedAt = this.completedAt;
+    }
+
+    public void fail(final String reason) {
+        this.status = Status.FAILED;
+        this.failureReason = reason;
+        this.checkpointedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재구축 작업의 상태입니다.
+     */
+    public enum Status {
+        RUNNING, FAILED, COMPLETED
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.server.exception;
+
+/**
+ * 외부 서버로 보내는 HTTP 요청 대기열이 가득 차 요청을 보내지 않았을 때 발생합니다.
+ * 원격 서버의 장애가 아니라 이 서버의 과부하를 나타냅니다.
+ *
+ * @version 1.0.0
+ */
+public class RequestQueueFullException extends RuntimeException {
+
+    private static final String MESSAGE = "HTTP 요청 대기열이 가득 찼습니다: ";
+
+    public RequestQueueFullException(String uri) {
+        super(MESSAGE + uri);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.nhnacademy.marketgg.server.exception.auth;
+
+public class GatewayUnavailableException extends RuntimeException {
+
+    private static final String MESSAGE = "인증 서버에 연결할 수 없습니다.";
+
+    public GatewayUnavailableException(Throwable cause) {
+        super(MESSAGE, cause);
+    }
+
+}
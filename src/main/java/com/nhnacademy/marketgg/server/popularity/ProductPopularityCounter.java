@@ -0,0 +1,178 @@
+package com.nhnacademy.marketgg.server.popularity;
+
+import com.nhnacademy.marketgg.server.elastic.ProductIndexFields;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품별 조회 수와 장바구니 담기 수를 메모리에서 집계하고 주기적으로 DB 와 검색 색인에 반영합니다.
+ * 요청 스레드는 {@link LongAdder} 를 증가시키기만 하므로 조회마다 DB 에 쓰지 않고 스레드끼리 경합하지도 않습니다.
+ * 반영할 때는 마지막으로 반영한 값과의 차이만 UPDATE 묶음으로 더하고, 같은 트랜잭션에서 검색 색인 아웃박스에
+ * 부분 갱신 레코드를 남겨 릴레이가 Bulk 요청으로 검색 문서의 인기도 필드를 갱신하게 합니다.
+ * 수정 시각도 함께 갱신하여, 색인 재구축이 작업 중 바뀐 상품을 수정 시각으로 찾을 때 인기도 변경도 새 색인에 반영되게 합니다.
+ * 반영에 실패하면 기준 값을 그대로 두어 다음 주기에 다시 더하므로, 서버가 비정상 종료될 때만 한 주기만큼의 집계를 잃습니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductPopularityCounter {
+
+    private static final String UPDATE_COUNTS =
+        "UPDATE products SET view_count = COALESCE(view_count, 0) + ?, cart_count = COALESCE(cart_count, 0) + ?, "
+            + "updated_at = ? WHERE product_no = ?";
+    private static final String INSERT_OUTBOX =
+        "INSERT INTO product_index_outbox (product_no, operation, changed_fields, attempts, created_at, available_at) "
+            + "VALUES (?, 'UPDATE', ?, 0, ?, ?)";
+    private static final String CHANGED_FIELDS =
+        String.join(",", ProductIndexFields.VIEW_COUNT, ProductIndexFields.CART_COUNT);
+
+    private final ConcurrentMap<Long, Counts> counts = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter flushed;
+    private final Counter failures;
+
+    public ProductPopularityCounter(final JdbcTemplate jdbcTemplate,
+                                    final PlatformTransactionManager transactionManager,
+                                    final MeterRegistry meterRegistry) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushed = Counter.builder("gg.product-popularity.flushed")
+                              .description("Products whose view and cart counts were added to the database")
+                              .register(meterRegistry);
+        this.failures = Counter.builder("gg.product-popularity.flush.failures")
+                               .description("Popularity flushes that failed and were retried on the next interval")
+                               .register(meterRegistry);
+    }
+
+    /**
+     * 상품 상세 조회를 한 번 셉니다. 존재하고 삭제되지 않은 상품만 기록해야 합니다.
+     *
+     * @param productId - 조회한 상품의 식별번호입니다.
+     * @since 1.0.0
+     */
+    public void recordView(final Long productId) {
+        counts.computeIfAbsent(productId, id -> new Counts()).views.increment();
+    }
+
+    /**
+     * 상품을 장바구니에 담은 횟수를 한 번 셉니다. 존재하고 삭제되지 않은 상품만 기록해야 합니다.
+     *
+     * @param productId - 장바구니에 담은 상품의 식별번호입니다.
+     * @since 1.0.0
+     */
+    public void recordCartAdd(final Long productId) {
+        counts.computeIfAbsent(productId, id -> new Counts()).carts.increment();
+    }
+
+    /**
+     * 주기적으로 집계를 반영합니다. 실패하면 로그만 남기고 다음 주기에 다시 시도합니다.
+     *
+     * @since 1.0.0
+     */
+    @Scheduled(fixedDelayString = "${gg.product-popularity.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to flush product popularity counts, retrying on the next interval", e);
+        }
+    }
+
+    /**
+     * 종료할 때 남은 집계를 반영합니다.
+     *
+     * @since 1.0.0
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+
+    /**
+     * 마지막 반영 이후 늘어난 조회 수와 장바구니 수를 한 트랜잭션에서 상품 테이블에 더하고 색인 아웃박스에 기록합니다.
+     * 여러 서버가 동시에 반영해도 잠금 순서가 같도록 상품 번호 순으로 갱신합니다.
+     *
+     * @return 반영한 상품 수입니다.
+     * @since 1.0.0
+     */
+    public synchronized int flush() {
+        List<Map.Entry<Long, Counts>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> productIds = new ArrayList<>();
+        List<long[]> totals = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (Map.Entry<Long, Counts> entry : entries) {
+            Counts count = entry.getValue();
+            long views = count.views.sum();
+            long carts = count.carts.sum();
+            if (views == count.flushedViews && carts == count.flushedCarts) {
+                continue;
+            }
+
+            productIds.add(entry.getKey());
+            totals.add(new long[] { views, carts });
+            updates.add(
+                new Object[] { views - count.flushedViews, carts - count.flushedCarts, now, entry.getKey() });
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> outbox = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            outbox.add(new Object[] { productId, CHANGED_FIELDS, now, now });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_COUNTS, updates);
+            jdbcTemplate.batchUpdate(INSERT_OUTBOX, outbox);
+        });
+
+        for (int i = 0; i < productIds.size(); i++) {
+            Counts count = counts.get(productIds.get(i));
+            count.flushedViews = totals.get(i)[0];
+            count.flushedCarts = totals.get(i)[1];
+        }
+        flushed.increment(productIds.size());
+
+        return productIds.size();
+    }
+
+    /**
+     * 상품 하나의 누적 집계입니다. 기준 값은 반영하는 스레드에서만 읽고 씁니다.
+     * 항목을 지우면 동시에 증가시킨 값을 잃을 수 있으므로 지우지 않습니다.
+     * 호출하는 쪽에서 존재하고 삭제되지 않은 상품만 기록하므로 항목 수는 조회된 상품 수를 넘지 않습니다.
+     */
+    private static final class Counts {
+
+        private final LongAdder views = new LongAdder();
+        private final LongAdder carts = new LongAdder();
+
+        private long flushedViews;
+        private long flushedCarts;
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * RFC 4180 형식의 CSV 를 읽습니다. 첫 행은 필드 이름이며, 따옴표로 감싼 값에는 쉼표, 줄바꿈, 두 번 쓴 따옴표를 넣을 수 있습니다.
+ * 레코드 하나의 길이는 최대 길이로 제한하여, 닫히지 않은 따옴표가 파일의 나머지를 한 값으로 읽어 메모리를 채우지 않게 합니다.
+ * 최대 길이를 넘은 행은 그 줄의 끝까지 건너뛰고 실패로 처리하며, 다음 줄부터 계속 읽습니다.
+ *
+ * @version 1.0.0
+ */
+public class CsvProductImportReader implements ProductImportReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+    private final List<String> header;
+    private long rowNumber;
+
+    public CsvProductImportReader(final BufferedReader reader, final int maxRecordLength) throws IOException {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+
+        List<String> names = readRecord();
+        if (Objects.isNull(names)) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        if (!names.isEmpty() && !names.get(0).isEmpty() && names.get(0).charAt(0) == BOM) {
+            names.set(0, names.get(0).substring(1));
+        }
+        names.replaceAll(String::strip);
+        this.header = names;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+        } while (Objects.nonNull(record) && record.size() == 1 && record.get(0).isBlank());
+
+        if (Objects.isNull(record)) {
+            return null;
+        }
+
+        rowNumber++;
+        if (record.size() != header.size()) {
+            throw new IllegalArgumentException(
+                "필드 수가 헤더와 다릅니다: " + record.size() + " (헤더 " + header.size() + ")");
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = record.get(i);
+            values.put(header.get(i), value.isBlank() ? null : value);
+        }
+
+        return values;
+    }
+
+    @Override
+    public long rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 레코드 하나를 읽습니다. 따옴표 안의 줄바꿈은 값에 포함하므로 레코드가 여러 줄일 수 있습니다.
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int length = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (++length > maxRecordLength) {
+                skipLine(c);
+                rowNumber++;
+                throw new IllegalArgumentException("행이 최대 길이 " + maxRecordLength + "자를 넘었습니다.");
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    field.append((char) reader.read());
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    reader.read();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            rowNumber++;
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 방금 읽은 문자부터 줄의 끝까지 건너뜁니다. 따옴표 안인지는 따지지 않습니다.
+     */
+    private void skipLine(final int current) throws IOException {
+        int c = current;
+        while (c != -1 && c != '\n' && c != '\r') {
+            c = reader.read();
+        }
+        if (c == '\r' && peek() == '\n') {
+            reader.read();
+        }
+    }
+
+    private int peek() throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        reader.reset();
+
+        return c;
+    }
+
+}
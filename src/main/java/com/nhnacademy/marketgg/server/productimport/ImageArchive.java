@@ -0,0 +1,88 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 상품 일괄 등록과 함께 업로드한 이미지 zip 파일입니다.
+ * 압축 파일의 목차만 읽어 두고, 행에서 참조한 이미지만 그때그때 꺼내 저장합니다.
+ *
+ * @version 1.0.0
+ */
+public class ImageArchive implements Closeable {
+
+    private final ZipFile zipFile;
+    private final Path directory;
+    private final String prefix;
+    private final Map<String, String> extracted = new HashMap<>();
+
+    private ImageArchive(final ZipFile zipFile, final Path directory, final String prefix) {
+        this.zipFile = zipFile;
+        this.directory = directory;
+        this.prefix = prefix;
+    }
+
+    /**
+     * 이미지 압축 파일을 엽니다.
+     *
+     * @param archive   - zip 파일 경로입니다. 없으면 null 입니다.
+     * @param directory - 이미지를 저장할 디렉토리입니다.
+     * @param prefix    - 저장할 파일 이름 앞에 붙일 문자열입니다. 작업마다 다르게 지정해 파일 이름이 겹치지 않게 합니다.
+     * @return 이미지 압축 파일입니다.
+     * @throws IOException zip 파일을 열 수 없는 경우 발생합니다.
+     * @since 1.0.0
+     */
+    public static ImageArchive open(final Path archive, final Path directory, final String prefix)
+        throws IOException {
+
+        return new ImageArchive(Objects.isNull(archive) ? null : new ZipFile(archive.toFile()), directory, prefix);
+    }
+
+    /**
+     * 이미지를 꺼내 저장합니다. 같은 이미지를 여러 행에서 참조하면 한 번만 저장합니다.
+     *
+     * @param name - 압축 파일 안의 경로입니다.
+     * @return 저장한 이미지의 경로입니다.
+     * @throws IllegalArgumentException 압축 파일에 이미지가 없는 경우 발생합니다.
+     * @throws IOException              이미지를 저장하지 못한 경우 발생합니다.
+     * @since 1.0.0
+     */
+    public String extract(final String name) throws IOException {
+        String address = extracted.get(name);
+        if (Objects.nonNull(address)) {
+            return address;
+        }
+
+        ZipEntry entry = Objects.isNull(zipFile) ? null : zipFile.getEntry(name);
+        if (Objects.isNull(entry) || entry.isDirectory()) {
+            throw new IllegalArgumentException("이미지 압축 파일에 없는 이미지입니다: " + name);
+        }
+
+        // 압축 파일 안의 경로 구분자를 바꿔 저장 디렉토리 밖으로 나가지 않게 합니다.
+        Path target = directory.resolve(prefix + name.replaceAll("[/\\\\:]", "_"));
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        address = target.toString();
+        extracted.put(name, address);
+        return address;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (Objects.nonNull(zipFile)) {
+            zipFile.close();
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 한 줄에 JSON 객체 하나를 적은 NDJSON 을 읽습니다. 줄 단위로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽습니다.
+ *
+ * @version 1.0.0
+ */
+public class NdjsonProductImportReader implements ProductImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper mapper;
+    private long rowNumber;
+
+    public NdjsonProductImportReader(final BufferedReader reader, final ObjectMapper mapper) {
+        this.reader = reader;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (Objects.nonNull(line) && line.isBlank());
+
+        if (Objects.isNull(line)) {
+            return null;
+        }
+
+        rowNumber++;
+        JsonNode node;
+        try {
+            node = mapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 잘못되었습니다: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        node.fields().forEachRemaining(entry -> values.put(
+            entry.getKey(), entry.getValue().isNull() ? null : entry.getValue().asText()));
+
+        return values;
+    }
+
+    @Override
+    public long rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 상품 일괄 등록 파일을 한 행씩 읽습니다. 파일 전체를 메모리에 올리지 않고 읽은 만큼만 처리합니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductImportReader extends Closeable {
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 필드 이름과 값입니다. 빈 값은 null 입니다. 더 읽을 행이 없으면 null 을 반환합니다.
+     * @throws IllegalArgumentException 행의 형식이 잘못된 경우 발생합니다. 그 다음 행부터 계속 읽을 수 있습니다.
+     * @throws IOException              파일을 읽지 못한 경우 발생합니다.
+     * @since 1.0.0
+     */
+    Map<String, String> next() throws IOException;
+
+    /**
+     * 마지막으로 읽은 행의 번호입니다. CSV 의 헤더와 빈 줄은 세지 않고 1부터 셉니다.
+     *
+     * @return 행 번호입니다.
+     * @since 1.0.0
+     */
+    long rowNumber();
+
+    /**
+     * 파일 형식에 맞는 리더를 만듭니다. 파일은 UTF-8 로 읽습니다.
+     *
+     * @param format          - 파일 형식입니다.
+     * @param in              - 파일 스트림입니다.
+     * @param mapper          - NDJSON 을 읽을 때 사용합니다.
+     * @param maxRecordLength - CSV 레코드 하나의 최대 문자 수입니다.
+     * @return 리더입니다.
+     * @throws IOException CSV 헤더를 읽지 못한 경우 발생합니다.
+     * @since 1.0.0
+     */
+    static ProductImportReader of(final ProductImportJob.Format format, final InputStream in,
+                                  final ObjectMapper mapper, final int maxRecordLength) throws IOException {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (format == ProductImportJob.Format.CSV) {
+            return new CsvProductImportReader(reader, maxRecordLength);
+        }
+
+        return new NdjsonProductImportReader(reader, mapper);
+    }
+
+}
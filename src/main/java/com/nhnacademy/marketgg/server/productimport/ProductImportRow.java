@@ -0,0 +1,109 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록 파일의 한 행입니다. 필드 이름은 상품 등록 요청과 같으며, 대표 이미지는 이미지 압축 파일 안의 경로로 지정합니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+public class ProductImportRow {
+
+    private final long rowNumber;
+    private final String categoryCode;
+    private final String name;
+    private final String content;
+    private final Long totalStock;
+    private final Long price;
+    private final String description;
+    private final String unit;
+    private final String deliveryType;
+    private final String origin;
+    private final String packageType;
+    private final LocalDate expirationDate;
+    private final String allergyInfo;
+    private final String capacity;
+    private final Long labelNo;
+    private final String image;
+
+    private ProductImportRow(final long rowNumber, final Map<String, String> values) {
+        this.rowNumber = rowNumber;
+        this.categoryCode = required(values, "categoryCode");
+        this.name = required(values, "name");
+        this.content = values.get("content");
+        this.totalStock = number(values, "totalStock", true);
+        this.price = number(values, "price", true);
+        this.description = values.get("description");
+        this.unit = values.get("unit");
+        this.deliveryType = values.get("deliveryType");
+        this.origin = values.get("origin");
+        this.packageType = values.get("packageType");
+        this.expirationDate = date(values, "expirationDate");
+        this.allergyInfo = values.get("allergyInfo");
+        this.capacity = values.get("capacity");
+        this.labelNo = number(values, "labelNo", false);
+        this.image = values.get("image");
+    }
+
+    /**
+     * 행의 값을 검증하고 변환합니다.
+     *
+     * @param rowNumber - 행 번호입니다.
+     * @param values    - 필드 이름과 값입니다.
+     * @return 변환한 행입니다.
+     * @throws IllegalArgumentException 필수 값이 없거나 숫자, 날짜 형식이 잘못된 경우 발생합니다.
+     * @since 1.0.0
+     */
+    public static ProductImportRow of(final long rowNumber, final Map<String, String> values) {
+        return new ProductImportRow(rowNumber, values);
+    }
+
+    public boolean hasImage() {
+        return Objects.nonNull(image);
+    }
+
+    private static String required(final Map<String, String> values, final String field) {
+        String value = values.get(field);
+        if (Objects.isNull(value) || value.isBlank()) {
+            throw new IllegalArgumentException(field + " 값이 없습니다.");
+        }
+
+        return value;
+    }
+
+    private static Long number(final Map<String, String> values, final String field, final boolean required) {
+        String value = required ? required(values, field) : values.get(field);
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            long number = Long.parseLong(value.strip());
+            if (number < 0) {
+                throw new IllegalArgumentException(field + " 값은 0 이상이어야 합니다: " + value);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static LocalDate date(final Map<String, String> values, final String field) {
+        String value = values.get(field);
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(value.strip());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " 값이 yyyy-MM-dd 형식이 아닙니다: " + value);
+        }
+    }
+
+}
@@ -0,0 +1,405 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.elastic.suggest.ProductNameIndex;
+import com.nhnacademy.marketgg.server.entity.ProductImportError;
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import com.nhnacademy.marketgg.server.repository.productimporterror.ProductImportErrorRepository;
+import com.nhnacademy.marketgg.server.repository.productimportjob.ProductImportJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 일괄 등록 파일을 읽어 상품을 등록합니다.
+ *
+ * <ol>
+ *     <li>파일을 한 행씩 읽어 검증하고, 대표 이미지는 이미지 압축 파일에서 꺼내 저장합니다.</li>
+ *     <li>검증한 행을 묶음 단위로 모아 자원, 이미지, 상품, 상품 라벨을 JDBC Batch 로 한 트랜잭션에서 저장합니다.
+ *         MySQL 에서는 rewriteBatchedStatements=true 여야 여러 행을 한 번의 INSERT 로 보냅니다.</li>
+ *     <li>같은 트랜잭션에서 검색 색인 아웃박스도 함께 저장하므로, 릴레이가 묶음 단위 Bulk 요청으로 색인합니다.</li>
+ *     <li>묶음 저장에 실패하면 그 묶음을 한 행씩 다시 저장해 실패한 행만 오류로 남깁니다.</li>
+ * </ol>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductImporter {
+
+    private static final String CATEGORY_CODES = "SELECT category_code FROM categories";
+    private static final String LABEL_NOS = "SELECT label_no FROM labels";
+    private static final String INSERT_ASSET = "INSERT INTO assets (created_at, updated_at) VALUES (?, ?)";
+    private static final String INSERT_IMAGE =
+        "INSERT INTO images (asset_no, image_address, image_sequence) VALUES (?, ?, 1)";
+    private static final String INSERT_PRODUCT =
+        "INSERT INTO products (asset_no, category_code, name, content, total_stock, price, description, unit, "
+            + "delivery_type, origin, package_type, expiration_date, allergy_info, capacity, view_count, cart_count, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+    private static final String INSERT_PRODUCT_LABEL =
+        "INSERT INTO product_labels (product_no, label_no) VALUES (?, ?)";
+    private static final String INSERT_OUTBOX =
+        "INSERT INTO product_index_outbox (product_no, operation, attempts, created_at, available_at) "
+            + "VALUES (?, 'INDEX', 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductImportJobRepository jobRepository;
+    private final ProductImportErrorRepository errorRepository;
+    private final ProductNameIndex productNameIndex;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxErrors;
+    private final int maxRecordLength;
+    private final Path imageDirectory;
+    private final Counter imported;
+    private final Counter failed;
+
+    public ProductImporter(final JdbcTemplate jdbcTemplate,
+                           final ProductImportJobRepository jobRepository,
+                           final ProductImportErrorRepository errorRepository,
+                           final ProductNameIndex productNameIndex,
+                           final ObjectMapper mapper,
+                           final PlatformTransactionManager transactionManager,
+                           @Value("${gg.product-import.batch-size:500}") final int batchSize,
+                           @Value("${gg.product-import.max-errors:1000}") final int maxErrors,
+                           @Value("${gg.product-import.max-record-length:1048576}") final int maxRecordLength,
+                           @Value("${gg.product-import.image-dir:${user.home}}") final String imageDirectory,
+                           final MeterRegistry meterRegistry) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.productNameIndex = productNameIndex;
+        this.mapper = mapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.maxRecordLength = maxRecordLength;
+        this.imageDirectory = Paths.get(imageDirectory);
+        this.imported = Counter.builder("gg.product-import.rows")
+                               .tag("result", "imported")
+                               .description("Rows of bulk product import files")
+                               .register(meterRegistry);
+        this.failed = Counter.builder("gg.product-import.rows")
+                             .tag("result", "failed")
+                             .description("Rows of bulk product import files")
+                             .register(meterRegistry);
+    }
+
+    /**
+     * 일괄 등록 작업을 끝까지 진행합니다. 파일을 읽지 못하면 작업을 실패 상태로 저장합니다.
+     *
+     * @param job     - 진행할 일괄 등록 작업입니다.
+     * @param data    - 상품 파일 경로입니다.
+     * @param archive - 이미지 압축 파일 경로입니다. 없으면 null 입니다.
+     * @since 1.0.0
+     */
+    public void importProducts(final ProductImportJob job, final Path data, final Path archive) {
+        Set<String> categoryCodes = new HashSet<>(jdbcTemplate.queryForList(CATEGORY_CODES, String.class));
+        Set<Long> labelNos = new HashSet<>(jdbcTemplate.queryForList(LABEL_NOS, Long.class));
+
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(data));
+             ProductImportReader reader = ProductImportReader.of(job.getFormat(), in, mapper, maxRecordLength);
+             ImageArchive images = ImageArchive.open(archive, imageDirectory, job.getId() + "_")) {
+
+            Batch batch = new Batch();
+            boolean more = true;
+            while (more) {
+                try {
+                    Map<String, String> values = reader.next();
+                    if (Objects.isNull(values)) {
+                        more = false;
+                    } else {
+                        batch.add(validate(ProductImportRow.of(reader.rowNumber(), values), categoryCodes,
+                                           labelNos, images));
+                    }
+                } catch (IllegalArgumentException e) {
+                    batch.fail(reader.rowNumber(), e.getMessage());
+                }
+
+                if (!more || batch.size() >= batchSize) {
+                    flush(job, batch, in.count);
+                    batch = new Batch();
+                }
+            }
+
+            job.complete();
+            save(job, List.of());
+            log.info("Imported {} of {} products from {}", job.getImportedCount(), job.getProcessedCount(),
+                     job.getFileName());
+        } catch (IOException | RuntimeException e) {
+            log.error("Product import {} failed after {} rows", job.getId(), job.getProcessedCount(), e);
+            job.fail(e.toString());
+            save(job, List.of());
+        }
+    }
+
+    /**
+     * 카테고리와 라벨이 있는지 확인하고 대표 이미지를 꺼내 저장합니다.
+     */
+    private static Pending validate(final ProductImportRow row, final Set<String> categoryCodes,
+                                    final Set<Long> labelNos, final ImageArchive images) throws IOException {
+
+        if (!categoryCodes.contains(row.getCategoryCode())) {
+            throw new IllegalArgumentException("없는 카테고리입니다: " + row.getCategoryCode());
+        }
+        if (Objects.nonNull(row.getLabelNo()) && !labelNos.contains(row.getLabelNo())) {
+            throw new IllegalArgumentException("없는 라벨입니다: " + row.getLabelNo());
+        }
+
+        return new Pending(row, row.hasImage() ? images.extract(row.getImage()) : null);
+    }
+
+    private void flush(final ProductImportJob job, final Batch batch, final long readBytes) {
+        long saved = batch.rows.size();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch.rows));
+        } catch (DataAccessException e) {
+            log.warn("Product import {} batch failed, retrying {} rows one by one", job.getId(),
+                     batch.rows.size(), e);
+            saved = 0;
+            for (Pending row : batch.rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                    saved++;
+                } catch (DataAccessException rowFailure) {
+                    batch.fail(row.row.getRowNumber(),
+                               NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+
+        long storable = Math.max(0L, maxErrors - job.getFailedCount());
+        List<ProductImportError> errors =
+            batch.errors.stream()
+                        .limit(storable)
+                        .map(error -> ProductImportError.of(job.getId(), error.rowNumber, error.message))
+                        .collect(Collectors.toList());
+        job.progress(readBytes, saved, batch.errors.size());
+        save(job, errors);
+
+        imported.increment(saved);
+        failed.increment(batch.errors.size());
+    }
+
+    private void insert(final List<Pending> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> assetIds = insertReturningKeys(INSERT_ASSET, rows.size(), (statement, i) -> {
+            statement.setTimestamp(1, now);
+            statement.setTimestamp(2, now);
+        });
+
+        List<Object[]> images = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (Objects.nonNull(rows.get(i).imageAddress)) {
+                images.add(new Object[] { assetIds.get(i), rows.get(i).imageAddress });
+            }
+        }
+        if (!images.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGE, images);
+        }
+
+        List<Long> productIds = insertReturningKeys(INSERT_PRODUCT, rows.size(), (statement, i) -> {
+            ProductImportRow row = rows.get(i).row;
+            statement.setLong(1, assetIds.get(i));
+            statement.setString(2, row.getCategoryCode());
+            statement.setString(3, row.getName());
+            statement.setString(4, row.getContent());
+            statement.setLong(5, row.getTotalStock());
+            statement.setLong(6, row.getPrice());
+            statement.setString(7, row.getDescription());
+            statement.setString(8, row.getUnit());
+            statement.setString(9, row.getDeliveryType());
+            statement.setString(10, row.getOrigin());
+            statement.setString(11, row.getPackageType());
+            if (Objects.isNull(row.getExpirationDate())) {
+                statement.setNull(12, Types.DATE);
+            } else {
+                statement.setDate(12, Date.valueOf(row.getExpirationDate()));
+            }
+            statement.setString(13, row.getAllergyInfo());
+            statement.setString(14, row.getCapacity());
+            statement.setTimestamp(15, now);
+            statement.setTimestamp(16, now);
+        });
+
+        List<Object[]> labels = new ArrayList<>();
+        List<Object[]> outbox = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ProductImportRow row = rows.get(i).row;
+            if (Objects.nonNull(row.getLabelNo())) {
+                labels.add(new Object[] { productIds.get(i), row.getLabelNo() });
+            }
+            outbox.add(new Object[] { productIds.get(i), now, now });
+            productNameIndex.put(productIds.get(i), row.getName());
+        }
+        if (!labels.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PRODUCT_LABEL, labels);
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, outbox);
+    }
+
+    /**
+     * 자동 증가 키를 돌려받도록 Batch INSERT 를 실행합니다.
+     */
+    private List<Long> insertReturningKeys(final String sql, final int count, final RowSetter setter) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < count; i++) {
+                    setter.set(statement, i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> keys = new ArrayList<>(count);
+                try (ResultSet generated = statement.getGeneratedKeys()) {
+                    while (generated.next()) {
+                        keys.add(generated.getLong(1));
+                    }
+                }
+                if (keys.size() != count) {
+                    throw new InvalidDataAccessResourceUsageException(
+                        "생성된 키를 모두 받지 못했습니다: " + keys.size() + "/" + count);
+                }
+
+                return keys;
+            }
+        });
+    }
+
+    private void save(final ProductImportJob job, final List<ProductImportError> errors) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!errors.isEmpty()) {
+                errorRepository.saveAll(errors);
+            }
+            jobRepository.save(job);
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+
+        void set(final PreparedStatement statement, final int index) throws SQLException;
+
+    }
+
+    /**
+     * 저장할 행과 오류가 난 행을 모읍니다.
+     */
+    private final class Batch {
+
+        private final List<Pending> rows = new ArrayList<>(batchSize);
+        private final List<RowError> errors = new ArrayList<>();
+
+        private void add(final Pending row) {
+            rows.add(row);
+        }
+
+        private void fail(final long rowNumber, final String message) {
+            errors.add(new RowError(rowNumber, message));
+        }
+
+        private int size() {
+            return rows.size() + errors.size();
+        }
+
+    }
+
+    private static final class Pending {
+
+        private final ProductImportRow row;
+        private final String imageAddress;
+
+        private Pending(final ProductImportRow row, final String imageAddress) {
+            this.row = row;
+            this.imageAddress = imageAddress;
+        }
+
+    }
+
+    private static final class RowError {
+
+        private final long rowNumber;
+        private final String message;
+
+        private RowError(final long rowNumber, final String message) {
+            this.rowNumber = rowNumber;
+            this.message = message;
+        }
+
+    }
+
+    /**
+     * 진행률을 계산하기 위해 읽은 바이트 수를 셉니다.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+    }
+
+}
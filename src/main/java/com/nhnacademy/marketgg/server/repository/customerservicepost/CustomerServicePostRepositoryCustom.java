@@ -1,5 +1,6 @@
 package com.nhnacademy.marketgg.server.repository.customerservicepost;
 
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.PostResponseForOtoInquiry;
 import com.nhnacademy.marketgg.server.entity.CustomerServicePost;
 import org.springframework.data.domain.Page;
@@ -26,6 +27,18 @@ public interface CustomerServicePostRepositoryCustom {
      */
     Page<PostResponseForOtoInquiry> findPostsByCategoryId(final Pageable pageable, final String categoryId);
 
+    /**
+     * 카테고리 번호에 따라 고객센터 게시글 목록을 PK 내림차순으로 커서 기반 조회하는 메소드입니다.
+     *
+     * @param categoryId - 조회할 게시글 목록의 카테고리 식별번호입니다.
+     * @param lastId     - 이전 페이지의 마지막 게시글 식별번호입니다. 첫 페이지이면 null 입니다.
+     * @param size       - 페이지 크기입니다.
+     * @return 게시글 목록과 다음 커서를 반환합니다.
+     * @since 1.0.0
+     */
+    CursorPage<PostResponseForOtoInquiry> findPostsByCategoryIdAfter(final String categoryId, final Long lastId,
+                                                                   final int size);
+
     /**
      * 카테고리 번호와 회원 번호에 따라 고객센터 게시글 목록을 조회하는 메소드입니다.
      *
@@ -1,25 +1,33 @@
 package com.nhnacademy.marketgg.server.repository.customerservicepost;
 
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.PostResponseForOtoInquiry;
 import com.nhnacademy.marketgg.server.entity.CustomerServicePost;
 import com.nhnacademy.marketgg.server.entity.QCustomerServicePost;
-import com.querydsl.core.QueryResults;
+import com.nhnacademy.marketgg.server.repository.support.PageCounter;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.QBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 public class CustomerServicePostRepositoryImpl extends QuerydslRepositorySupport implements CustomerServicePostRepositoryCustom {
 
     QCustomerServicePost csPost = QCustomerServicePost.customerServicePost;
 
-    public CustomerServicePostRepositoryImpl() {
+    private static final String TABLE = "cs_posts";
+
+    private final PageCounter pageCounter;
+
+    public CustomerServicePostRepositoryImpl(final ObjectProvider<PageCounter> pageCounter) {
         super(CustomerServicePost.class);
+        this.pageCounter = pageCounter.getIfAvailable(PageCounter::exact);
     }
 
     @Override
@@ -32,27 +40,33 @@ public class CustomerServicePostRepositoryImpl extends QuerydslRepositorySupport
 
     @Override
     public Page<PostResponseForOtoInquiry> findPostsByCategoryId(final Pageable pageable, final String categoryId) {
-        QueryResults<PostResponseForOtoInquiry> result = from(csPost)
+        return pageCounter.fetchPage(() -> from(csPost)
+                                             .where(csPost.category.id.eq(categoryId))
+                                             .select(selectAllCsPostColumns()),
+                                     pageable, TABLE, "category=" + categoryId);
+    }
+
+    @Override
+    public CursorPage<PostResponseForOtoInquiry> findPostsByCategoryIdAfter(final String categoryId,
+                                                                          final Long lastId, final int size) {
+        List<PostResponseForOtoInquiry> rows = from(csPost)
                 .where(csPost.category.id.eq(categoryId))
+                .where(Objects.isNull(lastId) ? null : csPost.id.lt(lastId))
                 .select(selectAllCsPostColumns())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
+                .orderBy(csPost.id.desc())
+                .limit(size + 1L)
+                .fetch();
 
-        return new PageImpl<>(result.getResults(), pageable, result.getTotal());
+        return CursorPage.of(rows, size, PostResponseForOtoInquiry::getId);
     }
 
     @Override
     public Page<PostResponseForOtoInquiry> findPostByCategoryAndMember(final Pageable pageable, final String categoryId, final Long memberId) {
-        QueryResults<PostResponseForOtoInquiry> result = from(csPost)
-                .where(csPost.category.id.eq(categoryId))
-                .where(csPost.member.id.eq(memberId))
-                .select(selectAllCsPostColumns())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
-
-        return new PageImpl<>(result.getResults(), pageable, result.getTotal());
+        return pageCounter.fetchPage(() -> from(csPost)
+                                             .where(csPost.category.id.eq(categoryId))
+                                             .where(csPost.member.id.eq(memberId))
+                                             .select(selectAllCsPostColumns()),
+                                     pageable, TABLE, "category=" + categoryId + "&member=" + memberId);
     }
 
     private QBean<PostResponseForOtoInquiry> selectAllCsPostColumns() {
@@ -3,6 +3,7 @@ package com.nhnacademy.marketgg.server.repository.member;
 import com.nhnacademy.marketgg.server.dto.MemberInfo;
 import com.nhnacademy.marketgg.server.entity.Member;
 import com.nhnacademy.marketgg.server.entity.QMember;
+import com.nhnacademy.marketgg.server.entity.QMemberGrade;
 import com.querydsl.core.types.Projections;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
@@ -16,12 +17,15 @@ public class MemberRepositoryImpl extends QuerydslRepositorySupport implements M
     @Override
     public Optional<MemberInfo> findMemberInfoByUuid(String uuid) {
         QMember member = QMember.member;
+        QMemberGrade memberGrade = QMemberGrade.memberGrade;
 
         MemberInfo memberInfo = from(member)
             .innerJoin(member.cart)
+            .leftJoin(member.memberGrade, memberGrade)
             .where(member.uuid.eq(uuid))
             .select(Projections.constructor(MemberInfo.class,
-                member.id, member.cart, member.memberGrade, member.gender, member.birthDate, member.ggpassUpdatedAt))
+                member.id, member.cart.id, memberGrade.grade, member.gender, member.birthDate,
+                member.ggpassUpdatedAt))
             .fetchOne();
 
         return Optional.ofNullable(memberInfo);
@@ -13,4 +13,6 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
 
     Boolean existsByCategory(final Category category);
 
+    long countByDeletedAtIsNull();
+
 }
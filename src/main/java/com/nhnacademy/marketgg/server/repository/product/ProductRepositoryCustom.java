@@ -1,11 +1,19 @@
 package com.nhnacademy.marketgg.server.repository.product;
 
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
+import com.nhnacademy.marketgg.server.dto.response.ProductDetailResponse;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @NoRepositoryBean
 public interface ProductRepositoryCustom {
@@ -18,6 +26,16 @@ public interface ProductRepositoryCustom {
      */
     Page<ProductResponse> findAllProducts(Pageable pageable);
 
+    /**
+     * 상품 목록을 PK 내림차순으로 커서 기반 조회합니다.
+     *
+     * @param lastId - 이전 페이지의 마지막 상품 PK 입니다. 첫 페이지이면 null 입니다.
+     * @param size   - 페이지 크기입니다.
+     * @return 상품 목록과 다음 커서를 반환합니다.
+     * @since 1.0.0
+     */
+    CursorPage<ProductResponse> findAllProductsAfter(final Long lastId, final int size);
+
     /**
      * DB에서 PK값이 같은 상품을 찾아 반환 합니다.
      *
@@ -27,6 +45,16 @@ public interface ProductRepositoryCustom {
      */
     ProductResponse queryById(final Long id);
 
+    /**
+     * 상품 정보와 함께 카테고리 분류, 이미지 주소, 라벨명을 조회합니다.
+     * 상품 정보, 이미지, 라벨을 각각 한 번씩 조회합니다.
+     *
+     * @param id - 상품의 PK 값 입니다.
+     * @return 상품 상세 정보를 반환합니다. 상품이 없으면 null 을 반환합니다.
+     * @since 1.0.0
+     */
+    ProductDetailResponse queryDetailsById(final Long id);
+
     /**
      * DB에서 상품 이름 속성에 keyword가 포함된 모든 상품을 찾아 반환합니다.
      *
@@ -45,4 +73,58 @@ public interface ProductRepositoryCustom {
      */
     List<ProductResponse> findByCategoryCode(final String categoryCode);
 
+    /**
+     * 여러 카테고리의 삭제되지 않은 상품을 정렬 기준에 따라 페이지 단위로 조회합니다.
+     * (category_code, deleted_at, price) 와 (category_code, deleted_at, created_at) 인덱스를 사용합니다.
+     *
+     * @param categoryCodes - 조회할 카테고리 코드 목록입니다. 비어 있으면 빈 페이지를 반환합니다.
+     * @param sort          - 정렬 기준입니다.
+     * @param pageable      - 페이지 요청입니다. 정렬은 sort 로만 지정합니다.
+     * @return 상품 페이지를 반환합니다.
+     * @since 1.0.0
+     */
+    Page<ProductResponse> findLiveProductsByCategories(final Collection<String> categoryCodes,
+                                                       final ProductBrowseRequest.Sort sort,
+                                                       final Pageable pageable);
+
+    /**
+     * 삭제되지 않은 상품의 검색 문서를 라벨, 대표 이미지와 함께 한 번의 쿼리로 조회합니다.
+     * 라벨이 여러 개인 상품은 라벨마다 한 건씩 반환됩니다.
+     *
+     * @param productIds - 조회할 상품의 PK 목록입니다.
+     * @return 검색 문서 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    List<ElasticProduct> findIndexDocuments(final Collection<Long> productIds);
+
+    /**
+     * 삭제되지 않은 상품의 PK 를 오름차순으로 스트리밍합니다.
+     * 결과 전체를 메모리에 올리지 않도록 fetchSize 만큼씩 DB 커서에서 읽습니다.
+     * 스트림은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     *
+     * @param after     - 이 PK 보다 큰 상품부터 조회합니다.
+     * @param fetchSize - JDBC fetch size 입니다. MySQL 에서 행 단위 스트리밍을 하려면 Integer.MIN_VALUE 를 사용합니다.
+     * @return 상품 PK 스트림을 반환합니다.
+     * @since 1.0.0
+     */
+    Stream<Long> streamLiveIds(final Long after, final int fetchSize);
+
+    /**
+     * 주어진 시각 이후 변경된 상품의 PK 를 삭제 여부와 관계없이 조회합니다.
+     *
+     * @param since - 기준 시각입니다.
+     * @return 상품 PK 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    List<Long> findIdsUpdatedSince(final LocalDateTime since);
+
+    /**
+     * 삭제되지 않은 모든 상품의 PK 와 상품명을 조회합니다.
+     * 자동완성 색인을 만들 때 사용합니다.
+     *
+     * @return 상품 PK 와 상품명 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    List<ProductSuggestion> findSuggestions();
+
 }
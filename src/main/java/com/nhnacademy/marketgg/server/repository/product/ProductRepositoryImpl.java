@@ -1,34 +1,66 @@
 package com.nhnacademy.marketgg.server.repository.product;
 
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
+import com.nhnacademy.marketgg.server.dto.response.ProductDetailResponse;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
 import com.nhnacademy.marketgg.server.entity.Product;
+import com.nhnacademy.marketgg.server.entity.QCategorization;
+import com.nhnacademy.marketgg.server.entity.QCategory;
+import com.nhnacademy.marketgg.server.entity.QImage;
+import com.nhnacademy.marketgg.server.entity.QLabel;
 import com.nhnacademy.marketgg.server.entity.QProduct;
-import com.querydsl.core.QueryResults;
+import com.nhnacademy.marketgg.server.entity.QProductLabel;
+import com.nhnacademy.marketgg.server.repository.support.PageCounter;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 public class ProductRepositoryImpl extends QuerydslRepositorySupport implements ProductRepositoryCustom {
 
-    public ProductRepositoryImpl() {
+    private static final String TABLE = "products";
+
+    private final PageCounter pageCounter;
+
+    public ProductRepositoryImpl(final ObjectProvider<PageCounter> pageCounter) {
         super(Product.class);
+        this.pageCounter = pageCounter.getIfAvailable(PageCounter::exact);
     }
 
     @Override
     public Page<ProductResponse> findAllProducts(final Pageable pageable) {
         QProduct product = QProduct.product;
 
-        QueryResults<ProductResponse> result = from(product)
+        return pageCounter.fetchPage(() -> from(product).select(selectAllProductColumns()), pageable, TABLE, null);
+    }
+
+    @Override
+    public CursorPage<ProductResponse> findAllProductsAfter(final Long lastId, final int size) {
+        QProduct product = QProduct.product;
+
+        List<ProductResponse> rows = from(product)
             .select(selectAllProductColumns())
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetchResults();
+            .where(Objects.isNull(lastId) ? null : product.id.lt(lastId))
+            .orderBy(product.id.desc())
+            .limit(size + 1L)
+            .fetch();
 
-        return new PageImpl<>(result.getResults(), pageable, result.getTotal());
+        return CursorPage.of(rows, size, ProductResponse::getId);
     }
 
     @Override
@@ -41,6 +73,41 @@ public class ProductRepositoryImpl extends QuerydslRepositorySupport implements
             .fetchOne();
     }
 
+    @Override
+    public ProductDetailResponse queryDetailsById(final Long id) {
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+        QCategorization categorization = QCategorization.categorization;
+        QImage image = QImage.image;
+        QProductLabel productLabel = QProductLabel.productLabel;
+
+        Tuple row = from(product)
+            .select(selectAllProductColumns(), categorization.id, categorization.name)
+            .join(product.category, category)
+            .join(category.categorization, categorization)
+            .where(product.id.eq(id))
+            .fetchOne();
+        if (Objects.isNull(row)) {
+            return null;
+        }
+
+        ProductResponse productResponse = row.get(0, ProductResponse.class);
+
+        List<String> imageAddresses = from(image)
+            .select(image.imageAddress)
+            .where(image.asset.id.eq(productResponse.getAssetNo()))
+            .orderBy(image.imageSequence.asc(), image.id.asc())
+            .fetch();
+
+        List<String> labelNames = from(productLabel)
+            .select(productLabel.label.name)
+            .where(productLabel.product.id.eq(id))
+            .fetch();
+
+        return new ProductDetailResponse(productResponse, row.get(categorization.id), row.get(categorization.name),
+                                         imageAddresses, labelNames);
+    }
+
     @Override
     public List<ProductResponse> findByNameContaining(final String keyword) {
         QProduct product = QProduct.product;
@@ -61,14 +128,106 @@ public class ProductRepositoryImpl extends QuerydslRepositorySupport implements
             .fetch();
     }
 
+    @Override
+    public Page<ProductResponse> findLiveProductsByCategories(final Collection<String> categoryCodes,
+                                                              final ProductBrowseRequest.Sort sort,
+                                                              final Pageable pageable) {
+        if (categoryCodes.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        QProduct product = QProduct.product;
+        String filter = "category=" + categoryCodes.stream().sorted().collect(Collectors.joining(","));
+
+        return pageCounter.fetchPage(() -> from(product)
+                                         .select(selectAllProductColumns())
+                                         .where(product.category.id.in(categoryCodes), product.deletedAt.isNull())
+                                         .orderBy(browseOrder(sort)),
+                                     pageable, TABLE, filter);
+    }
+
+    @Override
+    public List<ElasticProduct> findIndexDocuments(final Collection<Long> productIds) {
+        QProduct product = QProduct.product;
+        QProductLabel productLabel = QProductLabel.productLabel;
+        QLabel label = QLabel.label;
+        QImage image = QImage.image;
+
+        return from(product)
+            .select(Projections.constructor(ElasticProduct.class,
+                product.id,
+                product.category.id,
+                product.name,
+                product.content,
+                product.description,
+                label.name,
+                image.imageAddress,
+                product.price,
+                product.totalStock,
+                product.viewCount,
+                product.cartCount))
+            .leftJoin(productLabel).on(productLabel.product.eq(product))
+            .leftJoin(productLabel.label, label)
+            .leftJoin(image).on(image.asset.eq(product.asset), image.imageSequence.eq(1))
+            .where(product.id.in(productIds), product.deletedAt.isNull())
+            .orderBy(product.id.asc())
+            .fetch();
+    }
+
+    @Override
+    public Stream<Long> streamLiveIds(final Long after, final int fetchSize) {
+        QProduct product = QProduct.product;
+
+        return new JPAQuery<>(getEntityManager())
+            .select(product.id)
+            .from(product)
+            .where(product.id.gt(after), product.deletedAt.isNull())
+            .orderBy(product.id.asc())
+            .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+            .stream();
+    }
+
+    @Override
+    public List<Long> findIdsUpdatedSince(final LocalDateTime since) {
+        QProduct product = QProduct.product;
+
+        return from(product)
+            .select(product.id)
+            .where(product.updatedAt.goe(since))
+            .fetch();
+    }
+
+    @Override
+    public List<ProductSuggestion> findSuggestions() {
+        QProduct product = QProduct.product;
+
+        return from(product)
+            .select(Projections.constructor(ProductSuggestion.class, product.id, product.name))
+            .where(product.deletedAt.isNull())
+            .fetch();
+    }
+
+    /**
+     * 정렬 기준과 동점 처리를 인덱스의 컬럼 순서와 같은 방향으로 맞춰, 인덱스를 정방향이나 역방향으로 읽어 정렬 없이 조회하게 합니다.
+     */
+    private static OrderSpecifier<?>[] browseOrder(final ProductBrowseRequest.Sort sort) {
+        QProduct product = QProduct.product;
+        switch (sort) {
+            case PRICE_ASC:
+                return new OrderSpecifier<?>[] { product.price.asc(), product.id.asc() };
+            case PRICE_DESC:
+                return new OrderSpecifier<?>[] { product.price.desc(), product.id.desc() };
+            default:
+                return new OrderSpecifier<?>[] { product.createdAt.desc(), product.id.desc() };
+        }
+    }
+
     private ConstructorExpression<ProductResponse> selectAllProductColumns() {
         QProduct product = QProduct.product;
 
         return Projections.constructor(ProductResponse.class,
             product.id,
-            product.asset,
             product.asset.id,
-            product.category,
             product.category.id,
             product.category.name,
             product.name,
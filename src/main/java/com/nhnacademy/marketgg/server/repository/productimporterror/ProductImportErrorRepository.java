@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.server.repository.productimporterror;
+
+import com.nhnacademy.marketgg.server.entity.ProductImportError;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 상품 일괄 등록 오류 레포지토리입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductImportErrorRepository extends JpaRepository<ProductImportError, Long> {
+
+    List<ProductImportError> findAllByJobIdOrderByRowNumberAsc(final Long jobId, final Pageable pageable);
+
+}
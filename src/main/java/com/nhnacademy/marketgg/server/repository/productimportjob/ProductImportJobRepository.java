@@ -0,0 +1,13 @@
+package com.nhnacademy.marketgg.server.repository.productimportjob;
+
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 상품 일괄 등록 작업 레포지토리입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, Long> {
+
+}
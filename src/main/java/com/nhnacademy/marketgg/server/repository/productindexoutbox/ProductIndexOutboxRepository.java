@@ -0,0 +1,86 @@
+package com.nhnacademy.marketgg.server.repository.productindexoutbox;
+
+import com.nhnacademy.marketgg.server.entity.ProductIndexOutbox;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 상품 검색 색인 아웃박스 레포지토리입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductIndexOutboxRepository extends JpaRepository<ProductIndexOutbox, Long> {
+
+    /**
+     * 처리할 수 있는 아웃박스 레코드를 저장 순서대로 잠그고 조회합니다.
+     * 여러 인스턴스의 릴레이가 같은 레코드를 동시에 가져가지 않도록 쓰기 잠금을 겁니다.
+     * 보류한 레코드는 제외합니다.
+     *
+     * @param now      - 기준 시각입니다. 재시도 대기 중인 레코드는 제외합니다.
+     * @param pageable - 조회할 최대 개수입니다.
+     * @return 처리할 아웃박스 레코드 목록입니다.
+     * @since 1.0.0
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ProductIndexOutbox o WHERE o.availableAt <= :now AND o.parkedAt IS NULL ORDER BY o.id")
+    List<ProductIndexOutbox> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 보류하지 않은 가장 오래된 아웃박스 레코드를 조회합니다.
+     *
+     * @return 가장 오래된 아웃박스 레코드입니다.
+     * @since 1.0.0
+     */
+    Optional<ProductIndexOutbox> findFirstByParkedAtIsNullOrderByIdAsc();
+
+    /**
+     * 가져간 레코드를 처리하는 동안 다른 릴레이가 가져가지 않도록 다음 시도 시각을 미룹니다.
+     * 시도 횟수는 올리지 않으며, 처리 중 서버가 종료되면 이 시각 이후 다시 처리됩니다.
+     *
+     * @param ids         - 가져간 레코드의 식별번호 목록입니다.
+     * @param availableAt - 다음 시도 시각입니다.
+     * @return 갱신된 레코드 수입니다.
+     * @since 1.0.0
+     */
+    @Modifying
+    @Query("UPDATE ProductIndexOutbox o SET o.availableAt = :availableAt WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 처리에 실패한 레코드의 시도 횟수를 올리고 다음 시도 시각을 미룹니다.
+     *
+     * @param ids         - 실패한 레코드의 식별번호 목록입니다.
+     * @param availableAt - 다음 시도 시각입니다.
+     * @return 갱신된 레코드 수입니다.
+     * @since 1.0.0
+     */
+    @Modifying
+    @Query("UPDATE ProductIndexOutbox o SET o.attempts = o.attempts + 1, o.availableAt = :availableAt "
+        + "WHERE o.id IN :ids")
+    int postpone(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 더 이상 재시도하지 않을 레코드를 보류하고 마지막 오류를 기록합니다.
+     *
+     * @param ids       - 보류할 레코드의 식별번호 목록입니다.
+     * @param parkedAt  - 보류한 시각입니다.
+     * @param lastError - 마지막 오류 메시지입니다.
+     * @return 갱신된 레코드 수입니다.
+     * @since 1.0.0
+     */
+    @Modifying
+    @Query("UPDATE ProductIndexOutbox o SET o.attempts = o.attempts + 1, o.parkedAt = :parkedAt, "
+        + "o.lastError = :lastError WHERE o.id IN :ids")
+    int park(@Param("ids") Collection<Long> ids, @Param("parkedAt") LocalDateTime parkedAt,
+             @Param("lastError") String lastError);
+
+}
@@ -0,0 +1,18 @@
+package com.nhnacademy.marketgg.server.repository.productreindexjob;
+
+import com.nhnacademy.marketgg.server.entity.ProductReindexJob;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 상품 검색 색인 재구축 작업 레포지토리입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductReindexJobRepository extends JpaRepository<ProductReindexJob, Long> {
+
+    Optional<ProductReindexJob> findFirstByOrderByIdDesc();
+
+    Optional<ProductReindexJob> findFirstByStatusNotOrderByIdDesc(final ProductReindexJob.Status status);
+
+}
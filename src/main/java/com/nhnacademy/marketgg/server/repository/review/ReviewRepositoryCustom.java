@@ -1,5 +1,6 @@
 package com.nhnacademy.marketgg.server.repository.review;
 
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ReviewResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,15 @@ public interface ReviewRepositoryCustom {
      */
     Page<ReviewResponse> retrieveReviews(final Pageable pageable);
 
+    /**
+     * 후기를 PK 내림차순으로 커서 기반 조회합니다.
+     *
+     * @param lastId - 이전 페이지의 마지막 후기 PK 입니다. 첫 페이지이면 null 입니다.
+     * @param size   - 페이지 크기입니다.
+     * @return - 후기 목록과 다음 커서를 반환합니다.
+     */
+    CursorPage<ReviewResponse> retrieveReviewsAfter(final Long lastId, final int size);
+
     /**
      * 후기 상세 정보를 조회합니다.
      *
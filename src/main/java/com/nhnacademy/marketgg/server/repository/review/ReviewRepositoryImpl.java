@@ -1,33 +1,49 @@
 package com.nhnacademy.marketgg.server.repository.review;
 
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ReviewResponse;
 import com.nhnacademy.marketgg.server.entity.QReview;
 import com.nhnacademy.marketgg.server.entity.Review;
-import com.querydsl.core.QueryResults;
+import com.nhnacademy.marketgg.server.repository.support.PageCounter;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 public class ReviewRepositoryImpl extends QuerydslRepositorySupport implements ReviewRepositoryCustom {
 
-    public ReviewRepositoryImpl() {
+    private static final String TABLE = "reviews";
+
+    private final PageCounter pageCounter;
+
+    public ReviewRepositoryImpl(final ObjectProvider<PageCounter> pageCounter) {
         super(Review.class);
+        this.pageCounter = pageCounter.getIfAvailable(PageCounter::exact);
     }
 
     @Override
     public Page<ReviewResponse> retrieveReviews(final Pageable pageable) {
         QReview review = QReview.review;
 
-        QueryResults<ReviewResponse> results =
+        return pageCounter.fetchPage(() -> from(review).select(selectAllReviewColumns()), pageable, TABLE, null);
+    }
+
+    @Override
+    public CursorPage<ReviewResponse> retrieveReviewsAfter(final Long lastId, final int size) {
+        QReview review = QReview.review;
+
+        List<ReviewResponse> rows =
             from(review).select(selectAllReviewColumns())
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetchResults();
+                        .where(Objects.isNull(lastId) ? null : review.id.lt(lastId))
+                        .orderBy(review.id.desc())
+                        .limit(size + 1L)
+                        .fetch();
 
-        return new PageImpl<>(results.getResults(), pageable, results.getTotal());
+        return CursorPage.of(rows, size, ReviewResponse::getId);
     }
 
     @Override
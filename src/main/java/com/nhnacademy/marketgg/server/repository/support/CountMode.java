@@ -0,0 +1,32 @@
+package com.nhnacademy.marketgg.server.repository.support;
+
+/**
+ * 페이지 조회 시 전체 개수를 구하는 방식입니다.
+ *
+ * @version 1.0.0
+ */
+public enum CountMode {
+
+    /**
+     * 페이지마다 COUNT 쿼리로 정확한 개수를 구합니다.
+     */
+    EXACT,
+
+    /**
+     * 조건별로 캐시한 개수를 사용하며, 오래된 값은 응답을 막지 않고 비동기로 갱신합니다.
+     */
+    CACHED,
+
+    /**
+     * 조건 없는 전체 조회는 테이블 통계의 추정 행 수를 사용합니다.
+     * 조건이 있거나 통계를 읽을 수 없으면 {@link #CACHED} 와 같습니다.
+     */
+    APPROXIMATE,
+
+    /**
+     * 개수를 구하지 않고 한 건을 더 조회해 다음 페이지 존재 여부만 판단합니다.
+     * 이때 전체 개수는 지금까지 조회한 개수에 다음 페이지가 있으면 1 을 더한 값입니다.
+     */
+    NONE
+
+}
@@ -0,0 +1,75 @@
+package com.nhnacademy.marketgg.server.repository.support;
+
+import java.util.Objects;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 전체 개수를 구하는 방식을 함께 지정하는 페이지 요청입니다.
+ * 방식을 지정하지 않은 {@link Pageable} 은 {@link PageCounter} 의 기본 방식을 따릅니다.
+ *
+ * @version 1.0.0
+ */
+public class CountingPageRequest extends PageRequest {
+
+    private final CountMode countMode;
+
+    protected CountingPageRequest(final int page, final int size, final Sort sort, final CountMode countMode) {
+        super(page, size, sort);
+        this.countMode = Objects.requireNonNull(countMode, "countMode");
+    }
+
+    public static CountingPageRequest of(final int page, final int size, final CountMode countMode) {
+        return new CountingPageRequest(page, size, Sort.unsorted(), countMode);
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    @Override
+    public CountingPageRequest next() {
+        return new CountingPageRequest(getPageNumber() + 1, getPageSize(), getSort(), countMode);
+    }
+
+    @Override
+    public CountingPageRequest previous() {
+        return getPageNumber() == 0
+            ? this
+            : new CountingPageRequest(getPageNumber() - 1, getPageSize(), getSort(), countMode);
+    }
+
+    @Override
+    public CountingPageRequest first() {
+        return new CountingPageRequest(0, getPageSize(), getSort(), countMode);
+    }
+
+    @Override
+    public CountingPageRequest withPage(final int pageNumber) {
+        return new CountingPageRequest(pageNumber, getPageSize(), getSort(), countMode);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CountingPageRequest)) {
+            return false;
+        }
+
+        return super.equals(obj) && countMode == ((CountingPageRequest) obj).countMode;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + countMode.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + ", count: " + countMode;
+    }
+
+}
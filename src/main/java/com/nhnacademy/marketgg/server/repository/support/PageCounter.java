@@ -0,0 +1,194 @@
+package com.nhnacademy.marketgg.server.repository.support;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.querydsl.jpa.JPQLQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 페이지 조회의 목록과 전체 개수를 구합니다.
+ * 전체 개수는 {@link CountMode} 에 따라 매번 세거나, 캐시하거나, 테이블 통계로 추정하거나, 세지 않습니다.
+ * 어느 방식이든 첫 페이지가 다 차지 않았거나 마지막 페이지이면 COUNT 쿼리 없이 개수를 계산합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class PageCounter {
+
+    private static final String CACHE_NAME = "paging.count";
+    private static final String TABLE_ROWS_QUERY =
+        "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CountMode defaultMode;
+    private final Executor refreshExecutor;
+    private final LoadingCache<CountKey, Long> cache;
+
+    @Autowired
+    public PageCounter(final JdbcTemplate jdbcTemplate,
+                       @Value("${gg.paging.count.default-mode:exact}") final CountMode defaultMode,
+                       @Value("${gg.paging.count.cache.maximum-size:1000}") final long maximumSize,
+                       @Value("${gg.paging.count.cache.refresh:30s}") final Duration refresh,
+                       @Value("${gg.paging.count.cache.ttl:10m}") final Duration ttl,
+                       final MeterRegistry meterRegistry) {
+
+        this(jdbcTemplate, defaultMode, maximumSize, refresh, ttl, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "page-count-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    PageCounter(final JdbcTemplate jdbcTemplate, final CountMode defaultMode, final long maximumSize,
+                final Duration refresh, final Duration ttl, final Executor refreshExecutor) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.defaultMode = defaultMode;
+        this.refreshExecutor = refreshExecutor;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .refreshAfterWrite(refresh)
+                             .expireAfterWrite(ttl)
+                             .executor(refreshExecutor)
+                             .recordStats()
+                             .build(key -> key.count.getAsLong());
+    }
+
+    /**
+     * 항상 정확한 개수를 세는 인스턴스를 반환합니다. 빈으로 등록된 인스턴스가 없을 때 사용합니다.
+     *
+     * @return 캐시와 테이블 통계를 사용하지 않는 인스턴스입니다.
+     * @since 1.0.0
+     */
+    public static PageCounter exact() {
+        return new PageCounter(null, CountMode.EXACT, 0, Duration.ofSeconds(1), Duration.ofSeconds(1), Runnable::run);
+    }
+
+    /**
+     * 페이지를 조회합니다.
+     *
+     * @param query    - 조건과 정렬이 적용된 목록 쿼리를 새로 만드는 함수입니다. offset, limit 은 이 메소드가 적용합니다.
+     *                   캐시를 비동기로 갱신할 때 다른 스레드에서 호출될 수 있습니다.
+     * @param pageable - 페이지 요청입니다. {@link CountingPageRequest} 이면 지정한 방식으로 개수를 구합니다.
+     * @param table    - 조회하는 테이블 이름입니다. 테이블 통계를 조회할 때 사용합니다.
+     * @param filter   - 조건을 구분하는 문자열입니다. 조건이 없으면 null 입니다.
+     * @param <T>      - 목록 요소의 타입입니다.
+     * @return 목록과 전체 개수를 담은 페이지입니다.
+     * @since 1.0.0
+     */
+    public <T> Page<T> fetchPage(final Supplier<JPQLQuery<T>> query, final Pageable pageable,
+                                 final String table, final String filter) {
+
+        CountMode mode = pageable instanceof CountingPageRequest
+            ? ((CountingPageRequest) pageable).getCountMode()
+            : defaultMode;
+
+        if (mode == CountMode.NONE) {
+            return fetchWithoutCount(query, pageable);
+        }
+
+        List<T> content = query.get()
+                               .offset(pageable.getOffset())
+                               .limit(pageable.getPageSize())
+                               .fetch();
+
+        LongSupplier exactCount = () -> query.get().fetchCount();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(mode, table, filter, exactCount));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (refreshExecutor instanceof ExecutorService) {
+            ((ExecutorService) refreshExecutor).shutdownNow();
+        }
+    }
+
+    private long count(final CountMode mode, final String table, final String filter, final LongSupplier exactCount) {
+        switch (mode) {
+            case CACHED:
+                return cache.get(new CountKey(table + '?' + filter, exactCount));
+            case APPROXIMATE:
+                if (Objects.isNull(filter) && Objects.nonNull(jdbcTemplate)) {
+                    return cache.get(new CountKey(table + "~", () -> estimate(table, exactCount)));
+                }
+                return cache.get(new CountKey(table + '?' + filter, exactCount));
+            default:
+                return exactCount.getAsLong();
+        }
+    }
+
+    private long estimate(final String table, final LongSupplier exactCount) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(TABLE_ROWS_QUERY, Long.class, table);
+            if (Objects.nonNull(rows)) {
+                return rows;
+            }
+        } catch (DataAccessException e) {
+            log.debug("테이블 통계를 읽을 수 없어 정확한 개수를 사용합니다: {}", table, e);
+        }
+
+        return exactCount.getAsLong();
+    }
+
+    private static <T> Page<T> fetchWithoutCount(final Supplier<JPQLQuery<T>> query, final Pageable pageable) {
+        List<T> rows = query.get()
+                            .offset(pageable.getOffset())
+                            .limit(pageable.getPageSize() + 1L)
+                            .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return new PageImpl<>(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+    }
+
+    /**
+     * 캐시 키입니다. 같은 조건이면 같은 쿼리이므로 동등성은 조건 문자열로만 판단합니다.
+     */
+    private static final class CountKey {
+
+        private final String key;
+        private final LongSupplier count;
+
+        private CountKey(final String key, final LongSupplier count) {
+            this.key = key;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CountKey && key.equals(((CountKey) obj).key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+    }
+
+}
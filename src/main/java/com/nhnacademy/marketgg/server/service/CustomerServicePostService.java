@@ -1,7 +1,9 @@
 package com.nhnacademy.marketgg.server.service;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostStatusUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.PostResponseForOtoInquiry;
 import org.springframework.data.domain.Pageable;
 
@@ -41,6 +43,15 @@ public interface CustomerServicePostService {
      */
     List<PostResponseForOtoInquiry> retrieveOtoInquiries(final Pageable pageable);
 
+    /**
+     * 1:1 문의 전체 목록을 최신순으로 커서 기반 조회하는 메소드입니다.
+     *
+     * @param pageRequest - 커서와 페이지 크기입니다.
+     * @return 1:1 문의 목록과 다음 커서를 반환합니다.
+     * @since 1.0.0
+     */
+    CursorPage<PostResponseForOtoInquiry> retrieveOtoInquiriesByCursor(final CursorPageRequest pageRequest);
+
     /**
      * 회원 본인의 1:1 전체 목록을 조회하는 메소드입니다.
      *
@@ -0,0 +1,36 @@
+package com.nhnacademy.marketgg.server.service;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductImportResponse;
+import java.io.IOException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 상품 일괄 등록 서비스입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductImportService {
+
+    /**
+     * 업로드한 파일로 상품 일괄 등록을 백그라운드에서 시작합니다.
+     * 작업은 접수한 순서대로 하나씩 진행합니다.
+     *
+     * @param file   - CSV 또는 NDJSON 상품 파일입니다.
+     * @param images - 대표 이미지를 담은 zip 파일입니다. 없으면 null 입니다.
+     * @return 시작한 작업의 진행 상황입니다.
+     * @throws IOException              업로드한 파일을 저장하지 못한 경우 발생합니다.
+     * @throws IllegalArgumentException 지원하지 않는 파일 형식이면 발생합니다.
+     * @since 1.0.0
+     */
+    ProductImportResponse startImport(final MultipartFile file, final MultipartFile images) throws IOException;
+
+    /**
+     * 일괄 등록 작업의 진행 상황과 등록하지 못한 행의 오류를 조회합니다.
+     *
+     * @param jobId - 작업 번호입니다.
+     * @return 진행 상황입니다.
+     * @since 1.0.0
+     */
+    ProductImportResponse retrieveImport(final Long jobId);
+
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.marketgg.server.service;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductReindexResponse;
+
+/**
+ * 상품 검색 색인 재구축 서비스입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductReindexService {
+
+    /**
+     * 상품 검색 색인 재구축을 백그라운드에서 시작합니다.
+     * 끝나지 않은 작업이 있으면 새로 시작하지 않고 그 작업을 체크포인트부터 이어서 진행하며,
+     * 이미 진행 중인 작업이 있으면 그 작업의 진행 상황만 반환합니다.
+     *
+     * @return 시작하거나 진행 중인 작업의 진행 상황입니다.
+     * @since 1.0.0
+     */
+    ProductReindexResponse reindex();
+
+    /**
+     * 가장 최근 재구축 작업의 진행 상황을 조회합니다.
+     *
+     * @return 진행 상황입니다.
+     * @since 1.0.0
+     */
+    ProductReindexResponse retrieveStatus();
+
+}
@@ -1,10 +1,17 @@
 package com.nhnacademy.marketgg.server.service;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
+import com.nhnacademy.marketgg.server.dto.response.ProductDetailResponse;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.exception.product.ProductNotFoundException;
 import java.io.IOException;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -37,6 +44,15 @@ public interface ProductService {
 
     SingleResponse<Page> retrieveProducts(Pageable pageable);
 
+    /**
+     * 상품 목록을 최신순으로 커서 기반 조회합니다.
+     *
+     * @param pageRequest - 커서와 페이지 크기입니다.
+     * @return - 상품 목록과 다음 커서를 반환합니다.
+     * @since 1.0.0
+     */
+    SingleResponse<CursorPage<ProductResponse>> retrieveProductsByCursor(CursorPageRequest pageRequest);
+
     /**
      * 상품 Id를 통해 상세 정보를 조회합니다.
      *
@@ -46,6 +62,16 @@ public interface ProductService {
      */
     SingleResponse<ProductResponse> retrieveProductDetails(final Long productId);
 
+    /**
+     * 상품 Id를 통해 카테고리 분류, 이미지, 라벨을 포함한 상세 정보를 조회합니다.
+     *
+     * @param productId - 상품의 PK값 입니다.
+     * @return - PK에 해당하는 상품의 상세 정보를 반환합니다.
+     * @throws ProductNotFoundException 상품이 존재하지 않는 경우 발생합니다.
+     * @since 1.0.0
+     */
+    SingleResponse<ProductDetailResponse> retrieveExpandedProductDetails(final Long productId);
+
     /**
      * 상품 id를 인자로 받아 해당 상품이 존재할 경우 수정합니다.
      * deletedAt을 제외한 모든 속성이 존재해야 합니다.
@@ -73,6 +99,8 @@ public interface ProductService {
 
     /**
      * 카테고리로 상품 목록을 조회합니다.
+     * 검색 엔진을 사용할 수 없으면 DB 에서 최신순으로 조회하며, 이때 라벨과 이미지 주소는 비어 있습니다.
+     * 검색 엔진의 결과는 잠시 캐시하며, DB 에서 조회한 결과는 캐시하지 않습니다.
      *
      * @param categoryCode - 카테고리 2차 분류입니다.
      * @return - 해당하는 카테고리의 상품 리스트를 반환합니다.
@@ -80,4 +108,26 @@ public interface ProductService {
 
     List<ElasticProduct> searchProductByCategory(final Pageable pageable, final String categoryCode);
 
+    /**
+     * DB 에서 카테고리 또는 카테고리 분류에 속한 삭제되지 않은 상품을 페이지 단위로 조회합니다.
+     * 카테고리 분류로 조회하면 그 아래 모든 카테고리의 상품을 함께 조회합니다.
+     *
+     * @param browseRequest - 카테고리 분류 코드, 카테고리 코드, 정렬 기준, 페이지 요청입니다.
+     * @return - 상품 페이지를 반환합니다.
+     * @throws IllegalArgumentException 카테고리 분류 코드와 카테고리 코드가 모두 없으면 발생합니다.
+     * @since 1.0.0
+     */
+    SingleResponse<Page<ProductResponse>> browseProducts(final ProductBrowseRequest browseRequest);
+
+    /**
+     * 키워드와 카테고리, 라벨, 가격 조건으로 상품을 검색합니다.
+     * 첫 페이지에서는 카테고리별, 라벨별, 가격 구간별 상품 수를 같은 요청으로 함께 조회합니다.
+     * 키워드를 정규화한 같은 검색은 잠시 캐시한 결과를 반환합니다.
+     *
+     * @param searchRequest - 키워드, 필터 조건, 페이지 크기, 이전 페이지의 커서를 담은 검색 요청입니다.
+     * @return - 검색 결과, 다음 페이지 커서, 집계 결과를 반환합니다.
+     * @since 1.0.0
+     */
+    SingleResponse<ProductSearchResponse> searchProducts(final EsProductSearchRequest searchRequest);
+
 }
@@ -0,0 +1,25 @@
+package com.nhnacademy.marketgg.server.service;
+
+import com.nhnacademy.marketgg.server.dto.request.ProductSuggestRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import java.util.List;
+
+/**
+ * 상품명 자동완성 서비스입니다.
+ *
+ * @version 1.0.0
+ */
+public interface ProductSuggestService {
+
+    /**
+     * 입력한 접두어로 시작하는 상품명을 찾습니다.
+     * Elasticsearch 를 사용할 수 없으면 메모리의 자동완성 색인으로 대신 찾으며, 어느 경우에도 DB 에 접근하지 않습니다.
+     *
+     * @param suggestRequest - 접두어와 최대 결과 수를 담은 요청입니다.
+     * @return 자동완성 결과를 반환합니다.
+     * @since 1.0.0
+     */
+    SingleResponse<List<ProductSuggestion>> suggestProducts(final ProductSuggestRequest suggestRequest);
+
+}
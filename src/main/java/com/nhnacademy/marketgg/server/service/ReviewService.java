@@ -1,7 +1,9 @@
 package com.nhnacademy.marketgg.server.service;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ReviewResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import java.io.IOException;
@@ -34,6 +36,14 @@ public interface ReviewService {
      */
     SingleResponse<Page<ReviewResponse>> retrieveReviews(final Pageable pageable);
 
+    /**
+     * 리뷰를 최신순으로 커서 기반 조회합니다.
+     *
+     * @param pageRequest - 커서와 페이지 크기입니다.
+     * @return - 리뷰 목록과 다음 커서가 담긴 공통 응답객체를 반환합니다.
+     */
+    SingleResponse<CursorPage<ReviewResponse>> retrieveReviewsByCursor(final CursorPageRequest pageRequest);
+
     /**
      * 후기의 상세 정보를 조회합니다.
      *
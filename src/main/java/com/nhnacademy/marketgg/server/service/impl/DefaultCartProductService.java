@@ -10,10 +10,13 @@ import com.nhnacademy.marketgg.server.entity.CartProduct;
 import com.nhnacademy.marketgg.server.entity.Product;
 import com.nhnacademy.marketgg.server.exception.cart.CartNotFoundException;
 import com.nhnacademy.marketgg.server.exception.product.ProductNotFoundException;
+import com.nhnacademy.marketgg.server.popularity.ProductPopularityCounter;
 import com.nhnacademy.marketgg.server.repository.cart.CartProductRepository;
+import com.nhnacademy.marketgg.server.repository.cart.CartRepository;
 import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
 import com.nhnacademy.marketgg.server.service.CartProductService;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,27 +31,32 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class DefaultCartProductService implements CartProductService {
 
+    private final CartRepository cartRepository;
     private final CartProductRepository cartProductRepository;
     private final ProductRepository productRepository;
+    private final ProductPopularityCounter popularityCounter;
 
     @Override
     public void addProduct(MemberInfo member, ProductToCartRequest productAddRequest) {
-        Cart cart = member.getCart();
+        Cart cart = cartRepository.getReferenceById(member.getCartId());
         Product product = productRepository.findById(productAddRequest.getId())
                                            .orElseThrow(ProductNotFoundException::new);
 
         cartProductRepository.save(new CartProduct(cart, product, productAddRequest.getAmount()));
+        if (Objects.isNull(product.getDeletedAt())) {
+            popularityCounter.recordCartAdd(productAddRequest.getId());
+        }
     }
 
     @Override
     public List<CartProductResponse> retrieveCarts(MemberInfo member) {
-        return cartProductRepository.findCartProductsByCartId(member.getCart().getId());
+        return cartProductRepository.findCartProductsByCartId(member.getCartId());
     }
 
     @Override
     public void updateAmount(MemberInfo member, ProductToCartRequest productUpdateRequest) {
         CartProduct cartProduct =
-            cartProductRepository.findById(new CartProduct.Pk(member.getCart().getId(), productUpdateRequest.getId()))
+            cartProductRepository.findById(new CartProduct.Pk(member.getCartId(), productUpdateRequest.getId()))
                                  .orElseThrow(CartNotFoundException.ProductInCartNotFoundException::new);
 
         cartProduct.updateAmount(productUpdateRequest.getAmount());
@@ -58,7 +66,7 @@ public class DefaultCartProductService implements CartProductService {
     public void deleteProducts(MemberInfo member, List<Long> products) {
         List<CartProduct.Pk> cartProductPk = products.stream()
                                                      .map(
-                                                         productId -> new CartProduct.Pk(member.getCart().getId(),
+                                                         productId -> new CartProduct.Pk(member.getCartId(),
                                                              productId))
                                                      .collect(toList());
         List<CartProduct> cartProducts = cartProductRepository.findAllById(cartProductPk);
@@ -1,8 +1,10 @@
 package com.nhnacademy.marketgg.server.service.impl;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostStatusUpdateRequest;
 import com.nhnacademy.marketgg.server.dto.response.CommentResponse;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.PostResponseForOtoInquiry;
 import com.nhnacademy.marketgg.server.elastic.document.ElasticBoard;
 import com.nhnacademy.marketgg.server.elastic.repository.ElasticBoardRepository;
@@ -73,6 +75,14 @@ public class DefaultCustomerServicePostService implements CustomerServicePostSer
         return result;
     }
 
+    @Override
+    public CursorPage<PostResponseForOtoInquiry> retrieveOtoInquiriesByCursor(final CursorPageRequest pageRequest) {
+        String categoryId = categoryRepository.retrieveCategoryIdByName(OTO_INQUIRY);
+
+        return postRepository.findPostsByCategoryIdAfter(categoryId, pageRequest.getLastId(), pageRequest.getSize())
+                             .map(this::addCommentList);
+    }
+
     @Override
     public List<PostResponseForOtoInquiry> retrieveOwnOtoInquiries(final Pageable pageable, final Long memberId) {
         List<PostResponseForOtoInquiry> result = new ArrayList<>();
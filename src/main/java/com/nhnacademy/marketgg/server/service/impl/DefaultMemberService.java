@@ -1,5 +1,6 @@
 package com.nhnacademy.marketgg.server.service.impl;
 
+import com.nhnacademy.marketgg.server.auth.MemberInfoCache;
 import com.nhnacademy.marketgg.server.dto.request.MemberWithdrawRequest;
 import com.nhnacademy.marketgg.server.dto.request.ShopMemberSignUpRequest;
 import com.nhnacademy.marketgg.server.dto.response.MemberResponse;
@@ -29,6 +30,7 @@ public class DefaultMemberService implements MemberService {
     private final CartRepository cartRepository;
     private final MemberGradeRepository memberGradeRepository;
     private final DeliveryAddressRepository deliveryAddressRepository;
+    private final MemberInfoCache memberInfoCache;
 
     @Override
     public LocalDateTime retrievePassUpdatedAt(final Long id) {
@@ -48,6 +50,7 @@ public class DefaultMemberService implements MemberService {
         // TODO : GG PASS 자동결제 로직 필요
 
         memberRepository.save(member);
+        memberInfoCache.evict(member.getUuid());
     }
 
     @Override
@@ -71,6 +74,7 @@ public class DefaultMemberService implements MemberService {
         // TODO : GG PASS 자동결제 해지 로직 필요
 
         memberRepository.save(member);
+        memberInfoCache.evict(member.getUuid());
     }
 
     /**
@@ -82,6 +86,8 @@ public class DefaultMemberService implements MemberService {
     @Transactional
     @Override
     public ShopMemberSignUpResponse signUp(final ShopMemberSignUpRequest signUpRequest) {
+        // 가입 전 조회로 캐시된 '없는 회원' 정보를 제거함.
+        memberInfoCache.evict(signUpRequest.getUuid());
         if (referrerCheck(signUpRequest) != null) {
             Member referrerMember = memberRepository.findByUuid(referrerCheck(signUpRequest))
                                                     .orElseThrow(MemberNotFoundException::new);
@@ -104,6 +110,7 @@ public class DefaultMemberService implements MemberService {
         Member member = memberRepository.findByUuid(uuid)
                                         .orElseThrow(MemberNotFoundException::new);
         member.withdraw(memberWithdrawRequest);
+        memberInfoCache.evict(uuid);
     }
 
     /**
@@ -0,0 +1,120 @@
+package com.nhnacademy.marketgg.server.service.impl;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductImportErrorResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductImportResponse;
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import com.nhnacademy.marketgg.server.exception.productimportjob.ProductImportJobNotFoundException;
+import com.nhnacademy.marketgg.server.productimport.ProductImporter;
+import com.nhnacademy.marketgg.server.repository.productimporterror.ProductImportErrorRepository;
+import com.nhnacademy.marketgg.server.repository.productimportjob.ProductImportJobRepository;
+import com.nhnacademy.marketgg.server.service.ProductImportService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 상품 일괄 등록 작업을 접수한 순서대로 백그라운드에서 하나씩 실행합니다.
+ * 업로드한 파일은 요청이 끝나면 지워지므로 임시 파일로 옮겨 두고, 작업이 끝나면 삭제합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class DefaultProductImportService implements ProductImportService, DisposableBean {
+
+    private final ProductImportJobRepository jobRepository;
+    private final ProductImportErrorRepository errorRepository;
+    private final ProductImporter importer;
+    private final int maxErrors;
+
+    private final ExecutorService executor =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("product-import-job-"));
+
+    public DefaultProductImportService(final ProductImportJobRepository jobRepository,
+                                       final ProductImportErrorRepository errorRepository,
+                                       final ProductImporter importer,
+                                       @Value("${gg.product-import.max-errors:1000}") final int maxErrors) {
+
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.importer = importer;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public ProductImportResponse startImport(final MultipartFile file, final MultipartFile images)
+        throws IOException {
+
+        ProductImportJob.Format format = ProductImportJob.Format.of(file.getOriginalFilename(), file.getContentType());
+
+        Path data = Files.createTempFile("product-import-", ".data");
+        Path archive = null;
+        try {
+            file.transferTo(data);
+            if (Objects.nonNull(images) && !images.isEmpty()) {
+                archive = Files.createTempFile("product-import-", ".zip");
+                images.transferTo(archive);
+            }
+
+            ProductImportJob job =
+                jobRepository.save(ProductImportJob.start(file.getOriginalFilename(), format, file.getSize()));
+            Path imageArchive = archive;
+            executor.execute(() -> {
+                try {
+                    importer.importProducts(job, data, imageArchive);
+                } finally {
+                    delete(data);
+                    delete(imageArchive);
+                }
+            });
+
+            return ProductImportResponse.from(job, List.of());
+        } catch (IOException | RuntimeException e) {
+            delete(data);
+            delete(archive);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductImportResponse retrieveImport(final Long jobId) {
+        ProductImportJob job = jobRepository.findById(jobId).orElseThrow(ProductImportJobNotFoundException::new);
+        List<ProductImportErrorResponse> errors =
+            errorRepository.findAllByJobIdOrderByRowNumberAsc(jobId, PageRequest.of(0, Math.max(1, maxErrors)))
+                           .stream()
+                           .map(ProductImportErrorResponse::from)
+                           .collect(Collectors.toList());
+
+        return ProductImportResponse.from(job, errors);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static void delete(final Path path) {
+        if (Objects.isNull(path)) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete product import file {}", path, e);
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.nhnacademy.marketgg.server.service.impl;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductReindexResponse;
+import com.nhnacademy.marketgg.server.elastic.reindex.ProductReindexer;
+import com.nhnacademy.marketgg.server.entity.ProductReindexJob;
+import com.nhnacademy.marketgg.server.exception.productreindexjob.ProductReindexJobNotFoundException;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import com.nhnacademy.marketgg.server.repository.productreindexjob.ProductReindexJobRepository;
+import com.nhnacademy.marketgg.server.service.ProductReindexService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 검색 색인 재구축 작업을 한 번에 하나씩 백그라운드에서 실행합니다.
+ * 다른 인스턴스에서 진행 중인 작업은 체크포인트가 최근에 갱신되었는지로 판단하며,
+ * 갱신이 멈춘 작업은 중단된 것으로 보고 이어서 진행합니다.
+ * {@link ProductReindexer} 와 같이 lucene 프로필에서는 등록하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+@Profile("!lucene")
+@Service
+public class DefaultProductReindexService implements ProductReindexService, DisposableBean {
+
+    private static final DateTimeFormatter VERSION = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ProductReindexJobRepository jobRepository;
+    private final ProductRepository productRepository;
+    private final ProductReindexer reindexer;
+    private final Duration staleAfter;
+
+    private final ExecutorService executor =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("product-reindex-job-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DefaultProductReindexService(final ProductReindexJobRepository jobRepository,
+                                        final ProductRepository productRepository,
+                                        final ProductReindexer reindexer,
+                                        @Value("${gg.product-index.reindex.stale-after:2m}")
+                                        final Duration staleAfter) {
+
+        this.jobRepository = jobRepository;
+        this.productRepository = productRepository;
+        this.reindexer = reindexer;
+        this.staleAfter = staleAfter;
+    }
+
+    @Override
+    public ProductReindexResponse reindex() {
+        if (!running.compareAndSet(false, true)) {
+            return retrieveStatus();
+        }
+
+        try {
+            Optional<ProductReindexJob> unfinished =
+                jobRepository.findFirstByStatusNotOrderByIdDesc(ProductReindexJob.Status.COMPLETED);
+            if (unfinished.isPresent() && isRunningElsewhere(unfinished.get())) {
+                running.set(false);
+                return ProductReindexResponse.from(unfinished.get());
+            }
+
+            ProductReindexJob job = unfinished.orElseGet(this::newJob);
+            job.resume();
+            ProductReindexJob saved = jobRepository.save(job);
+
+            executor.execute(() -> {
+                try {
+                    reindexer.reindex(saved);
+                } finally {
+                    running.set(false);
+                }
+            });
+
+            return ProductReindexResponse.from(saved);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductReindexResponse retrieveStatus() {
+        return jobRepository.findFirstByOrderByIdDesc()
+                            .map(ProductReindexResponse::from)
+                            .orElseThrow(ProductReindexJobNotFoundException::new);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private ProductReindexJob newJob() {
+        String indexName = reindexer.alias() + "_v" + LocalDateTime.now().format(VERSION);
+
+        return ProductReindexJob.start(indexName, productRepository.countByDeletedAtIsNull());
+    }
+
+    private boolean isRunningElsewhere(final ProductReindexJob job) {
+        return job.getStatus() == ProductReindexJob.Status.RUNNING
+            && job.getCheckpointedAt().isAfter(LocalDateTime.now().minus(staleAfter));
+    }
+
+}
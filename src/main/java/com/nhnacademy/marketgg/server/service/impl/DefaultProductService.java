@@ -1,39 +1,64 @@
 package com.nhnacademy.marketgg.server.service.impl;
 
+import com.nhnacademy.marketgg.server.cache.ProductDetailCache;
+import com.nhnacademy.marketgg.server.cache.ProductSearchCache;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CategoryRetrieveResponse;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
+import com.nhnacademy.marketgg.server.dto.response.ProductDetailResponse;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchHit;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.elastic.ProductIndexFields;
+import com.nhnacademy.marketgg.server.elastic.ProductSearchFacetParser;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
 import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
 import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.elastic.suggest.ProductNameIndex;
 import com.nhnacademy.marketgg.server.entity.Asset;
 import com.nhnacademy.marketgg.server.entity.Category;
 import com.nhnacademy.marketgg.server.entity.Image;
 import com.nhnacademy.marketgg.server.entity.Label;
 import com.nhnacademy.marketgg.server.entity.Product;
+import com.nhnacademy.marketgg.server.entity.ProductIndexOutbox;
 import com.nhnacademy.marketgg.server.entity.ProductLabel;
 import com.nhnacademy.marketgg.server.exception.category.CategoryNotFoundException;
-import com.nhnacademy.marketgg.server.exception.image.ImageNotFoundException;
 import com.nhnacademy.marketgg.server.exception.label.LabelNotFoundException;
 import com.nhnacademy.marketgg.server.exception.product.ProductNotFoundException;
+import com.nhnacademy.marketgg.server.popularity.ProductPopularityCounter;
 import com.nhnacademy.marketgg.server.repository.asset.AssetRepository;
 import com.nhnacademy.marketgg.server.repository.category.CategoryRepository;
 import com.nhnacademy.marketgg.server.repository.image.ImageRepository;
 import com.nhnacademy.marketgg.server.repository.label.LabelRepository;
 import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import com.nhnacademy.marketgg.server.repository.productindexoutbox.ProductIndexOutboxRepository;
 import com.nhnacademy.marketgg.server.repository.productlabel.ProductLabelRepository;
+import com.nhnacademy.marketgg.server.repository.support.CountMode;
+import com.nhnacademy.marketgg.server.repository.support.CountingPageRequest;
 import com.nhnacademy.marketgg.server.service.ProductService;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DefaultProductService implements ProductService {
@@ -45,7 +70,13 @@ public class DefaultProductService implements ProductService {
     private final ProductLabelRepository productLabelRepository;
     private final LabelRepository labelRepository;
 
+    private final ProductIndexOutboxRepository productIndexOutboxRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSearchCache productSearchCache;
+
     private final ElasticProductRepository elasticProductRepository;
+    private final ProductNameIndex productNameIndex;
+    private final ProductPopularityCounter popularityCounter;
 
     private static final String DIR = System.getProperty("user.home");
 
@@ -62,11 +93,10 @@ public class DefaultProductService implements ProductService {
         ProductLabel.Pk pk = new ProductLabel.Pk(product.getId(), productRequest.getLabelNo());
         Label label =
                 labelRepository.findById(product.getId()).orElseThrow(LabelNotFoundException::new);
-        Image image = imageRepository.findByAssetIdAndImageSequence(asset.getId(), 1)
-                                     .orElseThrow(ImageNotFoundException::new);
 
         productLabelRepository.save(new ProductLabel(pk, product, label));
-        elasticProductRepository.save(new ElasticProduct(product, label, image));
+        productIndexOutboxRepository.save(ProductIndexOutbox.index(product.getId()));
+        productNameIndex.put(product.getId(), product.getName());
     }
 
     @Override
@@ -74,9 +104,33 @@ public class DefaultProductService implements ProductService {
         return new SingleResponse<>(elasticProductRepository.findAll(pageable));
     }
 
+    @Override
+    public SingleResponse<CursorPage<ProductResponse>> retrieveProductsByCursor(final CursorPageRequest pageRequest) {
+        return new SingleResponse<>(
+            productRepository.findAllProductsAfter(pageRequest.getLastId(), pageRequest.getSize()));
+    }
+
     @Override
     public SingleResponse<ProductResponse> retrieveProductDetails(final Long productId) {
-        return new SingleResponse<>(productRepository.queryById(productId));
+        ProductResponse product = productDetailCache.get(productId);
+        if (Objects.nonNull(product) && Objects.isNull(product.getDeletedAt())) {
+            popularityCounter.recordView(productId);
+        }
+
+        return new SingleResponse<>(product);
+    }
+
+    @Override
+    public SingleResponse<ProductDetailResponse> retrieveExpandedProductDetails(final Long productId) {
+        ProductDetailResponse details = productRepository.queryDetailsById(productId);
+        if (Objects.isNull(details)) {
+            throw new ProductNotFoundException();
+        }
+        if (Objects.isNull(details.getProduct().getDeletedAt())) {
+            popularityCounter.recordView(productId);
+        }
+
+        return new SingleResponse<>(details);
     }
 
     @Transactional
@@ -91,15 +145,16 @@ public class DefaultProductService implements ProductService {
         Category category = categoryRepository.findById(productRequest.getCategoryCode())
                                               .orElseThrow(CategoryNotFoundException::new);
 
+        Map<String, Object> indexed = ProductIndexFields.snapshot(product);
         product.updateProduct(productRequest, asset, category);
-        Label label =
-                labelRepository.findById(product.getId()).orElseThrow(LabelNotFoundException::new);
-        Image image = imageRepository.findByAssetIdAndImageSequence(asset.getId(), 1)
-                                     .orElseThrow(ImageNotFoundException::new);
-        ElasticProduct elasticProduct = new ElasticProduct(product, label, image);
 
         productRepository.save(product);
-        elasticProductRepository.save(elasticProduct);
+        Set<String> changedFields = ProductIndexFields.changed(indexed, ProductIndexFields.snapshot(product));
+        if (!changedFields.isEmpty()) {
+            productIndexOutboxRepository.save(ProductIndexOutbox.update(product.getId(), changedFields));
+        }
+        productNameIndex.put(product.getId(), product.getName());
+        productDetailCache.evict(product.getId());
     }
 
     @Transactional
@@ -109,29 +164,92 @@ public class DefaultProductService implements ProductService {
 
         product.deleteProduct();
         productRepository.save(product);
-        elasticProductRepository.deleteById(id);
+        productIndexOutboxRepository.save(ProductIndexOutbox.delete(product.getId()));
+        productNameIndex.remove(product.getId());
+        productDetailCache.evict(product.getId());
     }
 
+    @Transactional
     @Override
     public void restoreProduct(final Long id) {
         Product product =
                 this.productRepository.findById(id).orElseThrow(ProductNotFoundException::new);
-        Label label =
-                labelRepository.findById(product.getId()).orElseThrow(LabelNotFoundException::new);
-        Image image = imageRepository.findByAssetIdAndImageSequence(product.getAsset().getId(), 1)
-                                     .orElseThrow(ImageNotFoundException::new);
-        ElasticProduct elasticProduct = new ElasticProduct(product, label, image);
 
         product.restoreProduct();
         productRepository.save(product);
-        elasticProductRepository.save(elasticProduct);
+        productIndexOutboxRepository.save(ProductIndexOutbox.index(product.getId()));
+        productNameIndex.put(product.getId(), product.getName());
+        productDetailCache.evict(product.getId());
     }
 
     @Override
     public List<ElasticProduct> searchProductByCategory(final Pageable pageable,
                                                         final String categoryCode) {
-        return this.elasticProductRepository.findAllByCategoryCode(pageable, categoryCode).getContent();
+        try {
+            return productSearchCache.getCategoryPage(
+                categoryCode, pageable,
+                () -> this.elasticProductRepository.findAllByCategoryCode(pageable, categoryCode).getContent());
+        } catch (RuntimeException e) {
+            log.warn("Product category search falls back to the database for {}", categoryCode, e);
+        }
+
+        Pageable fallbackPage =
+            CountingPageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), CountMode.NONE);
+
+        return productRepository.findLiveProductsByCategories(List.of(categoryCode),
+                                                              ProductBrowseRequest.Sort.LATEST, fallbackPage)
+                                .map(product -> new ElasticProduct(product.getId(), product.getCategoryCode(),
+                                                                   product.getName(), product.getContent(),
+                                                                   product.getDescription(), null, null,
+                                                                   product.getPrice(), product.getTotalStock()))
+                                .getContent();
+    }
+
+    @Override
+    public SingleResponse<Page<ProductResponse>> browseProducts(final ProductBrowseRequest browseRequest) {
+        return new SingleResponse<>(
+            productRepository.findLiveProductsByCategories(browseCategoryCodes(browseRequest),
+                                                           browseRequest.getSort(), browseRequest.getPageable()));
+    }
+
+    @Override
+    public SingleResponse<ProductSearchResponse> searchProducts(final EsProductSearchRequest searchRequest) {
+        return productSearchCache.getSearch(searchRequest, () -> search(searchRequest));
+    }
+
+    private SingleResponse<ProductSearchResponse> search(final EsProductSearchRequest searchRequest) {
+        SearchHits<ElasticProduct> searchHits = elasticProductRepository.search(searchRequest);
+        List<ProductSearchHit> products =
+            searchHits.stream()
+                      .map(hit -> new ProductSearchHit(hit.getContent(), hit.getScore(), hit.getHighlightFields()))
+                      .collect(Collectors.toList());
+
+        String cursor = null;
+        if (searchHits.getSearchHits().size() == searchRequest.getSize()) {
+            SearchHit<ElasticProduct> last = searchHits.getSearchHit(searchHits.getSearchHits().size() - 1);
+            cursor = SearchAfterCursor.encode(last.getSortValues());
+        }
+
+        return new SingleResponse<>(new ProductSearchResponse(products, searchHits.getTotalHits(), cursor,
+                                                              ProductSearchFacetParser.parse(
+                                                                  searchHits.getAggregations())));
+    }
+
+    private List<String> browseCategoryCodes(final ProductBrowseRequest browseRequest) {
+        String categoryCode = browseRequest.getCategoryCode();
+        if (Objects.nonNull(categoryCode) && !categoryCode.isBlank()) {
+            return List.of(categoryCode);
+        }
+
+        String categorizationCode = browseRequest.getCategorizationCode();
+        if (Objects.isNull(categorizationCode) || categorizationCode.isBlank()) {
+            throw new IllegalArgumentException("카테고리 분류 코드나 카테고리 코드가 필요합니다.");
+        }
 
+        return categoryRepository.findByCategorizationCode(categorizationCode)
+                                 .stream()
+                                 .map(CategoryRetrieveResponse::getCategoryCode)
+                                 .collect(Collectors.toList());
     }
 
     private Asset fileUpload(MultipartFile imageFile) throws IOException {
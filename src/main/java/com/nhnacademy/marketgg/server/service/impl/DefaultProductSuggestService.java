@@ -0,0 +1,80 @@
+package com.nhnacademy.marketgg.server.service.impl;
+
+import com.nhnacademy.marketgg.server.dto.request.ProductSuggestRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.elastic.suggest.ProductNameIndex;
+import com.nhnacademy.marketgg.server.service.ProductSuggestService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Elasticsearch completion suggester 로 자동완성을 처리하고, 실패하면 메모리의 자동완성 색인을 사용합니다.
+ * 실패한 뒤 일정 시간 동안은 Elasticsearch 를 호출하지 않아 장애 중에도 응답이 타임아웃만큼 늦어지지 않게 합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class DefaultProductSuggestService implements ProductSuggestService {
+
+    private final ElasticProductRepository elasticProductRepository;
+    private final ProductNameIndex productNameIndex;
+    private final Duration fallbackCooldown;
+    private final Clock clock;
+    private final Counter fallbacks;
+
+    private volatile long elasticsearchRetryAt;
+
+    @Autowired
+    public DefaultProductSuggestService(final ElasticProductRepository elasticProductRepository,
+                                        final ProductNameIndex productNameIndex,
+                                        @Value("${gg.product-suggest.fallback-cooldown:5s}")
+                                        final Duration fallbackCooldown,
+                                        final MeterRegistry meterRegistry) {
+
+        this(elasticProductRepository, productNameIndex, fallbackCooldown, Clock.systemUTC(), meterRegistry);
+    }
+
+    DefaultProductSuggestService(final ElasticProductRepository elasticProductRepository,
+                                 final ProductNameIndex productNameIndex,
+                                 final Duration fallbackCooldown,
+                                 final Clock clock,
+                                 final MeterRegistry meterRegistry) {
+
+        this.elasticProductRepository = elasticProductRepository;
+        this.productNameIndex = productNameIndex;
+        this.fallbackCooldown = fallbackCooldown;
+        this.clock = clock;
+        this.fallbacks = Counter.builder("gg.product-suggest.fallbacks")
+                                .description("Autocomplete requests served from the in-memory index")
+                                .register(meterRegistry);
+    }
+
+    @Override
+    public SingleResponse<List<ProductSuggestion>> suggestProducts(final ProductSuggestRequest suggestRequest) {
+        String prefix = suggestRequest.getPrefix().strip();
+        int size = suggestRequest.getSize();
+
+        if (clock.millis() >= elasticsearchRetryAt) {
+            try {
+                return new SingleResponse<>(elasticProductRepository.suggest(prefix, size));
+            } catch (RuntimeException e) {
+                log.warn("Product autocomplete falls back to the in-memory index for {}", fallbackCooldown, e);
+                elasticsearchRetryAt = clock.millis() + fallbackCooldown.toMillis();
+            }
+        }
+
+        fallbacks.increment();
+        return new SingleResponse<>(productNameIndex.suggest(prefix, size));
+    }
+
+}
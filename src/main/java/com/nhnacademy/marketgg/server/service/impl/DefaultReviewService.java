@@ -1,7 +1,9 @@
 package com.nhnacademy.marketgg.server.service.impl;
 
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ReviewResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import com.nhnacademy.marketgg.server.entity.Asset;
@@ -63,6 +65,14 @@ public class DefaultReviewService implements ReviewService {
         return new SingleResponse<>(response);
     }
 
+    @Override
+    public SingleResponse<CursorPage<ReviewResponse>> retrieveReviewsByCursor(final CursorPageRequest pageRequest) {
+        CursorPage<ReviewResponse> response =
+            reviewRepository.retrieveReviewsAfter(pageRequest.getLastId(), pageRequest.getSize());
+
+        return new SingleResponse<>(response);
+    }
+
 
     @Override
     public SingleResponse<ReviewResponse> retrieveReviewDetails(final Long id) {
@@ -0,0 +1,64 @@
+package com.nhnacademy.marketgg.server.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기록을 버림")
+    void testDropWhenFull() {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        assertThat(buffer.getDropped()).isEqualTo(1L);
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 기록이 유실되거나 중복되지 않음")
+    void testConcurrentOffer() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer element = buffer.poll();
+            if (element != null) {
+                assertThat(received.add(element)).isTrue();
+            }
+        }
+
+        assertThat(done.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.poll()).isNull();
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuthInfoCacheTest {
+
+    AuthInfoCache authInfoCache;
+    GatewayAuthClient gatewayAuthClient;
+    SimpleMeterRegistry meterRegistry;
+
+    String uuid = "uuid";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authInfoCache = new AuthInfoCache(100L, Duration.ofMinutes(5L), true, Duration.ofHours(1L),
+                                          new ObjectMapper(), meterRegistry);
+        gatewayAuthClient = mock(GatewayAuthClient.class);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 조회하면 Auth Server 를 한 번만 호출")
+    void testCacheHit() {
+        String jwt = token(Instant.now().plusSeconds(60L));
+        given(gatewayAuthClient.retrieveAuthInfo(jwt, uuid)).willReturn(new AuthInfo());
+
+        AuthInfo first = authInfoCache.get(jwt, uuid, () -> gatewayAuthClient.retrieveAuthInfo(jwt, uuid));
+        AuthInfo second = authInfoCache.get(jwt, uuid, () -> gatewayAuthClient.retrieveAuthInfo(jwt, uuid));
+
+        assertThat(second).isSameAs(first);
+        then(gatewayAuthClient).should(times(1)).retrieveAuthInfo(jwt, uuid);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.info").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시하지 않음")
+    void testExpiredToken() {
+        String jwt = token(Instant.now().minusSeconds(60L));
+        given(gatewayAuthClient.retrieveAuthInfo(jwt, uuid)).willReturn(new AuthInfo());
+
+        authInfoCache.get(jwt, uuid, () -> gatewayAuthClient.retrieveAuthInfo(jwt, uuid));
+        authInfoCache.get(jwt, uuid, () -> gatewayAuthClient.retrieveAuthInfo(jwt, uuid));
+
+        then(gatewayAuthClient).should(times(2)).retrieveAuthInfo(jwt, uuid);
+    }
+
+    @Test
+    @DisplayName("캐시 제거 후 다시 조회")
+    void testEvict() {
+        String jwt = token(Instant.now().plusSeconds(60L));
+        given(gatewayAuthClient.retrieveAuthInfo(jwt, uuid)).willReturn(new AuthInfo());
+
+        authInfoCache.get(jwt, uuid, () -> gatewayAuthClient.retrieveAuthInfo(jwt, uuid));
+        authInfoCache.evict(jwt, uuid);
+        authInfoCache.get(jwt, uuid, () -> gatewayAuthClient.retrieveAuthInfo(jwt, uuid));
+
+        then(gatewayAuthClient).should(times(2)).retrieveAuthInfo(jwt, uuid);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나도 토큰이 유효하면 Stale 회원 정보 반환")
+    void testStale() {
+        authInfoCache = new AuthInfoCache(100L, Duration.ZERO, true, Duration.ofHours(1L),
+                                          new ObjectMapper(), meterRegistry);
+        String jwt = token(Instant.now().plusSeconds(60L));
+        AuthInfo authInfo = new AuthInfo();
+
+        authInfoCache.get(jwt, uuid, () -> authInfo);
+
+        assertThat(authInfoCache.getStale(jwt, uuid)).containsSame(authInfo);
+        assertThat(authInfoCache.getStale(token(Instant.now().plusSeconds(120L)), uuid)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Stale Fallback 비활성화")
+    void testStaleDisabled() {
+        authInfoCache = new AuthInfoCache(100L, Duration.ZERO, false, Duration.ofHours(1L),
+                                          new ObjectMapper(), meterRegistry);
+        String jwt = token(Instant.now().plusSeconds(60L));
+
+        authInfoCache.get(jwt, uuid, AuthInfo::new);
+
+        assertThat(authInfoCache.getStale(jwt, uuid)).isEmpty();
+    }
+
+    private String token(Instant exp) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(
+            ("{\"exp\":" + exp.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+
+        return JwtUtils.BEARER_PREFIX + header + "." + payload + ".signature";
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.config.GatewayResilienceConfig;
+import com.nhnacademy.marketgg.server.config.RequestQueueLimitInterceptor;
+import com.nhnacademy.marketgg.server.exception.RequestQueueFullException;
+import com.nhnacademy.marketgg.server.exception.auth.GatewayUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class GatewayAuthClientTest {
+
+    @Test
+    @DisplayName("요청 대기열이 가득 차면 Gateway 장애로 응답하지만 Circuit Breaker 의 실패로 기록하지 않음")
+    void testRequestQueueFullIsNotGatewayFailure() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(new RequestQueueLimitInterceptor(0)));
+        CircuitBreaker circuitBreaker =
+            new GatewayResilienceConfig().gatewayCircuitBreaker(50f, 80f, Duration.ofSeconds(2L), 2, 1,
+                                                                Duration.ofSeconds(10L), 1,
+                                                                new SimpleMeterRegistry());
+        GatewayAuthClient client = new GatewayAuthClient("http://localhost:1", restTemplate, new ObjectMapper(),
+                                                         circuitBreaker, Bulkhead.ofDefaults("gateway"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.retrieveAuthInfo("Bearer jwt", "uuid"))
+                .isInstanceOf(GatewayUnavailableException.class)
+                .hasCauseInstanceOf(RequestQueueFullException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import com.nhnacademy.marketgg.server.annotation.Auth;
+import com.nhnacademy.marketgg.server.controller.CartController;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.service.CartProductService;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class IdentityPrefetchInterceptorTest {
+
+    IdentityPrefetchInterceptor interceptor;
+    AuthInfoProvider authInfoProvider;
+    MockHttpServletRequest request;
+
+    String jwt = "Bearer jwt";
+    String uuid = "uuid";
+
+    @BeforeEach
+    void setUp() {
+        authInfoProvider = mock(AuthInfoProvider.class);
+        interceptor = new IdentityPrefetchInterceptor(authInfoProvider, Runnable::run);
+
+        request = new MockHttpServletRequest();
+        request.addHeader(AUTHORIZATION, jwt);
+        request.addHeader(RequestIdentity.AUTH_ID, uuid);
+    }
+
+    @Test
+    @DisplayName("두 정보를 모두 사용하는 핸들러는 Gateway 조회를 미리 시작")
+    void testPrefetch() throws Exception {
+        AuthInfo authInfo = new AuthInfo();
+        given(authInfoProvider.retrieve(jwt, uuid)).willReturn(authInfo);
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler("both"));
+
+        assertThat(RequestIdentity.of(request).getPendingAuthInfo()).isCompletedWithValue(authInfo);
+    }
+
+    @Test
+    @DisplayName("회원 정보만 사용하는 장바구니 조회 핸들러는 Gateway 를 조회하지 않음")
+    void testNoPrefetch() throws Exception {
+        HandlerMethod retrieveCart = new HandlerMethod(new CartController(mock(CartProductService.class)),
+                                                       CartController.class.getMethod("retrieveCart",
+                                                                                      MemberInfo.class));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), retrieveCart);
+
+        assertThat(RequestIdentity.of(request).getPendingAuthInfo()).isNull();
+        then(authInfoProvider).should(never()).retrieve(jwt, uuid);
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        for (Method method : Handlers.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return new HandlerMethod(new Handlers(), method);
+            }
+        }
+
+        throw new NoSuchMethodException(name);
+    }
+
+    static class Handlers {
+
+        void both(MemberInfo memberInfo, @Auth AuthInfo authInfo) {
+        }
+
+    }
+
+}
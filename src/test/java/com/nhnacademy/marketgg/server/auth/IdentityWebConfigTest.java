@@ -0,0 +1,166 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static com.nhnacademy.marketgg.server.auth.RequestIdentity.AUTH_ID;
+import static com.nhnacademy.marketgg.server.auth.RequestIdentity.WWW_AUTHENTICATION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.annotation.Role;
+import com.nhnacademy.marketgg.server.annotation.RoleCheck;
+import com.nhnacademy.marketgg.server.annotation.UUID;
+import com.nhnacademy.marketgg.server.controller.CartController;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.service.CartProductService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@WebMvcTest(CartController.class)
+@Import(IdentityWebConfigTest.AdminHandler.class)
+class IdentityWebConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockBean
+    CartProductService cartProductService;
+
+    @MockBean
+    MemberInfoCache memberInfoCache;
+
+    String uuid = "uuid";
+
+    @Test
+    @DisplayName("AUTH-ID 헤더가 없으면 401")
+    void testMissingAuthId() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(WWW_AUTHENTICATION, roles(Role.ROLE_USER));
+
+        this.mockMvc.perform(get("/cart").headers(headers))
+                    .andExpect(status().isUnauthorized());
+
+        verify(memberInfoCache, never()).get(any());
+        verify(cartProductService, never()).retrieveCarts(any());
+    }
+
+    @Test
+    @DisplayName("권한 헤더가 없으면 401")
+    void testMissingRoleHeader() throws Exception {
+        this.mockMvc.perform(get("/cart").header(AUTH_ID, uuid))
+                    .andExpect(status().isUnauthorized());
+
+        verify(cartProductService, never()).retrieveCarts(any());
+    }
+
+    @Test
+    @DisplayName("클래스에 지정된 관리자 권한이 없으면 403")
+    void testInsufficientRole() throws Exception {
+        this.mockMvc.perform(get("/test/admin").headers(headers(Role.ROLE_USER)))
+                    .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("클래스에 지정된 관리자 권한이 있으면 통과")
+    void testAdminRole() throws Exception {
+        this.mockMvc.perform(get("/test/admin").headers(headers(Role.ROLE_ADMIN)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("admin"));
+    }
+
+    @Test
+    @DisplayName("메서드에 지정된 권한이 클래스에 지정된 권한보다 우선")
+    void testMethodRoleCheckOverridesClass() throws Exception {
+        this.mockMvc.perform(get("/test/uuid").headers(headers(Role.ROLE_USER)))
+                    .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("@UUID 파라미터에 AUTH-ID 헤더 값 전달")
+    void testResolveUuid() throws Exception {
+        this.mockMvc.perform(get("/test/uuid").headers(headers(Role.ROLE_USER)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(uuid));
+
+        verify(memberInfoCache, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("MemberInfo 파라미터에 AUTH-ID 로 조회한 회원 정보 전달")
+    void testResolveMemberInfo() throws Exception {
+        MemberInfo memberInfo = new MemberInfo(1L, 1L, null, 'M', null, null);
+        given(memberInfoCache.get(uuid)).willReturn(Optional.of(memberInfo));
+        given(cartProductService.retrieveCarts(memberInfo)).willReturn(List.of());
+
+        this.mockMvc.perform(get("/cart").headers(headers(Role.ROLE_USER)))
+                    .andExpect(status().isOk());
+
+        verify(memberInfoCache, times(1)).get(uuid);
+        verify(cartProductService, times(1)).retrieveCarts(memberInfo);
+    }
+
+    @Test
+    @DisplayName("AUTH-ID 에 해당하는 회원이 없으면 404")
+    void testResolveMemberInfoNotFound() throws Exception {
+        given(memberInfoCache.get(uuid)).willReturn(Optional.empty());
+
+        this.mockMvc.perform(get("/cart").headers(headers(Role.ROLE_USER)))
+                    .andExpect(status().isNotFound());
+
+        verify(cartProductService, never()).retrieveCarts(any());
+    }
+
+    private HttpHeaders headers(final Role role) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(AUTH_ID, uuid);
+        headers.set(WWW_AUTHENTICATION, roles(role));
+
+        return headers;
+    }
+
+    private String roles(final Role role) throws Exception {
+        return objectMapper.writeValueAsString(Collections.singletonList(role));
+    }
+
+    /**
+     * 컴포넌트 스캔에 포함되지 않도록 @Controller 없이 @RequestMapping 만으로 등록하는 테스트용 핸들러입니다.
+     */
+    @ResponseBody
+    @RequestMapping("/test")
+    @RoleCheck(accessLevel = Role.ROLE_ADMIN)
+    static class AdminHandler {
+
+        @GetMapping("/admin")
+        public String admin() {
+            return "admin";
+        }
+
+        @GetMapping("/uuid")
+        @RoleCheck(accessLevel = Role.ROLE_USER)
+        public String uuid(@UUID String uuid) {
+            return uuid;
+        }
+
+    }
+
+}
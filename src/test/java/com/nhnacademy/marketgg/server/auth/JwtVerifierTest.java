@@ -0,0 +1,90 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtVerifierTest {
+
+    static KeyPair keyPair;
+    static JwtVerifier jwtVerifier;
+
+    static Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+
+        jwtVerifier = new JwtVerifier(Map.of("", keyPair.getPublic()), new ObjectMapper(),
+                                      Duration.ofSeconds(30L), Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("서명이 올바른 토큰 검증")
+    void testVerify() throws Exception {
+        String jwt = sign("RS256", "{\"email\":\"a@b.c\",\"exp\":" + exp(60L) + "}");
+
+        Optional<JsonNode> claims = jwtVerifier.verify(JwtUtils.BEARER_PREFIX + jwt);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().get("email").asText()).isEqualTo("a@b.c");
+    }
+
+    @Test
+    @DisplayName("Payload 가 변조된 토큰 검증 실패")
+    void testVerifyTampered() throws Exception {
+        String[] parts = sign("RS256", "{\"email\":\"a@b.c\",\"exp\":" + exp(60L) + "}").split("\\.");
+        String tampered = encoder.encodeToString(
+            ("{\"email\":\"admin@b.c\",\"exp\":" + exp(60L) + "}").getBytes(StandardCharsets.UTF_8));
+
+        assertThat(jwtVerifier.verify(parts[0] + "." + tampered + "." + parts[2])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 검증 실패")
+    void testVerifyExpired() throws Exception {
+        String jwt = sign("RS256", "{\"exp\":" + exp(-120L) + "}");
+
+        assertThat(jwtVerifier.verify(jwt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 알고리즘 검증 실패")
+    void testVerifyUnsupportedAlgorithm() throws Exception {
+        String jwt = sign("none", "{\"exp\":" + exp(60L) + "}");
+
+        assertThat(jwtVerifier.verify(jwt)).isEmpty();
+    }
+
+    private static long exp(long seconds) {
+        return Instant.now().plusSeconds(seconds).getEpochSecond();
+    }
+
+    private static String sign(String alg, String claims) throws Exception {
+        String header = encoder.encodeToString(("{\"alg\":\"" + alg + "\"}").getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+
+        return header + "." + payload + "." + encoder.encodeToString(signature.sign());
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import com.nhnacademy.marketgg.server.dummy.Dummy;
+import com.nhnacademy.marketgg.server.entity.Cart;
+import com.nhnacademy.marketgg.server.repository.member.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberInfoCacheTest {
+
+    MemberInfoCache memberInfoCache;
+    MemberRepository memberRepository;
+
+    String uuid = "uuid";
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        memberInfoCache = new MemberInfoCache(memberRepository, 100L, Duration.ofMinutes(10L),
+                                              Duration.ofSeconds(30L), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 UUID 로 조회하면 DB 를 한 번만 조회")
+    void testCacheHit() {
+        MemberInfo memberInfo = Dummy.getDummyMemberInfo(1L, new Cart());
+        given(memberRepository.findMemberInfoByUuid(uuid)).willReturn(Optional.of(memberInfo));
+
+        memberInfoCache.get(uuid);
+        Optional<MemberInfo> result = memberInfoCache.get(uuid);
+
+        assertThat(result).containsSame(memberInfo);
+        then(memberRepository).should(times(1)).findMemberInfoByUuid(uuid);
+    }
+
+    @Test
+    @DisplayName("없는 회원도 캐시")
+    void testNegativeCache() {
+        given(memberRepository.findMemberInfoByUuid(uuid)).willReturn(Optional.empty());
+
+        memberInfoCache.get(uuid);
+        Optional<MemberInfo> result = memberInfoCache.get(uuid);
+
+        assertThat(result).isEmpty();
+        then(memberRepository).should(times(1)).findMemberInfoByUuid(uuid);
+    }
+
+    @Test
+    @DisplayName("캐시 제거 후 다시 조회")
+    void testEvict() {
+        given(memberRepository.findMemberInfoByUuid(uuid)).willReturn(Optional.empty());
+
+        memberInfoCache.get(uuid);
+        memberInfoCache.evict(uuid);
+        memberInfoCache.get(uuid);
+
+        then(memberRepository).should(times(2)).findMemberInfoByUuid(uuid);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import com.nhnacademy.marketgg.server.annotation.Auth;
+import com.nhnacademy.marketgg.server.dto.AuthInfo;
+import com.nhnacademy.marketgg.server.dto.MemberInfo;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class RequestIdentityArgumentResolverTest {
+
+    RequestIdentityArgumentResolver resolver;
+    MemberInfoCache memberInfoCache;
+    AuthInfoProvider authInfoProvider;
+    MockHttpServletRequest request;
+
+    String jwt = "Bearer jwt";
+    String uuid = "uuid";
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        memberInfoCache = mock(MemberInfoCache.class);
+        authInfoProvider = mock(AuthInfoProvider.class);
+        ObjectProvider<MemberInfoCache> memberInfoCacheProvider = mock(ObjectProvider.class);
+        ObjectProvider<AuthInfoProvider> authInfoProviderProvider = mock(ObjectProvider.class);
+        given(memberInfoCacheProvider.getObject()).willReturn(memberInfoCache);
+        given(authInfoProviderProvider.getObject()).willReturn(authInfoProvider);
+        resolver = new RequestIdentityArgumentResolver(memberInfoCacheProvider, authInfoProviderProvider);
+
+        request = new MockHttpServletRequest();
+        request.addHeader(AUTHORIZATION, jwt);
+        request.addHeader(RequestIdentity.AUTH_ID, uuid);
+    }
+
+    @Test
+    @DisplayName("미리 시작한 조회를 기다리기 전에 회원 정보를 먼저 조회")
+    void testResolveMemberInfoBeforeJoiningPrefetch() throws Exception {
+        MemberInfo memberInfo = new MemberInfo(1L, null, null, 'M', null, null);
+        AuthInfo authInfo = new AuthInfo();
+        CompletableFuture<AuthInfo> pending = new CompletableFuture<>();
+        RequestIdentity.of(request).setPendingAuthInfo(pending);
+        given(memberInfoCache.get(uuid)).willAnswer(invocation -> {
+            pending.complete(authInfo);
+            return Optional.of(memberInfo);
+        });
+
+        Method handler = Handlers.class.getDeclaredMethod("authFirst", AuthInfo.class, MemberInfo.class);
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+
+        Object resolvedAuthInfo = assertTimeoutPreemptively(Duration.ofSeconds(5L), () ->
+            resolver.resolveArgument(new MethodParameter(handler, 0), null, webRequest, null));
+        Object resolvedMemberInfo = resolver.resolveArgument(new MethodParameter(handler, 1), null, webRequest, null);
+
+        assertThat(resolvedAuthInfo).isSameAs(authInfo);
+        assertThat(resolvedMemberInfo).isSameAs(memberInfo);
+        then(authInfoProvider).should(never()).retrieve(jwt, uuid);
+    }
+
+    static class Handlers {
+
+        void authFirst(@Auth AuthInfo authInfo, MemberInfo memberInfo) {
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.marketgg.server.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.annotation.Role;
+import java.io.UncheckedIOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoleSetCacheTest {
+
+    RoleSetCache roleSetCache = new RoleSetCache(new ObjectMapper(), 16L);
+
+    @Test
+    @DisplayName("관리자 권한은 회원 권한을 포함")
+    void testAdmin() {
+        RoleSet roles = roleSetCache.get("[\"ROLE_ADMIN\"]");
+
+        assertThat(roles.isAdmin()).isTrue();
+        assertThat(roles.isUser()).isTrue();
+        assertThat(roles.contains(Role.ROLE_USER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원 권한과 알 수 없는 권한")
+    void testUser() {
+        RoleSet roles = roleSetCache.get("[\"ROLE_USER\",\"ROLE_UNKNOWN\"]");
+
+        assertThat(roles.isUser()).isTrue();
+        assertThat(roles.isAdmin()).isFalse();
+        assertThat(roles).isEqualTo(roleSetCache.get("[\"ROLE_USER\"]"));
+    }
+
+    @Test
+    @DisplayName("JSON List 형식이 아닌 헤더")
+    void testInvalidHeader() {
+        assertThatThrownBy(() -> roleSetCache.get("ROLE_USER"))
+            .isInstanceOf(UncheckedIOException.class);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.nhnacademy.marketgg.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductDetailCacheTest {
+
+    ProductDetailCache productDetailCache;
+    ProductRepository productRepository;
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        productDetailCache = new ProductDetailCache(productRepository, 100L, Duration.ofMinutes(10L), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 상품을 조회하면 DB 를 한 번만 조회하고 적중률을 기록")
+    void testCacheHit() {
+        ProductResponse productResponse = mock(ProductResponse.class);
+        given(productRepository.queryById(1L)).willReturn(productResponse);
+
+        productDetailCache.get(1L);
+        ProductResponse result = productDetailCache.get(1L);
+
+        assertThat(result).isSameAs(productResponse);
+        then(productRepository).should(times(1)).queryById(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 상품을 조회해도 DB 는 한 번만 조회")
+    void testSingleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        ProductResponse productResponse = mock(ProductResponse.class);
+        given(productRepository.queryById(1L)).willAnswer(invocation -> {
+            loading.await(1L, TimeUnit.SECONDS);
+            return productResponse;
+        });
+
+        List<CompletableFuture<ProductResponse>> futures =
+            IntStream.range(0, 8)
+                     .mapToObj(i -> CompletableFuture.supplyAsync(() -> productDetailCache.get(1L)))
+                     .collect(Collectors.toList());
+        loading.countDown();
+
+        for (CompletableFuture<ProductResponse> future : futures) {
+            assertThat(future.get(5L, TimeUnit.SECONDS)).isSameAs(productResponse);
+        }
+        then(productRepository).should(times(1)).queryById(1L);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 캐시하지 않고, 캐시 제거 후 다시 조회")
+    void testMissAndEvict() {
+        given(productRepository.queryById(1L)).willReturn(mock(ProductResponse.class));
+
+        assertThat(productDetailCache.get(2L)).isNull();
+        productDetailCache.get(2L);
+        productDetailCache.get(1L);
+        productDetailCache.evict(1L);
+        productDetailCache.get(1L);
+
+        then(productRepository).should(times(2)).queryById(2L);
+        then(productRepository).should(times(2)).queryById(1L);
+    }
+
+}
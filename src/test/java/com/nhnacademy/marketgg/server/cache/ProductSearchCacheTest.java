@@ -0,0 +1,118 @@
+package com.nhnacademy.marketgg.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchHit;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchResponse;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.dummy.Dummy;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class ProductSearchCacheTest {
+
+    ProductSearchCache productSearchCache;
+    SimpleMeterRegistry meterRegistry;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productSearchCache = new ProductSearchCache(100L, Duration.ofSeconds(30L), List.of("the", " OF "),
+                                                    meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백, 불용어만 다른 검색은 한 번만 검색하고 질의 종류별 적중률을 기록")
+    void testNormalizedKeywordHit() {
+        productSearchCache.getSearch(searchRequest("  Grapefruit   JUICE ", "101"), this::searchResponse);
+        productSearchCache.getSearch(searchRequest("the grapefruit of juice", "101"), this::searchResponse);
+        productSearchCache.getSearch(searchRequest("grapefruit juice", "102"), this::searchResponse);
+        productSearchCache.getSearch(searchRequest(null, "101"), this::searchResponse);
+        productSearchCache.getSearch(searchRequest(" ", "101"), this::searchResponse);
+
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("gg.product-search.cache.hit-ratio").tag("class", "keyword").gauge().value())
+            .isEqualTo(0.4);
+        assertThat(meterRegistry.get("gg.product-search.cache.hit-ratio").tag("class", "category").gauge().value())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("모두 불용어인 키워드는 키워드가 없는 검색과 구분")
+    void testStopWordsOnlyKeyword() {
+        assertThat(productSearchCache.normalize("The OF")).isEmpty();
+        assertThat(productSearchCache.normalize(null)).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 목록은 페이지마다 캐시하고, 조회에 실패하면 캐시하지 않음")
+    void testCategoryPage() {
+        productSearchCache.getCategoryPage("101", PageRequest.of(0, 20), () -> categoryPage(1L));
+        productSearchCache.getCategoryPage("101", PageRequest.of(0, 20), () -> categoryPage(1L));
+        productSearchCache.getCategoryPage("101", PageRequest.of(1, 20), () -> categoryPage(2L));
+
+        assertThatThrownBy(() -> productSearchCache.getCategoryPage("102", PageRequest.of(0, 20), () -> {
+            throw new IllegalStateException("connection refused");
+        })).isInstanceOf(IllegalStateException.class);
+        productSearchCache.getCategoryPage("102", PageRequest.of(0, 20), () -> categoryPage(3L));
+
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("gg.product-search.cache.requests").tag("class", "category")
+                                .tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("바뀐 카테고리, 카테고리 조건이 없는 검색, 바뀐 상품을 담은 항목만 제거")
+    void testInvalidate() {
+        productSearchCache.getCategoryPage("101", PageRequest.of(0, 20), () -> categoryPage(1L));
+        productSearchCache.getCategoryPage("102", PageRequest.of(0, 20), () -> categoryPage(2L));
+        productSearchCache.getCategoryPage("103", PageRequest.of(0, 20), () -> categoryPage(3L));
+        productSearchCache.getSearch(searchRequest("자몽", null), this::searchResponse);
+        productSearchCache.getSearch(searchRequest("자몽", "104"), this::searchResponse);
+        loads.set(0);
+
+        productSearchCache.invalidate(Set.of(2L), Set.of("101"));
+
+        productSearchCache.getCategoryPage("101", PageRequest.of(0, 20), () -> categoryPage(1L));
+        productSearchCache.getCategoryPage("102", PageRequest.of(0, 20), () -> categoryPage(2L));
+        productSearchCache.getCategoryPage("103", PageRequest.of(0, 20), () -> categoryPage(3L));
+        productSearchCache.getSearch(searchRequest("자몽", null), this::searchResponse);
+        productSearchCache.getSearch(searchRequest("자몽", "104"), this::searchResponse);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    private List<ElasticProduct> categoryPage(final Long productId) {
+        loads.incrementAndGet();
+        return List.of(new ElasticProduct(Dummy.getDummyProduct(productId, 1L), null, null));
+    }
+
+    private SingleResponse<ProductSearchResponse> searchResponse() {
+        loads.incrementAndGet();
+        ElasticProduct product = new ElasticProduct(Dummy.getDummyProduct(9L, 1L), null, null);
+        return new SingleResponse<>(
+            new ProductSearchResponse(List.of(new ProductSearchHit(product, 1.0f, Map.of())), 1L, null, null));
+    }
+
+    private static EsProductSearchRequest searchRequest(final String keyword, final String categoryCode) {
+        EsProductSearchRequest searchRequest = new EsProductSearchRequest();
+        searchRequest.setKeyword(keyword);
+        searchRequest.setCategoryCode(categoryCode);
+
+        return searchRequest;
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.nhnacademy.marketgg.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostStatusUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.service.CustomerServicePostService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -63,6 +66,20 @@ public class AdminCustomerServiceControllerTest {
         then(customerServicePostService).should().retrieveOtoInquiries(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("1:1 문의 목록 커서 기반 조회 - 관리자")
+    void testRetrieveOtoInquiriesByCursor() throws Exception {
+        given(customerServicePostService.retrieveOtoInquiriesByCursor(any(CursorPageRequest.class)))
+                .willReturn(new CursorPage<>(List.of(), null));
+
+        this.mockMvc.perform(get(DEFAULT_ADMIN_CUSTOMER_SERVICE + "/oto-inquiries").param("cursor", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.size()", is(0)));
+
+        then(customerServicePostService).should().retrieveOtoInquiriesByCursor(any(CursorPageRequest.class));
+        then(customerServicePostService).should(never()).retrieveOtoInquiries(any(Pageable.class));
+    }
+
     @Test
     @DisplayName("1:1 문의 상태 변경 - 관리자")
     void testUpdatePostStatus() throws Exception {
@@ -1,7 +1,7 @@
 package com.nhnacademy.marketgg.server.controller;
 
-import static com.nhnacademy.marketgg.server.aop.AspectUtils.AUTH_ID;
-import static com.nhnacademy.marketgg.server.aop.AspectUtils.WWW_AUTHENTICATION;
+import static com.nhnacademy.marketgg.server.auth.RequestIdentity.AUTH_ID;
+import static com.nhnacademy.marketgg.server.auth.RequestIdentity.WWW_AUTHENTICATION;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,16 +23,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.marketgg.server.annotation.Role;
-import com.nhnacademy.marketgg.server.aop.AuthInjectAspect;
-import com.nhnacademy.marketgg.server.aop.MemberInfoAspect;
-import com.nhnacademy.marketgg.server.aop.RoleCheckAspect;
-import com.nhnacademy.marketgg.server.aop.UuidAspect;
+import com.nhnacademy.marketgg.server.auth.MemberInfoCache;
 import com.nhnacademy.marketgg.server.dto.MemberInfo;
 import com.nhnacademy.marketgg.server.dto.request.ProductToCartRequest;
 import com.nhnacademy.marketgg.server.dummy.Dummy;
 import com.nhnacademy.marketgg.server.entity.Cart;
 import com.nhnacademy.marketgg.server.exception.product.ProductNotFoundException;
-import com.nhnacademy.marketgg.server.repository.member.MemberRepository;
 import com.nhnacademy.marketgg.server.service.CartProductService;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -46,7 +42,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -57,12 +52,6 @@ import org.springframework.web.context.WebApplicationContext;
 @Transactional
 @SpringBootTest
 @ActiveProfiles({ "testdb", "common" })
-@Import({
-    RoleCheckAspect.class,
-    AuthInjectAspect.class,
-    UuidAspect.class,
-    MemberInfoAspect.class
-})
 class CartControllerTest {
 
     MockMvc mockMvc;
@@ -74,7 +63,7 @@ class CartControllerTest {
     CartProductService cartProductService;
 
     @MockBean
-    MemberRepository memberRepository;
+    MemberInfoCache memberInfoCache;
 
     String baseUri = "/cart";
 
@@ -93,7 +82,7 @@ class CartControllerTest {
 
         uuid = UUID.randomUUID().toString();
         MemberInfo memberInfo = Dummy.getDummyMemberInfo(memberId, new Cart());
-        given(memberRepository.findMemberInfoByUuid(uuid)).willReturn(Optional.of(memberInfo));
+        given(memberInfoCache.get(uuid)).willReturn(Optional.of(memberInfo));
 
         String roles = mapper.writeValueAsString(Collections.singletonList(Role.ROLE_USER));
         headers = new HttpHeaders();
@@ -120,7 +109,7 @@ class CartControllerTest {
                .andExpect(status().isCreated())
                .andExpect(jsonPath("$.success", equalTo(true)));
 
-        then(memberRepository).should(times(1)).findMemberInfoByUuid(uuid);
+        then(memberInfoCache).should(times(1)).get(uuid);
     }
 
     @Test
@@ -5,23 +5,28 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import com.nhnacademy.marketgg.server.service.ProductService;
 import java.io.FileInputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -64,7 +69,7 @@ class ProductAdminControllerTest {
         productResponse =
                 new ProductResponse(null, null, null, null, null, null, null, null, null, null,
                                     null, null, null,
-                                    null, null, null, null, null, null, null, null);
+                                    null, null, null, null, null, null);
     }
 
     @Test
@@ -110,6 +115,40 @@ class ProductAdminControllerTest {
         then(this.productService).should().retrieveProducts(any());
     }
 
+    @Test
+    @DisplayName("상품 목록 조회 시 페이지 번호나 크기가 범위를 벗어나면 실패하는 테스트")
+    void testRetrieveProductsWithInvalidPage() throws Exception {
+        this.mockMvc.perform(get(DEFAULT_PRODUCT).param("page", "0"))
+                    .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get(DEFAULT_PRODUCT).param("size", "1000000"))
+                    .andExpect(status().isBadRequest());
+
+        then(this.productService).should(never()).retrieveProducts(any());
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 테스트")
+    void testRetrieveProductsByCursor() throws Exception {
+        given(productService.retrieveProductsByCursor(any(CursorPageRequest.class)))
+            .willReturn(new SingleResponse<>(new CursorPage<>(List.of(), "next")));
+
+        this.mockMvc.perform(get(DEFAULT_PRODUCT).param("cursor", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.nextCursor").value("next"));
+
+        then(this.productService).should().retrieveProductsByCursor(any(CursorPageRequest.class));
+        then(this.productService).should(never()).retrieveProducts(any());
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 시 페이지 크기가 범위를 벗어나면 실패하는 테스트")
+    void testRetrieveProductsByCursorWithInvalidSize() throws Exception {
+        this.mockMvc.perform(get(DEFAULT_PRODUCT).param("cursor", "").param("size", "0"))
+                    .andExpect(status().isBadRequest());
+
+        then(this.productService).should(never()).retrieveProductsByCursor(any(CursorPageRequest.class));
+    }
+
     @Test
     @DisplayName("상품 상세 조회 테스트")
     void testRetrieveProductDetails() throws Exception {
@@ -121,6 +160,19 @@ class ProductAdminControllerTest {
         then(this.productService).should().retrieveProductDetails(anyLong());
     }
 
+    @Test
+    @DisplayName("상품 상세 정보 확장 조회 테스트")
+    void testRetrieveExpandedProductDetails() throws Exception {
+        given(productService.retrieveExpandedProductDetails(anyLong())).willReturn(new SingleResponse<>());
+
+        this.mockMvc.perform(get(DEFAULT_PRODUCT + "/1").param("expand", "true")
+                                                         .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+        then(this.productService).should().retrieveExpandedProductDetails(anyLong());
+        then(this.productService).should(never()).retrieveProductDetails(anyLong());
+    }
+
     @Test
     @DisplayName("상품 정보 수정하는 테스트")
     void testUpdateProduct() throws Exception {
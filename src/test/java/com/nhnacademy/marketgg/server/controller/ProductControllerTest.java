@@ -6,8 +6,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductSuggestRequest;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import com.nhnacademy.marketgg.server.service.ProductService;
+import com.nhnacademy.marketgg.server.service.ProductSuggestService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
@@ -15,6 +20,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -32,6 +38,9 @@ class ProductControllerTest {
     @MockBean
     ProductService productService;
 
+    @MockBean
+    ProductSuggestService productSuggestService;
+
     private static final String DEFAULT_PRODUCT = "/products";
 
     @Test
@@ -47,4 +56,76 @@ class ProductControllerTest {
         then(productService).should().searchProductByCategory(any(PageRequest.class), anyString());
     }
 
+    @Test
+    @DisplayName("키워드로 상품 검색 테스트")
+    void testSearchProducts() throws Exception {
+        this.mockMvc.perform(
+                    MockMvcRequestBuilders.get(DEFAULT_PRODUCT + "/search")
+                            .param("keyword", "자몽")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        then(productService).should().searchProducts(any(EsProductSearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 잘못된 상품 검색 시 실패 테스트")
+    void testSearchProductsWithInvalidSize() throws Exception {
+        this.mockMvc.perform(
+                    MockMvcRequestBuilders.get(DEFAULT_PRODUCT + "/search")
+                            .param("categoryCode", "100")
+                            .param("size", "0"))
+                    .andExpect(status().isBadRequest());
+
+        then(productService).should(never()).searchProducts(any(EsProductSearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("상품명 자동완성 테스트")
+    void testSuggestProducts() throws Exception {
+        this.mockMvc.perform(
+                    MockMvcRequestBuilders.get(DEFAULT_PRODUCT + "/suggest")
+                            .param("prefix", "자"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        then(productSuggestService).should().suggestProducts(any(ProductSuggestRequest.class));
+    }
+
+    @Test
+    @DisplayName("카테고리 분류로 DB 상품 목록 조회 테스트")
+    void testBrowseProducts() throws Exception {
+        given(productService.browseProducts(any(ProductBrowseRequest.class)))
+            .willReturn(new SingleResponse<>(Page.empty()));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(DEFAULT_PRODUCT + "/browse")
+                                                   .param("categorizationCode", "100")
+                                                   .param("sort", "PRICE_DESC"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        then(productService).should().browseProducts(any(ProductBrowseRequest.class));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 기준으로 DB 상품 목록 조회 시 실패 테스트")
+    void testBrowseProductsWithInvalidSort() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get(DEFAULT_PRODUCT + "/browse")
+                                                   .param("categoryCode", "101")
+                                                   .param("sort", "POPULAR"))
+                    .andExpect(status().isBadRequest());
+
+        then(productService).should(never()).browseProducts(any(ProductBrowseRequest.class));
+    }
+
+    @Test
+    @DisplayName("접두어 없이 상품명 자동완성 시 실패 테스트")
+    void testSuggestProductsWithoutPrefix() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get(DEFAULT_PRODUCT + "/suggest"))
+                    .andExpect(status().isBadRequest());
+
+        then(productSuggestService).should(never()).suggestProducts(any(ProductSuggestRequest.class));
+    }
+
 }
@@ -3,8 +3,10 @@ package com.nhnacademy.marketgg.server.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -14,11 +16,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.DefaultPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewUpdateRequest;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
 import com.nhnacademy.marketgg.server.entity.Asset;
+import com.nhnacademy.marketgg.server.repository.support.CountMode;
+import com.nhnacademy.marketgg.server.repository.support.CountingPageRequest;
 import com.nhnacademy.marketgg.server.service.ReviewService;
 import java.io.FileInputStream;
 import java.net.URL;
@@ -98,6 +103,31 @@ class ReviewControllerTest {
         then(reviewService).should().retrieveReviews(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("후기 전체 조회 시 페이지와 개수 방식을 지정하는 테스트")
+    void testRetrieveReviewsWithCountMode() throws Exception {
+        given(reviewService.retrieveReviews(any(Pageable.class))).willReturn(new SingleResponse<>());
+
+        this.mockMvc.perform(get("/products/{productId}/review", 1L).param("page", "2").param("count", "NONE"))
+                    .andExpect(status().isOk());
+
+        then(reviewService).should().retrieveReviews(CountingPageRequest.of(1, 10, CountMode.NONE));
+    }
+
+    @Test
+    @DisplayName("후기 커서 기반 조회 테스트")
+    void testRetrieveReviewsByCursor() throws Exception {
+        given(reviewService.retrieveReviewsByCursor(any(CursorPageRequest.class))).willReturn(new SingleResponse<>());
+
+        this.mockMvc.perform(get("/products/{productId}/review", 1L).param("cursor", "abc").param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        then(reviewService).should().retrieveReviewsByCursor(
+            argThat(request -> "abc".equals(request.getCursor()) && request.getSize() == 5));
+        then(reviewService).should(never()).retrieveReviews(any(Pageable.class));
+    }
+
     @Test
     @DisplayName("후기 상세 조회 테스트")
     void testRetrieveReviewDetails() throws Exception {
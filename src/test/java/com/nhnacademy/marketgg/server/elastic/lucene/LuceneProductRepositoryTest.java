@@ -0,0 +1,122 @@
+package com.nhnacademy.marketgg.server.elastic.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+class LuceneProductRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    LuceneProductRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StandardAnalyzer analyzer = new StandardAnalyzer();
+        repository = new LuceneProductRepository(
+            new LuceneIndex(directory, analyzer, Duration.ofSeconds(1L), Duration.ofMinutes(1L)),
+            analyzer, new ObjectMapper());
+
+        repository.saveAll(List.of(
+            new ElasticProduct(1L, "101", "제주 자몽", "아침에 자몽 주스", "새콤한 과일", "신상품", null, 5000L, 10L),
+            new ElasticProduct(2L, "101", "자몽청", "자몽 설탕 절임", "달콤함", "베스트", null, 12000L, 5L),
+            new ElasticProduct(3L, "102", "두부", "국산 콩", "자몽 샐러드에 어울리는", "신상품", null, 2000L, 50L)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("저장한 문서를 바로 id, 카테고리, 라벨로 조회")
+    void testFind() {
+        assertThat(repository.findById(2L)).get().extracting(ElasticProduct::getProductName).isEqualTo("자몽청");
+        assertThat(repository.count()).isEqualTo(3L);
+        assertThat(repository.findAllByCategoryCode(PageRequest.of(0, 1), "101"))
+            .extracting(ElasticProduct::getId).containsExactly(1L);
+        assertThat(repository.findAllByCategoryCode(PageRequest.of(0, 1), "101").getTotalElements()).isEqualTo(2L);
+        assertThat(repository.findAllByLabelName("신상품")).extracting(ElasticProduct::getId).containsExactly(1L, 3L);
+        assertThat(repository.findAll(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "price"))))
+            .extracting(ElasticProduct::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("문서를 교체하고 카테고리 단위로 삭제")
+    void testUpdateAndDelete() {
+        repository.save(new ElasticProduct(1L, "102", "레몬", null, null, null, null, 3000L, 1L));
+        assertThat(repository.count()).isEqualTo(3L);
+
+        repository.deleteAllByCategoryCode("102");
+        assertThat(repository.findAll()).extracting(ElasticProduct::getId).containsExactly(2L);
+
+        repository.deleteAllById(List.of(2L));
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("바뀐 필드만 덮어쓰고 색인에 없는 문서는 갱신하지 못한 것으로 반환")
+    void testUpdateFields() {
+        assertThat(repository.updateFields(Map.of(1L, Map.of("price", 4000L, "amount", 0L),
+                                                  9L, Map.of("price", 1L)))).containsExactly(9L);
+
+        ElasticProduct updated = repository.findById(1L).orElseThrow();
+        assertThat(updated.getPrice()).isEqualTo(4000L);
+        assertThat(updated.getAmount()).isZero();
+        assertThat(updated.getProductName()).isEqualTo("제주 자몽");
+        assertThat(repository.findAll(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "price"))))
+            .extracting(ElasticProduct::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("상품명, 설명, 내용 순의 가중치로 키워드 검색하고 커서로 다음 페이지 조회")
+    void testSearch() {
+        EsProductSearchRequest request = new EsProductSearchRequest();
+        request.setKeyword("자몽");
+        request.setSize(2);
+
+        SearchHits<ElasticProduct> first = repository.search(request);
+        assertThat(first.getTotalHits()).isEqualTo(3L);
+        assertThat(first.getSearchHits()).extracting(hit -> hit.getContent().getId()).containsExactly(1L, 3L);
+
+        SearchHit<ElasticProduct> last = first.getSearchHit(1);
+        request.setCursor(SearchAfterCursor.encode(last.getSortValues()));
+        assertThat(repository.search(request).getSearchHits())
+            .extracting(hit -> hit.getContent().getId()).containsExactly(2L);
+
+        EsProductSearchRequest filtered = new EsProductSearchRequest();
+        filtered.setKeyword("자몽");
+        filtered.setCategoryCode("101");
+        filtered.setMaxPrice(10000L);
+        assertThat(repository.search(filtered).getSearchHits())
+            .extracting(hit -> hit.getContent().getId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("상품명과 중간 단어의 접두어로 자동완성")
+    void testSuggest() {
+        assertThat(repository.suggest("자몽", 10)).extracting(ProductSuggestion::getId).containsExactly(1L, 2L);
+        assertThat(repository.suggest("두", 10)).extracting(ProductSuggestion::getId).containsExactly(3L);
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.nhnacademy.marketgg.server.elastic.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.nhnacademy.marketgg.server.cache.ProductSearchCache;
+import com.nhnacademy.marketgg.server.dummy.Dummy;
+import com.nhnacademy.marketgg.server.elastic.ElasticProductAssembler;
+import com.nhnacademy.marketgg.server.elastic.ProductIndexFields;
+import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
+import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.entity.ProductIndexOutbox;
+import com.nhnacademy.marketgg.server.repository.productindexoutbox.ProductIndexOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ProductIndexOutboxRelayTest {
+
+    ProductIndexOutboxRelay relay;
+    ProductIndexOutboxRepository outboxRepository;
+    ElasticProductAssembler assembler;
+    ElasticProductRepository elasticProductRepository;
+    ProductSearchCache productSearchCache;
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(ProductIndexOutboxRepository.class);
+        assembler = mock(ElasticProductAssembler.class);
+        elasticProductRepository = mock(ElasticProductRepository.class);
+        productSearchCache = mock(ProductSearchCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new ProductIndexOutboxRelay(outboxRepository, assembler, elasticProductRepository,
+                                            productSearchCache, mock(PlatformTransactionManager.class), 10,
+                                            Duration.ofSeconds(1L), Duration.ofMinutes(5L), 3,
+                                            Duration.ofMinutes(1L), meterRegistry);
+
+        given(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()).willReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("같은 상품의 변경은 한 번만 색인하고 삭제된 상품은 색인에서 제거")
+    void testRelay() {
+        ElasticProduct document = new ElasticProduct(Dummy.getDummyProduct(1L, 1L), null, null);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(outbox(1L, ProductIndexOutbox.index(1L)),
+                                outbox(2L, ProductIndexOutbox.index(2L)),
+                                outbox(3L, ProductIndexOutbox.index(1L)),
+                                outbox(4L, ProductIndexOutbox.delete(2L))));
+        given(assembler.assemble(Set.of(1L, 2L))).willReturn(List.of(document));
+
+        relay.relay();
+
+        then(elasticProductRepository).should().saveAll(List.of(document));
+        then(elasticProductRepository).should().deleteAllById(Set.of(2L));
+        then(outboxRepository).should().lease(eq(List.of(1L, 2L, 3L, 4L)), any(LocalDateTime.class));
+        then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        then(productSearchCache).should().invalidate(Set.of(1L, 2L), Set.of(document.getCategoryCode()));
+        assertThat(meterRegistry.get("gg.product-index.outbox.relayed").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("부분 갱신만 있는 상품은 바뀐 필드를 모아 부분 갱신하고, 전체 색인이 섞인 상품은 전체 색인")
+    void testRelayPartialUpdates() {
+        ElasticProduct first = new ElasticProduct(Dummy.getDummyProduct(1L, 1L), null, null);
+        ElasticProduct second = new ElasticProduct(Dummy.getDummyProduct(2L, 2L), null, null);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(outbox(1L, ProductIndexOutbox.update(1L, List.of("price"))),
+                                outbox(2L, ProductIndexOutbox.update(2L, List.of("price"))),
+                                outbox(3L, ProductIndexOutbox.update(1L, List.of("amount"))),
+                                outbox(4L, ProductIndexOutbox.index(2L))));
+        given(assembler.assemble(Set.of(1L, 2L))).willReturn(List.of(first, second));
+        given(elasticProductRepository.updateFields(anyMap())).willReturn(Set.of());
+
+        relay.relay();
+
+        then(elasticProductRepository).should().updateFields(
+            Map.of(1L, Map.of("price", first.getPrice(), "amount", first.getAmount())));
+        then(elasticProductRepository).should().saveAll(List.of(second));
+        then(elasticProductRepository).should(never()).deleteAllById(any());
+        assertThat(meterRegistry.get("gg.product-index.outbox.partial-updates").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("색인에 문서가 없어 부분 갱신하지 못한 상품은 문서 전체를 색인")
+    void testRelayPartialUpdateOfMissingDocument() {
+        ElasticProduct document = new ElasticProduct(Dummy.getDummyProduct(1L, 1L), null, null);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(outbox(1L, ProductIndexOutbox.update(1L, List.of("price")))));
+        given(assembler.assemble(Set.of(1L))).willReturn(List.of(document));
+        given(elasticProductRepository.updateFields(anyMap())).willReturn(Set.of(1L));
+
+        relay.relay();
+
+        then(elasticProductRepository).should().saveAll(List.of(document));
+        then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L));
+        assertThat(meterRegistry.get("gg.product-index.outbox.partial-updates").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("인기도만 바뀐 상품은 검색 결과 캐시를 제거하지 않음")
+    void testRelayPopularityKeepsSearchCache() {
+        ElasticProduct first = new ElasticProduct(Dummy.getDummyProduct(1L, 1L), null, null);
+        ElasticProduct second = new ElasticProduct(Dummy.getDummyProduct(2L, 2L), null, null);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(outbox(1L, ProductIndexOutbox.update(1L, List.copyOf(ProductIndexFields.POPULARITY))),
+                                outbox(2L, ProductIndexOutbox.update(2L, List.of(ProductIndexFields.VIEW_COUNT))),
+                                outbox(3L, ProductIndexOutbox.update(2L, List.of(ProductIndexFields.PRICE)))));
+        given(assembler.assemble(Set.of(1L, 2L))).willReturn(List.of(first, second));
+        given(elasticProductRepository.updateFields(anyMap())).willReturn(Set.of());
+
+        relay.relay();
+
+        then(productSearchCache).should().invalidate(Set.of(2L), Set.of(second.getCategoryCode()));
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 반영에 실패하면 레코드를 남기고 다음 시도를 미룸")
+    void testPostponeOnFailure() {
+        ElasticProduct document = new ElasticProduct(Dummy.getDummyProduct(1L, 1L), null, null);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(outbox(1L, ProductIndexOutbox.index(1L))));
+        given(assembler.assemble(Set.of(1L))).willReturn(List.of(document));
+        given(elasticProductRepository.saveAll(anyIterable())).willThrow(new IllegalStateException("bulk"));
+
+        relay.relay();
+
+        then(outboxRepository).should(never()).deleteAllByIdInBatch(any());
+        then(productSearchCache).should(never()).invalidate(any(), any());
+        then(outboxRepository).should().postpone(any(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("gg.product-index.outbox.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("묶음 반영에 실패하면 상품별로 다시 반영하여 실패한 상품의 레코드만 남김")
+    void testRetryEachProductOnBatchFailure() {
+        ElasticProduct healthy = new ElasticProduct(Dummy.getDummyProduct(1L, 1L), null, null);
+        ElasticProduct broken = new ElasticProduct(Dummy.getDummyProduct(2L, 2L), null, null);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(outbox(1L, ProductIndexOutbox.index(2L)),
+                                outbox(2L, ProductIndexOutbox.index(1L))));
+        given(assembler.assemble(Set.of(1L, 2L))).willReturn(List.of(broken, healthy));
+        given(assembler.assemble(Set.of(2L))).willReturn(List.of(broken));
+        given(assembler.assemble(Set.of(1L))).willReturn(List.of(healthy));
+        given(elasticProductRepository.saveAll(anyIterable())).willAnswer(invocation -> {
+            Iterable<ElasticProduct> documents = invocation.getArgument(0);
+            documents.forEach(document -> {
+                if (document.getId().equals(2L)) {
+                    throw new IllegalStateException("mapper_parsing_exception");
+                }
+            });
+            return documents;
+        });
+
+        relay.relay();
+
+        then(outboxRepository).should().deleteAllByIdInBatch(List.of(2L));
+        then(outboxRepository).should().postpone(eq(List.of(1L)), any(LocalDateTime.class));
+        then(productSearchCache).should().invalidate(Set.of(1L), Set.of(healthy.getCategoryCode()));
+        assertThat(meterRegistry.get("gg.product-index.outbox.relayed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 레코드는 보류")
+    void testParkAfterMaxAttempts() {
+        ProductIndexOutbox failing = outbox(1L, ProductIndexOutbox.index(1L));
+        ReflectionTestUtils.setField(failing, "attempts", 2);
+
+        given(outboxRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(failing));
+        given(assembler.assemble(Set.of(1L))).willThrow(new IllegalStateException("mapper_parsing_exception"));
+
+        relay.relay();
+
+        then(outboxRepository).should().park(eq(List.of(1L)), any(LocalDateTime.class),
+                                             eq("mapper_parsing_exception"));
+        then(outboxRepository).should(never()).postpone(any(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("gg.product-index.outbox.parked").counter().count()).isEqualTo(1.0);
+    }
+
+    private static ProductIndexOutbox outbox(final Long id, final ProductIndexOutbox outbox) {
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.marketgg.server.elastic.suggest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductNameIndexTest {
+
+    ProductNameIndex index;
+    ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        index = new ProductNameIndex(productRepository, new SimpleMeterRegistry());
+
+        given(productRepository.findSuggestions())
+            .willReturn(List.of(new ProductSuggestion(1L, "제주 자몽 1kg"),
+                                new ProductSuggestion(2L, "자몽청"),
+                                new ProductSuggestion(3L, "Apple Mango")));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("상품명이나 중간 단어가 접두어로 시작하는 상품을 한 번씩만 반환")
+    void testSuggest() {
+        assertThat(index.suggest("자몽", 10)).extracting(ProductSuggestion::getId).containsExactly(1L, 2L);
+        assertThat(index.suggest("  apple  m", 10)).extracting(ProductSuggestion::getId).containsExactly(3L);
+        assertThat(index.suggest("자몽", 1)).hasSize(1);
+        assertThat(index.suggest("바나나", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품명 변경과 삭제를 바로 반영")
+    void testPutAndRemove() {
+        index.put(2L, "레몬청");
+        index.remove(1L);
+
+        assertThat(index.suggest("자몽", 10)).isEmpty();
+        assertThat(index.suggest("레몬", 10)).extracting(ProductSuggestion::getId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성 중에 반영한 변경을 새 색인에 다시 적용")
+    void testChangesDuringRebuild() {
+        given(productRepository.findSuggestions()).willAnswer(invocation -> {
+            index.remove(1L);
+            index.put(4L, "자몽 주스");
+            return List.of(new ProductSuggestion(1L, "제주 자몽 1kg"), new ProductSuggestion(2L, "자몽청"));
+        });
+
+        index.rebuild();
+
+        assertThat(index.suggest("자몽", 10)).extracting(ProductSuggestion::getId).containsExactly(4L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.nhnacademy.marketgg.server.popularity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductPopularityCounterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProductPopularityCounter counter;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO categorizations (categorization_code, name, alias) VALUES ('100', '상품', 'p')");
+        jdbcTemplate.update("INSERT INTO categories (category_code, categorization_code, name, sequence) "
+                                + "VALUES ('101', '100', '과일', 1)");
+        // 인기도 컬럼이 추가되기 전에 등록되어 값이 비어 있는 상품입니다.
+        jdbcTemplate.update("INSERT INTO products (category_code, name, price, total_stock, view_count, cart_count, "
+                                + "created_at) VALUES ('101', '자몽', 1000, 10, NULL, NULL, ?)", LocalDateTime.now());
+        productId = jdbcTemplate.queryForObject("SELECT product_no FROM products", Long.class);
+
+        counter = new ProductPopularityCounter(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("product_index_outbox", "products", "categories", "categorizations")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 센 조회 수와 장바구니 수를 한 번에 더하고 검색 문서 부분 갱신을 기록")
+    void testFlush() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 250; j++) {
+                    counter.recordView(productId);
+                }
+                counter.recordCartAdd(productId);
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        LocalDateTime beforeFlush = LocalDateTime.now().minusSeconds(1L);
+        assertThat(counter.flush()).isEqualTo(1);
+        assertThat(counts()).containsEntry("VIEW_COUNT", 1000L).containsEntry("CART_COUNT", 4L);
+        assertThat(jdbcTemplate.queryForObject("SELECT updated_at FROM products WHERE product_no = ?",
+                                               LocalDateTime.class, productId))
+            .isAfter(beforeFlush);
+        assertThat(jdbcTemplate.queryForList("SELECT changed_fields FROM product_index_outbox", String.class))
+            .containsExactly("viewCount,cartCount");
+
+        assertThat(counter.flush()).isZero();
+
+        counter.recordView(productId);
+        assertThat(counter.flush()).isEqualTo(1);
+        assertThat(counts()).containsEntry("VIEW_COUNT", 1001L).containsEntry("CART_COUNT", 4L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 집계는 다음 주기에 같은 값으로 다시 반영")
+    void testRetryAfterFailedFlush() {
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        willThrow(new QueryTimeoutException("timeout")).willReturn(new int[] { 1 })
+            .given(failing).batchUpdate(anyString(), anyList());
+        ProductPopularityCounter retrying =
+            new ProductPopularityCounter(failing, transactionManager, new SimpleMeterRegistry());
+
+        retrying.recordView(1L);
+        retrying.recordView(1L);
+        retrying.scheduledFlush();
+        retrying.recordCartAdd(1L);
+
+        assertThat(retrying.flush()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        then(failing).should(times(3)).batchUpdate(anyString(), updates.capture());
+        Object[] failed = updates.getAllValues().get(0).get(0);
+        Object[] retried = updates.getAllValues().get(1).get(0);
+        assertThat(failed).hasSize(4).startsWith(2L, 0L).endsWith(1L);
+        assertThat(retried).hasSize(4).startsWith(2L, 1L).endsWith(1L);
+    }
+
+    private Map<String, Object> counts() {
+        return jdbcTemplate.queryForMap("SELECT view_count, cart_count FROM products WHERE product_no = ?",
+                                        productId);
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.nhnacademy.marketgg.server.productimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.elastic.suggest.ProductNameIndex;
+import com.nhnacademy.marketgg.server.entity.ProductImportError;
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import com.nhnacademy.marketgg.server.repository.productimporterror.ProductImportErrorRepository;
+import com.nhnacademy.marketgg.server.repository.productimportjob.ProductImportJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductImporterTest {
+
+    private static final String HEADER =
+        "categoryCode,name,content,totalStock,price,description,expirationDate,labelNo,image\n";
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductImportJobRepository jobRepository;
+
+    @Autowired
+    private ProductImportErrorRepository errorRepository;
+
+    private ProductImporter importer;
+    private Long labelNo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jdbcTemplate.update("INSERT INTO categorizations (categorization_code, name, alias) VALUES ('100', '상품', 'p')");
+        jdbcTemplate.update("INSERT INTO categories (category_code, categorization_code, name, sequence) "
+                                + "VALUES ('101', '100', '과일', 1)");
+        jdbcTemplate.update("INSERT INTO labels (name) VALUES ('신상품')");
+        labelNo = jdbcTemplate.queryForObject("SELECT label_no FROM labels WHERE name = '신상품'", Long.class);
+
+        Path images = Files.createDirectory(directory.resolve("images"));
+        importer = new ProductImporter(jdbcTemplate, jobRepository, errorRepository, mock(ProductNameIndex.class),
+                                       new ObjectMapper(), transactionManager, 2, 10, 200, images.toString(),
+                                       new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("product_index_outbox", "product_labels", "products", "images", "assets",
+                                    "product_import_errors", "product_import_jobs", "labels", "categories",
+                                    "categorizations")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 를 묶음 단위로 등록하고 잘못된 행은 행 번호와 함께 오류로 남김")
+    void testImportCsv() throws IOException {
+        Path data = write("products.csv", HEADER
+            + "101,자몽,\"아침에, 자몽\n주스\",10,5000,,2022-12-31," + labelNo + ",fruit/grapefruit.png\n"
+            + "999,없는 카테고리,,1,100,,,,\n"
+            + "101,레몬,,1,abc,,,,\n"
+            + "\n"
+            + "101,라임,,3,1500,\"\"\"새콤\"\"\",,,fruit/grapefruit.png\n"
+            + "101,사과,,5,3000,,,,\n");
+        Path archive = zip("fruit/grapefruit.png");
+
+        ProductImportJob job = run(ProductImportJob.Format.CSV, data, archive);
+
+        assertThat(job.getStatus()).isEqualTo(ProductImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedCount()).isEqualTo(5L);
+        assertThat(job.getImportedCount()).isEqualTo(3L);
+        assertThat(job.getFailedCount()).isEqualTo(2L);
+        assertThat(job.getReadBytes()).isEqualTo(Files.size(data));
+        assertThat(errors(job)).extracting(ProductImportError::getRowNumber).containsExactly(2L, 3L);
+        assertThat(errors(job)).extracting(ProductImportError::getMessage)
+                               .containsExactly("없는 카테고리입니다: 999", "price 값이 숫자가 아닙니다: abc");
+
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM products ORDER BY product_no", String.class))
+            .containsExactly("자몽", "라임", "사과");
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM products WHERE name = '자몽'", String.class))
+            .isEqualTo("아침에, 자몽\n주스");
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM products WHERE name = '라임'",
+                                               String.class)).isEqualTo("\"새콤\"");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_labels", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_index_outbox", Long.class))
+            .isEqualTo(3L);
+
+        List<String> addresses = jdbcTemplate.queryForList(
+            "SELECT image_address FROM images WHERE image_sequence = 1", String.class);
+        assertThat(addresses).hasSize(2).containsOnly(addresses.get(0));
+        assertThat(Path.of(addresses.get(0))).exists();
+    }
+
+    @Test
+    @DisplayName("CSV 의 닫히지 않은 따옴표는 최대 길이에서 그 줄을 실패로 처리하고 다음 줄부터 계속 등록")
+    void testImportCsvWithStrayQuote() throws IOException {
+        Path data = write("products.csv", HEADER
+            + "101,자몽,\"아침에 자몽,10,5000,,,,\n"
+            + "x".repeat(300) + "\n"
+            + "101,레몬,,1,100,,,,\n");
+
+        ProductImportJob job = run(ProductImportJob.Format.CSV, data, null);
+
+        assertThat(job.getStatus()).isEqualTo(ProductImportJob.Status.COMPLETED);
+        assertThat(job.getImportedCount()).isEqualTo(1L);
+        assertThat(errors(job)).extracting(ProductImportError::getMessage)
+                               .containsExactly("행이 최대 길이 200자를 넘었습니다.");
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM products", String.class)).containsExactly("레몬");
+    }
+
+    @Test
+    @DisplayName("NDJSON 의 잘못된 줄과 압축 파일에 없는 이미지는 오류로 남기고 다음 줄부터 계속 등록")
+    void testImportNdjson() throws IOException {
+        Path data = write("products.ndjson",
+                          "{\"categoryCode\":\"101\",\"name\":\"자몽\",\"totalStock\":10,\"price\":5000}\n"
+                              + "{\"categoryCode\":\"101\",\n"
+                              + "{\"categoryCode\":\"101\",\"name\":\"레몬\",\"totalStock\":1,\"price\":100,"
+                              + "\"image\":\"missing.png\"}\n"
+                              + "{\"categoryCode\":\"101\",\"name\":\"라임\",\"totalStock\":3,\"price\":1500}\n");
+
+        ProductImportJob job = run(ProductImportJob.Format.NDJSON, data, null);
+
+        assertThat(job.getImportedCount()).isEqualTo(2L);
+        assertThat(errors(job)).extracting(ProductImportError::getRowNumber).containsExactly(2L, 3L);
+        assertThat(errors(job).get(0).getMessage()).startsWith("JSON 형식이 잘못되었습니다");
+        assertThat(errors(job).get(1).getMessage()).isEqualTo("이미지 압축 파일에 없는 이미지입니다: missing.png");
+    }
+
+    @Test
+    @DisplayName("묶음 저장에 실패하면 한 행씩 다시 저장해 실패한 행만 오류로 남김")
+    void testRetryRowsOfFailedBatch() throws IOException {
+        Path data = write("products.csv", HEADER
+            + "101,자몽,,10,5000,,,,\n"
+            + "101," + "가".repeat(300) + ",,1,100,,,,\n");
+
+        ProductImportJob job = run(ProductImportJob.Format.CSV, data, null);
+
+        assertThat(job.getStatus()).isEqualTo(ProductImportJob.Status.COMPLETED);
+        assertThat(job.getImportedCount()).isEqualTo(1L);
+        assertThat(errors(job)).extracting(ProductImportError::getRowNumber).containsExactly(2L);
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM products", String.class)).containsExactly("자몽");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM assets", Long.class)).isEqualTo(1L);
+    }
+
+    private ProductImportJob run(final ProductImportJob.Format format, final Path data, final Path archive)
+        throws IOException {
+
+        ProductImportJob job = jobRepository.save(ProductImportJob.start(data.getFileName().toString(), format,
+                                                                         Files.size(data)));
+        importer.importProducts(job, data, archive);
+
+        return jobRepository.findById(job.getId()).orElseThrow();
+    }
+
+    private List<ProductImportError> errors(final ProductImportJob job) {
+        return errorRepository.findAllByJobIdOrderByRowNumberAsc(job.getId(), PageRequest.of(0, 10));
+    }
+
+    private Path write(final String name, final String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private Path zip(final String entry) throws IOException {
+        Path archive = directory.resolve("images.zip");
+        try (OutputStream out = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry(entry));
+            zip.write(new byte[] { 1, 2, 3 });
+            zip.closeEntry();
+        }
+
+        return archive;
+    }
+
+}
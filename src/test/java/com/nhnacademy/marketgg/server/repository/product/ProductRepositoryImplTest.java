@@ -6,25 +6,46 @@ import static org.mockito.ArgumentMatchers.any;
 
 import com.nhnacademy.marketgg.server.dto.request.CategorizationCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.CategoryCreateRequest;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
+import com.nhnacademy.marketgg.server.dto.request.LabelCreateRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductCreateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
+import com.nhnacademy.marketgg.server.dto.response.ProductDetailResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
 import com.nhnacademy.marketgg.server.entity.Asset;
 import com.nhnacademy.marketgg.server.entity.Categorization;
 import com.nhnacademy.marketgg.server.entity.Category;
+import com.nhnacademy.marketgg.server.entity.Image;
+import com.nhnacademy.marketgg.server.entity.Label;
 import com.nhnacademy.marketgg.server.entity.Product;
+import com.nhnacademy.marketgg.server.entity.ProductLabel;
 import com.nhnacademy.marketgg.server.repository.asset.AssetRepository;
 import com.nhnacademy.marketgg.server.repository.categorization.CategorizationRepository;
 import com.nhnacademy.marketgg.server.repository.category.CategoryRepository;
+import com.nhnacademy.marketgg.server.repository.image.ImageRepository;
+import com.nhnacademy.marketgg.server.repository.label.LabelRepository;
+import com.nhnacademy.marketgg.server.repository.productlabel.ProductLabelRepository;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ProductRepositoryImplTest {
 
     @Autowired
@@ -39,6 +60,18 @@ class ProductRepositoryImplTest {
     @Autowired
     private AssetRepository assetRepository;
 
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private ProductLabelRepository productLabelRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Product product;
     private ProductCreateRequest productRequest;
     private Asset asset;
@@ -98,6 +131,29 @@ class ProductRepositoryImplTest {
         assertThat(productRepository.findAllProducts(PageRequest.of(0,10))).hasSize(10);
     }
 
+    @Test
+    @DisplayName("커서로 상품 목록을 최신순으로 끝까지 조회하는지 테스트")
+    void testFindAllProductsAfter() {
+        List<Long> ids = IntStream.rangeClosed(1, 5)
+                                  .mapToObj(i -> productRepository.save(
+                                      new Product(productRequest, assetRepository.save(Asset.create()), category)))
+                                  .map(Product::getId)
+                                  .collect(Collectors.toList());
+        Collections.reverse(ids);
+
+        List<Long> visited = new ArrayList<>();
+        CursorPageRequest pageRequest = new CursorPageRequest(null, 2);
+        CursorPage<ProductResponse> page;
+        do {
+            page = productRepository.findAllProductsAfter(pageRequest.getLastId(), pageRequest.getSize());
+            page.getContent().forEach(response -> visited.add(response.getId()));
+            pageRequest = new CursorPageRequest(page.getNextCursor(), 2);
+        } while (Objects.nonNull(page.getNextCursor()));
+
+        assertThat(visited).containsExactlyElementsOf(ids);
+        assertThat(page.getContent()).hasSize(1);
+    }
+
     @Test
     @DisplayName("아이디로 상품을 찾을 수 있는지 테스트")
     void testQueryById() {
@@ -107,6 +163,65 @@ class ProductRepositoryImplTest {
         assertThat(productRepository.queryById(product.getId()).getName()).isEqualTo(product.getName());
     }
 
+    @Test
+    @DisplayName("상품 조회가 연관 엔티티 없이 한 번의 쿼리로 끝나는지 테스트")
+    void testQueryByIdWithoutAssociations() {
+        product = productRepository.save(new Product(productRequest, asset, category));
+        Statistics statistics = clearAndGetStatistics();
+
+        ProductResponse response = productRepository.queryById(product.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(response.getAssetNo()).isEqualTo(asset.getId());
+        assertThat(response.getCategoryCode()).isEqualTo("001");
+        assertThat(response.getCategoryName()).isEqualTo("채소");
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회가 목록과 개수 두 번의 쿼리로 끝나는지 테스트")
+    void testFindAllProductsWithoutAssociations() {
+        IntStream.rangeClosed(1, 10)
+                 .forEach(i -> productRepository.save(new Product(productRequest, assetRepository.save(Asset.create()), category)));
+        Statistics statistics = clearAndGetStatistics();
+
+        assertThat(productRepository.findAllProducts(PageRequest.of(0, 5))).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("상품 상세 정보에 카테고리 분류, 이미지, 라벨이 함께 조회되는지 테스트")
+    void testQueryDetailsById() {
+        product = productRepository.save(new Product(productRequest, asset, category));
+
+        Image second = new Image(asset, "second.png");
+        second.setImageSequence(2);
+        Image first = new Image(asset, "first.png");
+        first.setImageSequence(1);
+        imageRepository.saveAll(List.of(second, first));
+
+        LabelCreateRequest labelRequest = new LabelCreateRequest();
+        ReflectionTestUtils.setField(labelRequest, "name", "신상품");
+        Label label = labelRepository.save(new Label(labelRequest));
+        productLabelRepository.save(
+            new ProductLabel(new ProductLabel.Pk(product.getId(), label.getId()), product, label));
+
+        Statistics statistics = clearAndGetStatistics();
+        ProductDetailResponse details = productRepository.queryDetailsById(product.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(details.getProduct().getName()).isEqualTo("자몽");
+        assertThat(details.getCategorizationCode()).isEqualTo("100");
+        assertThat(details.getCategorizationName()).isEqualTo("상품");
+        assertThat(details.getImageAddresses()).containsExactly("first.png", "second.png");
+        assertThat(details.getLabelNames()).containsExactly("신상품");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 상세 정보는 null 을 반환하는지 테스트")
+    void testQueryDetailsByIdNotFound() {
+        assertThat(productRepository.queryDetailsById(Long.MAX_VALUE)).isNull();
+    }
+
     @Test
     @DisplayName("상품 이름에 특정 문자가 들어간 경우, 해당 상품을 찾을 수 있는지 테스트")
     void testFindByNameContaining() {
@@ -127,4 +242,75 @@ class ProductRepositoryImplTest {
 
         assertThat(productRepository.findByCategoryCode("001")).hasSize(10);
     }
+
+    @Test
+    @DisplayName("여러 카테고리의 삭제되지 않은 상품을 가격순으로 페이지 단위로 조회하는지 테스트")
+    void testFindLiveProductsByCategories() {
+        CategoryCreateRequest categoryRequest = new CategoryCreateRequest();
+        ReflectionTestUtils.setField(categoryRequest, "categoryCode", "002");
+        ReflectionTestUtils.setField(categoryRequest, "categorizationCode", "100");
+        ReflectionTestUtils.setField(categoryRequest, "name", "과일");
+        ReflectionTestUtils.setField(categoryRequest, "sequence", 2);
+        Category fruit = categoryRepository.save(new Category(categoryRequest, categorization));
+
+        Long cheap = saveProduct(category, 1000L).getId();
+        Long middle = saveProduct(fruit, 2000L).getId();
+        Long expensive = saveProduct(category, 3000L).getId();
+        Product deleted = saveProduct(category, 500L);
+        deleted.deleteProduct();
+        productRepository.save(deleted);
+
+        Page<ProductResponse> ascending =
+            productRepository.findLiveProductsByCategories(List.of("001", "002"), ProductBrowseRequest.Sort.PRICE_ASC,
+                                                           PageRequest.of(0, 2));
+        Page<ProductResponse> descending =
+            productRepository.findLiveProductsByCategories(List.of("001", "002"), ProductBrowseRequest.Sort.PRICE_DESC,
+                                                           PageRequest.of(0, 3));
+        Page<ProductResponse> latest =
+            productRepository.findLiveProductsByCategories(List.of("001"), ProductBrowseRequest.Sort.LATEST,
+                                                           PageRequest.of(0, 3));
+
+        assertThat(ascending.getTotalElements()).isEqualTo(3L);
+        assertThat(ascending.getContent()).extracting(ProductResponse::getId).containsExactly(cheap, middle);
+        assertThat(descending.getContent()).extracting(ProductResponse::getId)
+                                           .containsExactly(expensive, middle, cheap);
+        assertThat(latest.getContent()).extracting(ProductResponse::getId).containsOnly(cheap, expensive);
+        assertThat(productRepository.findLiveProductsByCategories(List.of(), ProductBrowseRequest.Sort.LATEST,
+                                                                  PageRequest.of(0, 3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 상품의 이름만 자동완성 대상으로 조회하는지 테스트")
+    void testFindSuggestions() {
+        Product live = productRepository.save(new Product(productRequest, asset, category));
+        Product deleted = new Product(productRequest, asset, category);
+        deleted.deleteProduct();
+        productRepository.save(deleted);
+
+        assertThat(productRepository.findSuggestions())
+            .singleElement()
+            .satisfies(suggestion -> {
+                assertThat(suggestion.getId()).isEqualTo(live.getId());
+                assertThat(suggestion.getProductName()).isEqualTo("자몽");
+            });
+    }
+
+    private Product saveProduct(final Category category, final Long price) {
+        ReflectionTestUtils.setField(productRequest, "price", price);
+
+        return productRepository.save(new Product(productRequest, assetRepository.save(Asset.create()), category));
+    }
+
+    private Statistics clearAndGetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                                             .unwrap(SessionFactory.class)
+                                             .getStatistics();
+        statistics.clear();
+
+        return statistics;
+    }
+
 }
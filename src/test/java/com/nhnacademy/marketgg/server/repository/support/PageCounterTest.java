@@ -0,0 +1,145 @@
+package com.nhnacademy.marketgg.server.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.server.entity.Asset;
+import com.nhnacademy.marketgg.server.entity.QAsset;
+import com.nhnacademy.marketgg.server.repository.asset.AssetRepository;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PageCounterTest {
+
+    private static final String TABLE = "assets";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+    private Supplier<JPQLQuery<Long>> query;
+
+    @BeforeEach
+    void setUp() {
+        saveAssets(5);
+
+        QAsset asset = QAsset.asset;
+        query = () -> new JPAQuery<>(entityManager).select(asset.id).from(asset).orderBy(asset.id.asc());
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("정확한 개수는 페이지마다 COUNT 쿼리를 실행")
+    void testExact() {
+        PageCounter pageCounter = pageCounter(CountMode.EXACT, Duration.ofMinutes(1));
+
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null).getTotalElements()).isEqualTo(5);
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(1, 2), TABLE, null).getTotalElements()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("캐시한 개수는 같은 조건의 다음 페이지에서 COUNT 쿼리를 생략")
+    void testCached() {
+        PageCounter pageCounter = pageCounter(CountMode.CACHED, Duration.ofMinutes(1));
+
+        pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null);
+        Page<Long> page = pageCounter.fetchPage(query, PageRequest.of(1, 2), TABLE, null);
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("캐시한 개수가 오래되면 이전 값을 반환하고 갱신")
+    void testCachedRefresh() {
+        PageCounter pageCounter = pageCounter(CountMode.CACHED, Duration.ofNanos(1));
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null).getTotalElements()).isEqualTo(5);
+
+        saveAssets(2);
+
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null).getTotalElements()).isEqualTo(5);
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null).getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("조건이 다르면 개수를 따로 캐시")
+    void testCachedPerFilter() {
+        PageCounter pageCounter = pageCounter(CountMode.CACHED, Duration.ofMinutes(1));
+        QAsset asset = QAsset.asset;
+        Long thirdId = query.get().offset(2).limit(1).fetchOne();
+        Supplier<JPQLQuery<Long>> filtered = () -> query.get().where(asset.id.goe(thirdId));
+
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null).getTotalElements()).isEqualTo(5);
+        assertThat(pageCounter.fetchPage(filtered, PageRequest.of(0, 2), TABLE, "id>=" + thirdId)
+                              .getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("테이블 통계를 읽을 수 없으면 정확한 개수를 사용")
+    void testApproximateFallback() {
+        PageCounter pageCounter = pageCounter(CountMode.APPROXIMATE, Duration.ofMinutes(1));
+
+        assertThat(pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null).getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("개수를 세지 않으면 한 건을 더 조회해 다음 페이지 여부만 판단")
+    void testNone() {
+        PageCounter pageCounter = pageCounter(CountMode.EXACT, Duration.ofMinutes(1));
+
+        Page<Long> first = pageCounter.fetchPage(query, CountingPageRequest.of(0, 2, CountMode.NONE), TABLE, null);
+        Page<Long> last = pageCounter.fetchPage(query, CountingPageRequest.of(2, 2, CountMode.NONE), TABLE, null);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.getTotalElements()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("빈으로 등록된 인스턴스가 없을 때는 항상 정확한 개수를 사용")
+    void testExactFallback() {
+        PageCounter pageCounter = PageCounter.exact();
+
+        pageCounter.fetchPage(query, PageRequest.of(0, 2), TABLE, null);
+        pageCounter.fetchPage(query, PageRequest.of(1, 2), TABLE, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+    }
+
+    private PageCounter pageCounter(final CountMode defaultMode, final Duration refresh) {
+        return new PageCounter(new JdbcTemplate(dataSource), defaultMode, 100L, refresh, Duration.ofMinutes(10),
+                               Runnable::run);
+    }
+
+    private void saveAssets(final int count) {
+        IntStream.range(0, count).forEach(i -> assetRepository.save(Asset.create()));
+        entityManager.flush();
+    }
+
+}
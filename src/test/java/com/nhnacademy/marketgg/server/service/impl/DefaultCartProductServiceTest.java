@@ -20,7 +20,9 @@ import com.nhnacademy.marketgg.server.entity.CartProduct;
 import com.nhnacademy.marketgg.server.entity.Product;
 import com.nhnacademy.marketgg.server.exception.cart.CartNotFoundException;
 import com.nhnacademy.marketgg.server.exception.product.ProductNotFoundException;
+import com.nhnacademy.marketgg.server.popularity.ProductPopularityCounter;
 import com.nhnacademy.marketgg.server.repository.cart.CartProductRepository;
+import com.nhnacademy.marketgg.server.repository.cart.CartRepository;
 import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,12 +43,18 @@ class DefaultCartProductServiceTest {
     @InjectMocks
     DefaultCartProductService cartProductService;
 
+    @Mock
+    CartRepository cartRepository;
+
     @Mock
     CartProductRepository cartProductRepository;
 
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    ProductPopularityCounter popularityCounter;
+
     Long productId = 1L;
     Long memberId = 1L;
     Long cartId = 1L;
@@ -60,12 +68,14 @@ class DefaultCartProductServiceTest {
         Cart cart = Dummy.getDummyCart(cartId);
         MemberInfo member = Dummy.getDummyMemberInfo(memberId, cart);
 
+        given(cartRepository.getReferenceById(cartId)).willReturn(cart);
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
 
         cartProductService.addProduct(member, productAddRequest);
 
         then(productRepository).should(times(1)).findById(productId);
         then(cartProductRepository).should(times(1)).save(any(CartProduct.class));
+        then(popularityCounter).should(times(1)).recordCartAdd(productId);
     }
 
     @Test
@@ -2,10 +2,13 @@ package com.nhnacademy.marketgg.server.service.impl;
 
 import com.nhnacademy.marketgg.server.dto.request.CategorizationCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.CategoryCreateRequest;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.MemberCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.PostRequest;
 import com.nhnacademy.marketgg.server.dto.response.CommentResponse;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.PostResponseForOtoInquiry;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
 import com.nhnacademy.marketgg.server.elastic.document.ElasticBoard;
 import com.nhnacademy.marketgg.server.elastic.repository.ElasticBoardRepository;
 import com.nhnacademy.marketgg.server.entity.Cart;
@@ -33,6 +36,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -115,6 +120,37 @@ public class DefaultCustomerServicePostServiceTest {
         then(postRepository).should().findPostsByCategoryId(any(Pageable.class), anyString());
     }
 
+    @Test
+    @DisplayName("1:1 문의 목록 커서 기반 조회")
+    void testRetrieveOtoInquiriesByCursor() {
+        PostResponseForOtoInquiry otoInquiry = new PostResponseForOtoInquiry();
+        ReflectionTestUtils.setField(otoInquiry, "id", 3L);
+        String cursor = SearchAfterCursor.encode(List.of(4L));
+
+        given(categoryRepository.retrieveCategoryIdByName(anyString())).willReturn("702");
+        given(postRepository.findPostsByCategoryIdAfter("702", 4L, 1))
+                .willReturn(new CursorPage<>(List.of(otoInquiry), "next"));
+        given(commentRepository.findByInquiryId(3L)).willReturn(List.of());
+
+        CursorPage<PostResponseForOtoInquiry> result =
+                postService.retrieveOtoInquiriesByCursor(new CursorPageRequest(cursor, 1));
+
+        assertThat(result.getNextCursor()).isEqualTo("next");
+        assertThat(result.getContent()).singleElement()
+                                       .satisfies(inquiry -> assertThat(inquiry.getCommentList()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 1:1 문의 목록 조회 시 실패")
+    void testRetrieveOtoInquiriesByCursorWithInvalidCursor() {
+        given(categoryRepository.retrieveCategoryIdByName(anyString())).willReturn("702");
+
+        CursorPageRequest pageRequest = new CursorPageRequest("not-a-cursor", 10);
+
+        assertThatThrownBy(() -> postService.retrieveOtoInquiriesByCursor(pageRequest))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("특정 회원의 1:1 문의 목록 조회")
     void testRetrieveOwnOtoInquiries() {
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.nhnacademy.marketgg.server.auth.MemberInfoCache;
 import com.nhnacademy.marketgg.server.dto.request.MemberCreateRequest;
 import com.nhnacademy.marketgg.server.dto.response.MemberResponse;
 import com.nhnacademy.marketgg.server.entity.Cart;
@@ -38,6 +39,9 @@ class DefaultMemberServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    MemberInfoCache memberInfoCache;
+
     private Member member;
     private Member noPassMember;
 
@@ -0,0 +1,114 @@
+package com.nhnacademy.marketgg.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductImportResponse;
+import com.nhnacademy.marketgg.server.entity.ProductImportError;
+import com.nhnacademy.marketgg.server.entity.ProductImportJob;
+import com.nhnacademy.marketgg.server.exception.productimportjob.ProductImportJobNotFoundException;
+import com.nhnacademy.marketgg.server.productimport.ProductImporter;
+import com.nhnacademy.marketgg.server.repository.productimporterror.ProductImportErrorRepository;
+import com.nhnacademy.marketgg.server.repository.productimportjob.ProductImportJobRepository;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultProductImportServiceTest {
+
+    DefaultProductImportService productImportService;
+
+    @Mock
+    ProductImportJobRepository jobRepository;
+    @Mock
+    ProductImportErrorRepository errorRepository;
+    @Mock
+    ProductImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new DefaultProductImportService(jobRepository, errorRepository, importer, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productImportService.destroy();
+    }
+
+    @Test
+    @DisplayName("일괄 등록 작업 접수")
+    void testStartImport() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                                                       "categoryCode,name\n".getBytes(StandardCharsets.UTF_8));
+        given(jobRepository.save(any(ProductImportJob.class))).willAnswer(invocation -> {
+            ProductImportJob job = invocation.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", 1L);
+            return job;
+        });
+
+        ProductImportResponse response = productImportService.startImport(file, null);
+
+        assertThat(response.getJobId()).isEqualTo(1L);
+        assertThat(response.getFormat()).isEqualTo("CSV");
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        then(importer).should(timeout(1000)).importProducts(any(ProductImportJob.class), any(Path.class), isNull());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식의 파일은 접수하지 않음")
+    void testStartImportWithUnsupportedFormat() {
+        MockMultipartFile file = new MockMultipartFile("file", "products.xlsx", "application/octet-stream",
+                                                       new byte[] { 1 });
+
+        assertThatThrownBy(() -> productImportService.startImport(file, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        then(jobRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("일괄 등록 작업 진행 상황 조회")
+    void testRetrieveImport() {
+        ProductImportJob job = ProductImportJob.start("products.csv", ProductImportJob.Format.CSV, 100L);
+        ReflectionTestUtils.setField(job, "id", 1L);
+        job.progress(50L, 3L, 1L);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(errorRepository.findAllByJobIdOrderByRowNumberAsc(eq(1L), any()))
+            .willReturn(List.of(ProductImportError.of(1L, 2L, "없는 카테고리입니다: 999")));
+
+        ProductImportResponse response = productImportService.retrieveImport(1L);
+
+        assertThat(response.getProcessedCount()).isEqualTo(4L);
+        assertThat(response.getImportedCount()).isEqualTo(3L);
+        assertThat(response.getProgress()).isEqualTo(50.0);
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(response.getErrors().get(0).getRowNumber()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("없는 일괄 등록 작업 조회")
+    void testRetrieveImportNotFound() {
+        given(jobRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productImportService.retrieveImport(1L))
+            .isInstanceOf(ProductImportJobNotFoundException.class);
+    }
+
+}
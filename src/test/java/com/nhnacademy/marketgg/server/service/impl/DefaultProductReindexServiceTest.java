@@ -0,0 +1,96 @@
+package com.nhnacademy.marketgg.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import com.nhnacademy.marketgg.server.dto.response.ProductReindexResponse;
+import com.nhnacademy.marketgg.server.elastic.reindex.ProductReindexer;
+import com.nhnacademy.marketgg.server.entity.ProductReindexJob;
+import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import com.nhnacademy.marketgg.server.repository.productreindexjob.ProductReindexJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DefaultProductReindexServiceTest {
+
+    DefaultProductReindexService productReindexService;
+    ProductReindexJobRepository jobRepository;
+    ProductRepository productRepository;
+    ProductReindexer reindexer;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(ProductReindexJobRepository.class);
+        productRepository = mock(ProductRepository.class);
+        reindexer = mock(ProductReindexer.class);
+        productReindexService = new DefaultProductReindexService(jobRepository, productRepository, reindexer,
+                                                                 Duration.ofMinutes(2L));
+
+        given(jobRepository.save(any(ProductReindexJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productReindexService.destroy();
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 작업이 없으면 새 버전의 색인으로 재구축 시작")
+    void testReindexNewJob() {
+        given(jobRepository.findFirstByStatusNotOrderByIdDesc(ProductReindexJob.Status.COMPLETED))
+            .willReturn(Optional.empty());
+        given(reindexer.alias()).willReturn("products");
+        given(productRepository.countByDeletedAtIsNull()).willReturn(10L);
+
+        ProductReindexResponse response = productReindexService.reindex();
+
+        assertThat(response.getIndexName()).startsWith("products_v");
+        assertThat(response.getTotalCount()).isEqualTo(10L);
+        assertThat(response.getCheckpoint()).isZero();
+        then(reindexer).should(timeout(1000L)).reindex(any(ProductReindexJob.class));
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 체크포인트부터 이어서 진행")
+    void testReindexResumesFailedJob() {
+        ProductReindexJob job = ProductReindexJob.start("products_v1", 10L);
+        job.checkpoint(5L, 5L);
+        job.fail("bulk");
+        given(jobRepository.findFirstByStatusNotOrderByIdDesc(ProductReindexJob.Status.COMPLETED))
+            .willReturn(Optional.of(job));
+
+        ProductReindexResponse response = productReindexService.reindex();
+
+        assertThat(response.getIndexName()).isEqualTo("products_v1");
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        assertThat(response.getCheckpoint()).isEqualTo(5L);
+        then(reindexer).should(timeout(1000L)).reindex(job);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 진행 중인 작업은 다시 시작하지 않음")
+    void testReindexRunningElsewhere() {
+        ProductReindexJob job = ProductReindexJob.start("products_v1", 10L);
+        ReflectionTestUtils.setField(job, "checkpointedAt", LocalDateTime.now());
+        given(jobRepository.findFirstByStatusNotOrderByIdDesc(ProductReindexJob.Status.COMPLETED))
+            .willReturn(Optional.of(job));
+
+        productReindexService.reindex();
+
+        then(reindexer).should(after(200L).never()).reindex(any());
+        then(jobRepository).should(never()).save(any());
+    }
+
+}
@@ -8,44 +8,71 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.nhnacademy.marketgg.server.cache.ProductDetailCache;
+import com.nhnacademy.marketgg.server.cache.ProductSearchCache;
 import com.nhnacademy.marketgg.server.dto.request.CategorizationCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.CategoryCreateRequest;
+import com.nhnacademy.marketgg.server.dto.request.EsProductSearchRequest;
 import com.nhnacademy.marketgg.server.dto.request.LabelCreateRequest;
+import com.nhnacademy.marketgg.server.dto.request.ProductBrowseRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ProductUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CategoryRetrieveResponse;
+import com.nhnacademy.marketgg.server.dto.response.FacetCount;
+import com.nhnacademy.marketgg.server.dto.response.ProductDetailResponse;
 import com.nhnacademy.marketgg.server.dto.response.ProductResponse;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchFacets;
+import com.nhnacademy.marketgg.server.dto.response.ProductSearchResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.elastic.ProductSearchFacetParser;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
 import com.nhnacademy.marketgg.server.elastic.document.ElasticProduct;
 import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.elastic.suggest.ProductNameIndex;
 import com.nhnacademy.marketgg.server.entity.Asset;
 import com.nhnacademy.marketgg.server.entity.Categorization;
 import com.nhnacademy.marketgg.server.entity.Category;
 import com.nhnacademy.marketgg.server.entity.Image;
 import com.nhnacademy.marketgg.server.entity.Label;
 import com.nhnacademy.marketgg.server.entity.Product;
+import com.nhnacademy.marketgg.server.entity.ProductIndexOutbox;
+import com.nhnacademy.marketgg.server.exception.product.ProductNotFoundException;
+import com.nhnacademy.marketgg.server.popularity.ProductPopularityCounter;
 import com.nhnacademy.marketgg.server.repository.asset.AssetRepository;
 import com.nhnacademy.marketgg.server.repository.category.CategoryRepository;
 import com.nhnacademy.marketgg.server.repository.image.ImageRepository;
 import com.nhnacademy.marketgg.server.repository.label.LabelRepository;
 import com.nhnacademy.marketgg.server.repository.product.ProductRepository;
+import com.nhnacademy.marketgg.server.repository.productindexoutbox.ProductIndexOutboxRepository;
+import com.nhnacademy.marketgg.server.repository.support.CountMode;
+import com.nhnacademy.marketgg.server.repository.support.CountingPageRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.histogram.Histogram;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -54,6 +81,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
@@ -75,6 +106,17 @@ class DefaultProductServiceTest {
     private LabelRepository labelRepository;
     @Mock
     private ElasticProductRepository elasticProductRepository;
+    @Mock
+    private ProductIndexOutboxRepository productIndexOutboxRepository;
+    @Mock
+    private ProductNameIndex productNameIndex;
+    @Mock
+    private ProductDetailCache productDetailCache;
+    @Mock
+    private ProductPopularityCounter popularityCounter;
+    @Spy
+    private ProductSearchCache productSearchCache =
+        new ProductSearchCache(100L, Duration.ofSeconds(30L), List.of(), new SimpleMeterRegistry());
 
     @Spy
     CategoryRepository categoryRepository;
@@ -94,7 +136,7 @@ class DefaultProductServiceTest {
         productResponse =
                 new ProductResponse(null, null, null, null, null, null, null, null, null, null,
                                     null, null, null,
-                                    null, null, null, null, null, null, null, null);
+                                    null, null, null, null, null, null);
 
         productRequest = new ProductCreateRequest();
         ReflectionTestUtils.setField(productRequest, "categoryCode", "001");
@@ -157,7 +199,8 @@ class DefaultProductServiceTest {
         verify(categoryRepository, atLeastOnce()).findById(any());
         verify(imageRepository, atLeastOnce()).save(any());
         verify(assetRepository, atLeastOnce()).save(any());
-        then(elasticProductRepository).should().save(any(ElasticProduct.class));
+        then(productIndexOutboxRepository).should().save(any(ProductIndexOutbox.class));
+        then(productNameIndex).should().put(any(), any());
     }
 
     @Test
@@ -193,13 +236,43 @@ class DefaultProductServiceTest {
     @Test
     @DisplayName("상품 상세 조회 테스트")
     void testRetrieveProductDetails() {
-        given(productRepository.queryById(anyLong())).willReturn(productResponse);
+        given(productDetailCache.get(anyLong())).willReturn(productResponse);
 
         SingleResponse<ProductResponse> productResponse =
                 productService.retrieveProductDetails(anyLong());
 
         assertThat(productResponse).isNotNull();
-        verify(productRepository, atLeastOnce()).queryById(anyLong());
+        verify(productDetailCache, atLeastOnce()).get(anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 상세 조회는 조회 수를 세지 않음")
+    void testRetrieveMissingProductDetailsNotCounted() {
+        given(productDetailCache.get(1L)).willReturn(null);
+
+        assertThat(productService.retrieveProductDetails(1L).getData()).isNull();
+        then(popularityCounter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("상품 상세 정보 확장 조회 테스트")
+    void testRetrieveExpandedProductDetails() {
+        ProductDetailResponse details =
+            new ProductDetailResponse(productResponse, "100", "상품", List.of("image.png"), List.of("신상품"));
+        given(productRepository.queryDetailsById(1L)).willReturn(details);
+
+        assertThat(productService.retrieveExpandedProductDetails(1L).getData()).isSameAs(details);
+        then(popularityCounter).should().recordView(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 상세 정보 확장 조회 실패 테스트")
+    void testRetrieveExpandedProductDetailsFail() {
+        given(productRepository.queryDetailsById(1L)).willReturn(null);
+
+        assertThatThrownBy(() -> productService.retrieveExpandedProductDetails(1L))
+            .isInstanceOf(ProductNotFoundException.class);
+        then(popularityCounter).shouldHaveNoInteractions();
     }
 
     @Test
@@ -222,8 +295,6 @@ class DefaultProductServiceTest {
         ReflectionTestUtils.setField(productUpdateRequest, "categoryCode", "001");
 
         given(assetRepository.save(any(Asset.class))).willReturn(asset);
-        given(labelRepository.findById(anyLong())).willReturn(Optional.of(label));
-        given(imageRepository.findByAssetIdAndImageSequence(anyLong(), anyInt())).willReturn(Optional.of(new Image(asset, "test")));
         given(categoryRepository.findById(any())).willReturn(Optional.ofNullable(category));
         given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
 
@@ -233,7 +304,45 @@ class DefaultProductServiceTest {
         then(categoryRepository).should().findById(any());
         then(imageRepository).should().save(any());
         then(assetRepository).should().save(any());
-        then(elasticProductRepository).should().save(any(ElasticProduct.class));
+        then(productIndexOutboxRepository).should().save(any(ProductIndexOutbox.class));
+        then(productNameIndex).should().put(any(), any());
+        then(productDetailCache).should().evict(any());
+        then(elasticProductRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("가격과 재고만 바뀌면 두 필드만 부분 갱신하도록 기록")
+    void testUpdateProductRecordsChangedFields() throws IOException {
+        Product product = new Product(productRequest, asset, category);
+        ReflectionTestUtils.setField(product, "id", 1L);
+
+        given(assetRepository.save(any(Asset.class))).willReturn(asset);
+        given(categoryRepository.findById(any())).willReturn(Optional.ofNullable(category));
+        given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
+
+        productService.updateProduct(updateRequest(1500L, 90L), imageFile(), 1L);
+
+        ArgumentCaptor<ProductIndexOutbox> outbox = ArgumentCaptor.forClass(ProductIndexOutbox.class);
+        then(productIndexOutboxRepository).should().save(outbox.capture());
+        assertThat(outbox.getValue().getOperation()).isEqualTo(ProductIndexOutbox.Operation.UPDATE);
+        assertThat(outbox.getValue().getFieldNames()).containsExactly("price", "amount");
+    }
+
+    @Test
+    @DisplayName("색인 필드가 바뀌지 않으면 색인 변경을 기록하지 않음")
+    void testUpdateProductWithoutIndexedChanges() throws IOException {
+        Product product = new Product(productRequest, asset, category);
+        ReflectionTestUtils.setField(product, "id", 1L);
+
+        given(assetRepository.save(any(Asset.class))).willReturn(asset);
+        given(categoryRepository.findById(any())).willReturn(Optional.ofNullable(category));
+        given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
+
+        productService.updateProduct(updateRequest(2000L, 100L), imageFile(), 1L);
+
+        then(productRepository).should().save(product);
+        then(productIndexOutboxRepository).shouldHaveNoInteractions();
+        then(productDetailCache).should().evict(1L);
     }
 
     @Test
@@ -252,12 +361,14 @@ class DefaultProductServiceTest {
     void testDeleteProductSuccess() {
         when(productRepository.findById(anyLong())).thenReturn(
                 Optional.of(new Product(productRequest, asset, category)));
-        willDoNothing().given(elasticProductRepository).deleteById(anyLong());
 
         productService.deleteProduct(anyLong());
 
         verify(productRepository, times(1)).save(any(Product.class));
-        then(elasticProductRepository).should().deleteById(anyLong());
+        then(productIndexOutboxRepository).should().save(any(ProductIndexOutbox.class));
+        then(productNameIndex).should().remove(any());
+        then(productDetailCache).should().evict(any());
+        then(elasticProductRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -280,4 +391,148 @@ class DefaultProductServiceTest {
         then(elasticProductRepository).should().findAllByCategoryCode(any(PageRequest.class), anyString());
     }
 
+    @Test
+    @DisplayName("검색 엔진 장애 시 카테고리 상품 목록을 DB 에서 조회")
+    void testSearchProductsByCategoryFallsBackToDatabase() {
+        ProductResponse live = new ProductResponse(1L, 1L, "101", "채소", "자몽", "아침에 자몽 쥬스", 100L, 2000L,
+                                                   "자몽주스 설명", null, null, null, null, null, null, null,
+                                                   null, null, null);
+        given(elasticProductRepository.findAllByCategoryCode(any(PageRequest.class), anyString()))
+                .willThrow(new IllegalStateException("connection refused"));
+        given(productRepository.findLiveProductsByCategories(List.of("101"), ProductBrowseRequest.Sort.LATEST,
+                                                             CountingPageRequest.of(0, 20, CountMode.NONE)))
+                .willReturn(new PageImpl<>(List.of(live)));
+
+        List<ElasticProduct> products = productService.searchProductByCategory(PageRequest.of(0, 20), "101");
+
+        assertThat(products).singleElement().satisfies(product -> {
+            assertThat(product.getId()).isEqualTo(1L);
+            assertThat(product.getProductName()).isEqualTo("자몽");
+            assertThat(product.getAmount()).isEqualTo(100L);
+        });
+    }
+
+    @Test
+    @DisplayName("카테고리 분류로 상품 목록을 조회하면 하위 카테고리를 모두 조회")
+    void testBrowseProductsByCategorization() {
+        ProductBrowseRequest browseRequest = new ProductBrowseRequest();
+        browseRequest.setCategorizationCode("100");
+        browseRequest.setSort(ProductBrowseRequest.Sort.PRICE_ASC);
+        willReturn(List.of(new CategoryRetrieveResponse("101", "상품", "채소", 1),
+                           new CategoryRetrieveResponse("102", "상품", "과일", 2)))
+                .given(categoryRepository).findByCategorizationCode("100");
+        given(productRepository.findLiveProductsByCategories(List.of("101", "102"),
+                                                             ProductBrowseRequest.Sort.PRICE_ASC,
+                                                             PageRequest.of(0, 20)))
+                .willReturn(new PageImpl<>(List.of(productResponse)));
+
+        SingleResponse<Page<ProductResponse>> response = productService.browseProducts(browseRequest);
+
+        assertThat(response.getData().getContent()).containsExactly(productResponse);
+    }
+
+    @Test
+    @DisplayName("카테고리 코드가 있으면 해당 카테고리만 조회")
+    void testBrowseProductsByCategory() {
+        ProductBrowseRequest browseRequest = new ProductBrowseRequest();
+        browseRequest.setCategorizationCode("100");
+        browseRequest.setCategoryCode("101");
+        given(productRepository.findLiveProductsByCategories(any(), any(), any())).willReturn(Page.empty());
+
+        productService.browseProducts(browseRequest);
+
+        then(productRepository).should()
+                               .findLiveProductsByCategories(List.of("101"), ProductBrowseRequest.Sort.LATEST,
+                                                             PageRequest.of(0, 20));
+        then(categoryRepository).should(times(0)).findByCategorizationCode(anyString());
+    }
+
+    @Test
+    @DisplayName("카테고리 분류 코드와 카테고리 코드가 모두 없으면 조회 실패")
+    void testBrowseProductsWithoutCategory() {
+        ProductBrowseRequest browseRequest = new ProductBrowseRequest();
+
+        assertThatThrownBy(() -> productService.browseProducts(browseRequest))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 결과가 페이지 크기만큼 있으면 다음 페이지 커서 반환")
+    void testSearchProducts() {
+        EsProductSearchRequest searchRequest = new EsProductSearchRequest();
+        searchRequest.setKeyword("자몽");
+        searchRequest.setSize(1);
+
+        SearchHit<ElasticProduct> hit =
+                new SearchHit<>("products", "1", null, 1.5f, new Object[] { 1.5f, 1L },
+                                Map.of("productName", List.of("<em>자몽</em>")), elasticProduct);
+        given(elasticProductRepository.search(searchRequest))
+                .willReturn(new SearchHitsImpl<>(3L, TotalHitsRelation.EQUAL_TO, 1.5f, null, List.of(hit), null, null));
+
+        ProductSearchResponse response = productService.searchProducts(searchRequest).getData();
+
+        assertThat(response.getTotalHits()).isEqualTo(3L);
+        assertThat(response.getProducts()).hasSize(1);
+        assertThat(response.getProducts().get(0).getHighlights()).containsKey("productName");
+        assertThat(SearchAfterCursor.decode(response.getCursor())).containsExactly(1.5, 1);
+        assertThat(response.getFacets()).isNull();
+    }
+
+    @Test
+    @DisplayName("첫 페이지 검색 시 카테고리, 라벨, 가격 구간별 상품 수 반환")
+    void testSearchProductsWithFacets() {
+        EsProductSearchRequest searchRequest = new EsProductSearchRequest();
+        searchRequest.setCategoryCode("101");
+
+        Terms.Bucket category = mock(Terms.Bucket.class);
+        given(category.getKeyAsString()).willReturn("101");
+        given(category.getDocCount()).willReturn(2L);
+        Terms categories = mock(Terms.class);
+        given(categories.getName()).willReturn(ProductSearchFacetParser.CATEGORIES);
+        willReturn(List.of(category)).given(categories).getBuckets();
+
+        Terms labels = mock(Terms.class);
+        given(labels.getName()).willReturn(ProductSearchFacetParser.LABELS);
+        willReturn(List.of()).given(labels).getBuckets();
+
+        Histogram.Bucket price = mock(Histogram.Bucket.class);
+        given(price.getKey()).willReturn(5000.0);
+        given(price.getDocCount()).willReturn(2L);
+        Histogram prices = mock(Histogram.class);
+        given(prices.getName()).willReturn(ProductSearchFacetParser.PRICES);
+        willReturn(List.of(price)).given(prices).getBuckets();
+
+        ElasticsearchAggregations aggregations =
+                new ElasticsearchAggregations(new Aggregations(List.of(categories, labels, prices)));
+        given(elasticProductRepository.search(searchRequest))
+                .willReturn(new SearchHitsImpl<>(2L, TotalHitsRelation.EQUAL_TO, 1.0f, null, List.of(),
+                                                 aggregations, null));
+
+        ProductSearchFacets facets = productService.searchProducts(searchRequest).getData().getFacets();
+
+        assertThat(facets.getCategories()).extracting(FacetCount::getValue).containsExactly("101");
+        assertThat(facets.getCategories()).extracting(FacetCount::getCount).containsExactly(2L);
+        assertThat(facets.getLabels()).isEmpty();
+        assertThat(facets.getPrices()).extracting(FacetCount::getValue).containsExactly("5000");
+    }
+
+    private static ProductUpdateRequest updateRequest(final Long price, final Long totalStock) {
+        ProductUpdateRequest request = new ProductUpdateRequest();
+        ReflectionTestUtils.setField(request, "categoryCode", "001");
+        ReflectionTestUtils.setField(request, "name", "자몽");
+        ReflectionTestUtils.setField(request, "content", "아침에 자몽 쥬스");
+        ReflectionTestUtils.setField(request, "totalStock", totalStock);
+        ReflectionTestUtils.setField(request, "price", price);
+        ReflectionTestUtils.setField(request, "description", "자몽주스 설명");
+
+        return request;
+    }
+
+    private MockMultipartFile imageFile() throws IOException {
+        URL url = getClass().getClassLoader().getResource("lee.png");
+
+        return new MockMultipartFile("image", "test.png", "image/png",
+                                     new FileInputStream(Objects.requireNonNull(url).getPath()));
+    }
+
 }
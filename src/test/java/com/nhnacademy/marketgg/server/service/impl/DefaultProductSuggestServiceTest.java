@@ -0,0 +1,71 @@
+package com.nhnacademy.marketgg.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.server.dto.request.ProductSuggestRequest;
+import com.nhnacademy.marketgg.server.dto.response.ProductSuggestion;
+import com.nhnacademy.marketgg.server.elastic.repository.ElasticProductRepository;
+import com.nhnacademy.marketgg.server.elastic.suggest.ProductNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+
+class DefaultProductSuggestServiceTest {
+
+    DefaultProductSuggestService suggestService;
+    ElasticProductRepository elasticProductRepository;
+    ProductNameIndex productNameIndex;
+    SimpleMeterRegistry meterRegistry;
+    ProductSuggestRequest suggestRequest;
+
+    @BeforeEach
+    void setUp() {
+        elasticProductRepository = mock(ElasticProductRepository.class);
+        productNameIndex = mock(ProductNameIndex.class);
+        meterRegistry = new SimpleMeterRegistry();
+        suggestService = new DefaultProductSuggestService(
+            elasticProductRepository, productNameIndex, Duration.ofSeconds(5L),
+            Clock.fixed(Instant.EPOCH.plusSeconds(60L), ZoneOffset.UTC), meterRegistry);
+
+        suggestRequest = new ProductSuggestRequest();
+        suggestRequest.setPrefix(" 자몽 ");
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 로 자동완성")
+    void testSuggestProducts() {
+        given(elasticProductRepository.suggest("자몽", 10))
+            .willReturn(List.of(new ProductSuggestion(1L, "자몽청")));
+
+        List<ProductSuggestion> suggestions = suggestService.suggestProducts(suggestRequest).getData();
+
+        assertThat(suggestions).extracting(ProductSuggestion::getId).containsExactly(1L);
+        then(productNameIndex).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 실패 시 메모리 색인으로 자동완성하고 잠시 Elasticsearch 를 호출하지 않음")
+    void testSuggestProductsFallback() {
+        given(elasticProductRepository.suggest("자몽", 10)).willThrow(new NoSuchIndexException("products"));
+        given(productNameIndex.suggest("자몽", 10)).willReturn(List.of(new ProductSuggestion(2L, "제주 자몽")));
+
+        suggestService.suggestProducts(suggestRequest);
+        List<ProductSuggestion> suggestions = suggestService.suggestProducts(suggestRequest).getData();
+
+        assertThat(suggestions).extracting(ProductSuggestion::getId).containsExactly(2L);
+        then(elasticProductRepository).should(times(1)).suggest("자몽", 10);
+        assertThat(meterRegistry.counter("gg.product-suggest.fallbacks").count()).isEqualTo(2.0);
+    }
+
+}
@@ -8,11 +8,14 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.server.dto.request.CursorPageRequest;
 import com.nhnacademy.marketgg.server.dto.request.MemberCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewCreateRequest;
 import com.nhnacademy.marketgg.server.dto.request.ReviewUpdateRequest;
+import com.nhnacademy.marketgg.server.dto.response.CursorPage;
 import com.nhnacademy.marketgg.server.dto.response.ReviewResponse;
 import com.nhnacademy.marketgg.server.dto.response.common.SingleResponse;
+import com.nhnacademy.marketgg.server.elastic.SearchAfterCursor;
 import com.nhnacademy.marketgg.server.entity.Asset;
 import com.nhnacademy.marketgg.server.entity.Member;
 import com.nhnacademy.marketgg.server.entity.Review;
@@ -136,6 +139,18 @@ class DefaultReviewServiceTest {
         then(reviewRepository).should().retrieveReviews(page.getPageable());
     }
 
+    @Test
+    @DisplayName("후기 커서 기반 조회 테스트")
+    void testRetrieveReviewsByCursor() {
+        CursorPage<ReviewResponse> page = new CursorPage<>(List.of(reviewResponse), null);
+        given(reviewRepository.retrieveReviewsAfter(7L, 10)).willReturn(page);
+
+        SingleResponse<CursorPage<ReviewResponse>> reviewResponses =
+            reviewService.retrieveReviewsByCursor(new CursorPageRequest(SearchAfterCursor.encode(List.of(7L)), 10));
+
+        assertThat(reviewResponses.getData()).isSameAs(page);
+    }
+
     @Test
     @DisplayName("후기 상세 조회 테스트")
     void testRetrieveReviewDetails() {